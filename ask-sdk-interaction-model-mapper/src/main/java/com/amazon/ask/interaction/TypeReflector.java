@@ -22,6 +22,7 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,39 +31,163 @@ import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 
 /**
  * Caches a type's reflection information and exposes a dynamic interface to its properties.
+ *
+ * Reflectors are immutable; {@link #of(JavaType)} shares one per type across the process.
  */
 public class TypeReflector<T> {
+    /**
+     * Reflectors of each parameterization of a class, held by the class so that they are unloaded with it. Only
+     * parameterizations whose classes all outlive the raw class are held, see {@link #isCacheable(JavaType)}.
+     */
+    private static final ClassValue<Map<JavaType, TypeReflector<?>>> REFLECTORS = new ClassValue<Map<JavaType, TypeReflector<?>>>() {
+        @Override
+        protected Map<JavaType, TypeReflector<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final JavaType javaType;
     private final Map<String, PropertyDescriptor> propertyDescriptorIndex;
-    private final List<PropertyDescriptor> propertyDescriptors = new ArrayList<>();
+    private final List<PropertyDescriptor> propertyDescriptors;
     private final Map<String, BiConsumer<T, Object>> setters = new HashMap<>();
     private final Map<String, Function<T, Object>> getters = new HashMap<>();
+    private final Map<String, Map<Class<? extends Annotation>, Annotation>> annotationIndex;
 
     public TypeReflector(Class<T> clazz) {
-        this(TypeFactory.defaultInstance().constructSimpleType(clazz, new JavaType[]{}));
+        this(simpleType(clazz));
     }
 
     public TypeReflector(JavaType javaType) {
         this.javaType = assertNotNull(javaType, "javaType");
+        // properties of interfaces are read-only, their values are supplied by a proxy
+        boolean readOnly = javaType.getRawClass().isInterface();
+        List<PropertyDescriptor> properties = new ArrayList<>();
         try {
             PropertyDescriptor[] propertyDescriptors = Introspector.getBeanInfo(javaType.getRawClass()).getPropertyDescriptors();
             for (PropertyDescriptor descriptor : propertyDescriptors) {
-                if (descriptor.getReadMethod() == null || descriptor.getWriteMethod() == null) {
+                if (descriptor.getReadMethod() == null || (descriptor.getWriteMethod() == null && !readOnly)) {
                     continue; // TODO: Warn? Error?
                 }
 
-                this.propertyDescriptors.add(descriptor);
-                this.setters.put(descriptor.getName(), makeSetter(descriptor));
+                properties.add(descriptor);
+                if (descriptor.getWriteMethod() != null) {
+                    this.setters.put(descriptor.getName(), makeSetter(descriptor));
+                }
                 this.getters.put(descriptor.getName(), makeGetter(descriptor));
             }
         } catch (IntrospectionException ex) {
             throw new IllegalArgumentException("Could not introspect bean: " + javaType.getTypeName(), ex);
         }
 
-        this.propertyDescriptorIndex = propertyDescriptors.stream().collect(Collectors.toMap(
+        this.propertyDescriptors = Collections.unmodifiableList(properties);
+        this.propertyDescriptorIndex = Collections.unmodifiableMap(properties.stream().collect(Collectors.toMap(
             PropertyDescriptor::getName,
             p -> p
-        ));
+        )));
+        this.annotationIndex = indexAnnotations(readOnly);
+    }
+
+    /**
+     * Indexes the annotations of each property's field, getter and setter, in that order of precedence.
+     *
+     * Properties of a class without a backing field are not indexed, so looking up their annotations fails.
+     */
+    private Map<String, Map<Class<? extends Annotation>, Annotation>> indexAnnotations(boolean isInterface) {
+        Map<String, Field> fields = new HashMap<>();
+        if (!isInterface) {
+            for (Class<?> clazz = getTypeClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    fields.putIfAbsent(field.getName(), field); // fields of subclasses hide those of superclasses
+                }
+            }
+        }
+
+        Map<String, Map<Class<? extends Annotation>, Annotation>> index = new HashMap<>();
+        for (PropertyDescriptor descriptor : propertyDescriptors) {
+            Field field = fields.get(descriptor.getName());
+            if (field == null && !isInterface) {
+                continue;
+            }
+
+            Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<>();
+            if (descriptor.getWriteMethod() != null) {
+                putAnnotations(annotations, descriptor.getWriteMethod());
+            }
+            putAnnotations(annotations, descriptor.getReadMethod());
+            if (field != null) {
+                putAnnotations(annotations, field);
+            }
+            index.put(descriptor.getName(), annotations.isEmpty() ? Collections.emptyMap() : annotations);
+        }
+        return index;
+    }
+
+    private static void putAnnotations(Map<Class<? extends Annotation>, Annotation> annotations, AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            annotations.put(annotation.annotationType(), annotation);
+        }
+    }
+
+    /**
+     * Returns the shared reflector of a class, introspecting it on first use.
+     *
+     * @param clazz class to reflect
+     * @param <T> type of class
+     * @return shared reflector
+     */
+    public static <T> TypeReflector<T> of(Class<T> clazz) {
+        return of(simpleType(clazz));
+    }
+
+    /**
+     * Returns the shared reflector of a type, introspecting it on first use. A type parameterized with a class of a
+     * class loader that may be unloaded before the raw class's is introspected on every call instead.
+     *
+     * @param javaType type to reflect, possibly parameterized
+     * @param <T> type of class
+     * @return shared reflector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeReflector<T> of(JavaType javaType) {
+        assertNotNull(javaType, "javaType");
+        if (!isCacheable(javaType)) {
+            return new TypeReflector<>(javaType);
+        }
+        return (TypeReflector<T>) REFLECTORS.get(javaType.getRawClass()).computeIfAbsent(javaType, TypeReflector::new);
+    }
+
+    /**
+     * @return true if every class the type is parameterized with is loaded by the raw class's loader or one of its
+     * ancestors, so holding the type on the raw class does not keep another loader's classes from being unloaded
+     */
+    private static boolean isCacheable(JavaType javaType) {
+        return isCacheable(javaType, javaType.getRawClass().getClassLoader());
+    }
+
+    private static boolean isCacheable(JavaType javaType, ClassLoader loader) {
+        for (int i = 0; i < javaType.containedTypeCount(); i++) {
+            JavaType parameter = javaType.containedType(i);
+            if (!isVisible(parameter.getRawClass().getClassLoader(), loader) || !isCacheable(parameter, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(ClassLoader candidate, ClassLoader loader) {
+        if (candidate == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JavaType simpleType(Class<?> clazz) {
+        return TypeFactory.defaultInstance().constructSimpleType(clazz, new JavaType[]{});
     }
 
     @Override
@@ -142,6 +267,19 @@ public class TypeReflector<T> {
         return getter.apply(bean);
     }
 
+    /**
+     * @param name name of the property
+     * @return getter of the property, for callers reading it repeatedly
+     * @throws IllegalArgumentException if the property has no getter
+     */
+    public Function<T, Object> getter(String name) {
+        Function<T, Object> getter = getters.get(name);
+        if (getter == null) {
+            throw new IllegalArgumentException("No getter specified for property '" + name + "' on bean class '" + getTypeClass() + "'");
+        }
+        return getter;
+    }
+
     public void set(T bean, String name, Object value) {
         validate(bean, name);
         BiConsumer<T, Object> setter = setters.get(name);
@@ -167,35 +305,11 @@ public class TypeReflector<T> {
         return getAnnotation(propertyDescriptor.getName(), annotationClass);
     }
     public <A extends Annotation> A getAnnotation(String propertyName, Class<A> annotationClass) {
-        try {
-            PropertyDescriptor propertyDescriptor = propertyDescriptorIndex.get(propertyName);
-            if (propertyDescriptor == null) {
-                throw new NoSuchFieldException(propertyName + " property is missing");
-            }
-            Field field = findField(propertyDescriptor.getName());
-            A annotation = field.getAnnotation(annotationClass);
-            if (annotation == null) {
-                annotation = propertyDescriptor.getReadMethod().getAnnotation(annotationClass);
-            }
-            if (annotation == null) {
-                annotation = propertyDescriptor.getWriteMethod().getAnnotation(annotationClass);
-            }
-            return annotation;
-        } catch (NoSuchFieldException ex) {
-            throw new IllegalArgumentException(ex);
-        }
-    }
-
-    private Field findField(String propertyName) throws NoSuchFieldException {
-        Class clazz = getTypeClass();
-        while (clazz != Object.class) {
-            try {
-                return clazz.getDeclaredField(propertyName);
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            }
+        Map<Class<? extends Annotation>, Annotation> annotations = annotationIndex.get(propertyName);
+        if (annotations == null) {
+            throw new IllegalArgumentException(new NoSuchFieldException(propertyName + " property is missing"));
         }
-        throw new NoSuchFieldException(propertyName + " property is missing");
+        return annotationClass.cast(annotations.get(annotationClass));
     }
 
     /**
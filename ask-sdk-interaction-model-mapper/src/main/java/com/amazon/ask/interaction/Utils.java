@@ -85,7 +85,9 @@ public class Utils {
      * @return stream of all whole class hierarchy except {@link Object}.
      */
     public static Stream<Class<?>> getSuperclasses(Class<?> clazz) {
-        if (clazz == Object.class) {
+        if (clazz == null) {
+            return Stream.empty(); // interfaces have no superclass
+        } else if (clazz == Object.class) {
             return Stream.of(clazz);
         } else {
             return Stream.concat(Stream.of(clazz), getSuperclasses(clazz.getSuperclass()));
@@ -94,7 +96,7 @@ public class Utils {
 
     // Recurse through the class's hierarchy until we find the sought-after annotation
     public static <T extends Annotation> T findAnnotation(Class<?> clazz, Class<T> annotationClass) {
-        while(clazz != Object.class) {
+        while(clazz != null && clazz != Object.class) {
             T annotation = clazz.getAnnotation(annotationClass);
             if(annotation != null) {
                 return annotation;
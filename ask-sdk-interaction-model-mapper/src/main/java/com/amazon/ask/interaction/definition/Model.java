@@ -28,14 +28,17 @@ import com.amazon.ask.interaction.data.IntentDataResolver;
 import com.amazon.ask.interaction.data.IntentDataSource;
 import com.amazon.ask.interaction.data.SlotTypeDataResolver;
 import com.amazon.ask.interaction.data.SlotTypeDataSource;
+import com.amazon.ask.interaction.data.model.SlotTypeData;
 import com.amazon.ask.interaction.mapper.IntentMapper;
 import com.amazon.ask.interaction.renderer.ModelRenderer;
+import com.amazon.ask.interaction.renderer.RenderContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import java.beans.PropertyDescriptor;
 import java.util.*;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static com.amazon.ask.interaction.Utils.*;
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
@@ -99,6 +102,32 @@ public class Model {
         return slotTypeDataSources;
     }
 
+    /**
+     * Combines the data of a slot type from all resolvers and the data sources mapped to it.
+     *
+     * @param slotType slot type to resolve data for
+     * @param locale locale of the data
+     * @return combined data, or an empty instance
+     */
+    public SlotTypeData resolveSlotTypeData(SlotTypeDefinition slotType, Locale locale) {
+        RenderContext<SlotTypeDefinition> renderContext = RenderContext.slotType()
+            .withLocale(locale)
+            .withValue(slotType)
+            .build();
+
+        Stream<SlotTypeData> resolvedData = slotTypeDataResolvers.stream()
+            .flatMap(resolver -> resolver.apply(renderContext));
+
+        Stream<SlotTypeData> mappedData = Optional.ofNullable(slotTypeDataSources.get(slotType))
+            .map(Stream::of).orElse(Stream.empty())
+            .flatMap(Set::stream)
+            .map(mapper -> mapper.apply(renderContext));
+
+        return Stream.concat(resolvedData, mappedData)
+            .reduce(SlotTypeData::combine)
+            .orElse(SlotTypeData.empty());
+    }
+
     public static Model empty() {
         return EMPTY;
     }
@@ -284,7 +313,7 @@ public class Model {
 
         protected IntentDefinition getIntentDefinition(JavaType javaType) {
             Class intentClass = javaType.getRawClass();
-            TypeReflector<?> reflector = new TypeReflector<>(javaType);
+            TypeReflector<?> reflector = TypeReflector.of(javaType);
 
             Map<String, SlotTypeDefinition> slots = resolveSlots(reflector);
 
@@ -31,6 +31,10 @@ import com.amazon.ask.interaction.definition.Model;
 import com.amazon.ask.interaction.definition.SlotTypeDefinition;
 import com.amazon.ask.interaction.mapper.intent.*;
 import com.amazon.ask.interaction.mapper.slot.*;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzyMatches;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzySlotReader;
+import com.amazon.ask.interaction.types.slot.BaseSlotValue;
+import com.amazon.ask.interaction.types.slot.list.DayOfWeek;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.ClassKey;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -61,23 +65,96 @@ public class IntentMapper {
         DEFAULT_SLOT_PROPERTY_READERS.put(new ClassKey(SlotConfirmationStatus.class), new SlotConfirmationStatusReader());
     }
 
+    private static final Map<ClassKey, SlotPropertyWriter> DEFAULT_SLOT_PROPERTY_WRITERS = new HashMap<>();
+    static {
+        DEFAULT_SLOT_PROPERTY_WRITERS.put(new ClassKey(Slot.class), new RawSlotPropertyWriter());
+        DEFAULT_SLOT_PROPERTY_WRITERS.put(new ClassKey(DayOfWeek.class), new DayOfWeekWriter());
+    }
+
+    private static final SlotPropertyWriter BASE_SLOT_VALUE_WRITER = new BaseSlotValueWriter();
+
     private final Model model;
+    private final Set<Locale> locales;
 
     private final Map<JavaType, IntentReader<?>> intentReaderCache;
+    private final Map<Class<?>, IntentReader<?>> intentReadersByClass;
     private final Map<ClassKey, SlotPropertyReader> slotReaderCache;
+    private final Map<Class<?>, FuzzySlotReader> fuzzySlotReaderCache;
+    private final Map<Class<?>, IntentWriter<?>> intentWriterCache;
+    private final Map<ClassKey, SlotPropertyWriter> slotWriterCache;
 
     private final Map<ClassKey, IntentPropertyReader> intentPropertyReaders;
     private final Map<ClassKey, SlotPropertyReader> slotPropertyReaders;
+    private final Map<ClassKey, SlotPropertyWriter> slotPropertyWriters;
+
+    protected IntentMapper(Model model,
+                           Map<ClassKey, IntentPropertyReader> intentPropertyReaders,
+                           Map<ClassKey, SlotPropertyReader> slotPropertyReaders) {
+        this(model, Collections.emptySet(), intentPropertyReaders, slotPropertyReaders);
+    }
 
+    /**
+     * @param model model to map requests to
+     * @param locales locales whose slot type data is indexed, so enum slots resolve from their ids, values and synonyms
+     * @param intentPropertyReaders readers of intent properties by type
+     * @param slotPropertyReaders readers of slot properties by type
+     */
     protected IntentMapper(Model model,
+                           Set<Locale> locales,
                            Map<ClassKey, IntentPropertyReader> intentPropertyReaders,
                            Map<ClassKey, SlotPropertyReader> slotPropertyReaders) {
+        this(model, locales, intentPropertyReaders, slotPropertyReaders, DEFAULT_SLOT_PROPERTY_WRITERS);
+    }
+
+    /**
+     * @param model model to map requests to
+     * @param locales locales whose slot type data is indexed, so enum slots resolve from their ids, values and synonyms
+     * @param intentPropertyReaders readers of intent properties by type
+     * @param slotPropertyReaders readers of slot properties by type
+     * @param slotPropertyWriters writers of slot properties by type
+     */
+    protected IntentMapper(Model model,
+                           Set<Locale> locales,
+                           Map<ClassKey, IntentPropertyReader> intentPropertyReaders,
+                           Map<ClassKey, SlotPropertyReader> slotPropertyReaders,
+                           Map<ClassKey, SlotPropertyWriter> slotPropertyWriters) {
         this.model = assertNotNull(model, "model");
+        this.locales = Collections.unmodifiableSet(new LinkedHashSet<>(assertNotNull(locales, "locales")));
         this.intentPropertyReaders = Collections.unmodifiableMap(assertNotNull(intentPropertyReaders, "intentPropertyReaders"));
         this.slotPropertyReaders = Collections.unmodifiableMap(assertNotNull(slotPropertyReaders, "slotPropertyReaders"));
+        this.slotPropertyWriters = Collections.unmodifiableMap(assertNotNull(slotPropertyWriters, "slotPropertyWriters"));
 
         this.intentReaderCache = new ConcurrentHashMap<>();
+        this.intentReadersByClass = new ConcurrentHashMap<>();
         this.slotReaderCache = new ConcurrentHashMap<>();
+        this.fuzzySlotReaderCache = new ConcurrentHashMap<>();
+        this.intentWriterCache = new ConcurrentHashMap<>();
+        this.slotWriterCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Builds the readers of every intent and slot type in the model, so that invalid definitions fail when the
+     * mapper is built rather than when their first request is parsed. Called by {@link Builder#build()} once the
+     * mapper is fully constructed; readers of a mapper that is not compiled are built on first use.
+     *
+     * @return this
+     * @throws IllegalArgumentException if a reader could not be built
+     */
+    protected IntentMapper compileReaders() {
+        for (IntentDefinition intentDefinition : model.getIntentDefinitions().values()) {
+            JavaType intentType = intentDefinition.getIntentType();
+            IntentReader<?> reader = intentReaderFor(intentType);
+            if (intentType.containedTypeCount() == 0) {
+                intentReadersByClass.put(intentType.getRawClass(), reader);
+            }
+            for (SlotTypeDefinition slotTypeDefinition : intentDefinition.getSlots().values()) {
+                slotReaderFor(slotTypeDefinition.getSlotTypeClass());
+            }
+        }
+        for (SlotTypeDefinition slotTypeDefinition : model.getSlotTypes().values()) {
+            slotReaderFor(slotTypeDefinition.getSlotTypeClass());
+        }
+        return this;
     }
 
     /**
@@ -91,6 +168,39 @@ public class IntentMapper {
         return intentReaderFor(getIntentDefinition(intentRequest).getIntentType()).read(intentRequest);
     }
 
+    /**
+     * Parse an intent request into an instance of the class it was registered with in the {@link Model}, returning
+     * the failure rather than throwing it. Every slot value that can not be read is reported in the result.
+     *
+     * @param intentRequest intent request
+     * @return parsed intent instance, or the reasons it could not be parsed
+     */
+    @SuppressWarnings("unchecked")
+    public IntentParseResult<Object> tryParseIntent(IntentRequest intentRequest) {
+        IntentDefinition intentDefinition;
+        try {
+            intentDefinition = getIntentDefinition(intentRequest);
+        } catch (UnrecognizedIntentException ex) {
+            return IntentParseResult.failure(ex);
+        }
+        IntentReader<?> reader = intentReaderFor(intentDefinition.getIntentType());
+        // results are immutable, so a result of a subtype is a result of Object
+        return (IntentParseResult<Object>) reader.tryRead(intentRequest);
+    }
+
+    /**
+     * Parse the {@link IntentRequest} into a known type, returning the failure rather than throwing it.
+     *
+     * @param intentRequest intent request
+     * @param intentClass type of class to parse intent request into
+     * @param <T> type of intent
+     * @return instance, or the reasons it could not be parsed
+     * @see #parseIntent(IntentRequest, Class)
+     */
+    public <T> IntentParseResult<T> tryParseIntent(IntentRequest intentRequest, Class<T> intentClass) {
+        return intentReaderFor(intentClass).tryRead(intentRequest);
+    }
+
     /**
      * Parse a slot value into an instance of the class it was registered with in the {@link Model}
      *
@@ -107,6 +217,39 @@ public class IntentMapper {
         return parseIntentSlot(intentRequest, slotName, slotTypeDefinition.getSlotTypeClass());
     }
 
+    /**
+     * Parse a slot value into an instance of the class it was registered with in the {@link Model}, returning the
+     * failure rather than throwing it.
+     *
+     * @param intentRequest intent request
+     * @param slotName name of the slot
+     * @return parsed slot instance, or the reason it could not be parsed
+     */
+    public IntentParseResult<Object> tryParseIntentSlot(IntentRequest intentRequest, String slotName) {
+        IntentDefinition intentDefinition;
+        try {
+            intentDefinition = getIntentDefinition(intentRequest);
+        } catch (UnrecognizedIntentException ex) {
+            return IntentParseResult.failure(ex);
+        }
+        SlotTypeDefinition slotTypeDefinition = intentDefinition.getSlots().get(slotName);
+        if (slotTypeDefinition == null) {
+            return IntentParseResult.failure(new UnrecognizedSlotException(intentRequest, slotName));
+        }
+        try {
+            return IntentParseResult.success(parseIntentSlot(intentRequest, slotName, slotTypeDefinition.getSlotTypeClass()));
+        } catch (IntentParseException ex) {
+            return IntentParseResult.failure(ex);
+        }
+    }
+
+    /**
+     * Looks up the definition of a request's intent, which every parse method reads the intent or its slots with.
+     *
+     * @param intentRequest intent request
+     * @return definition of the request's intent
+     * @throws UnrecognizedIntentException if the model does not define the intent
+     */
     protected IntentDefinition getIntentDefinition(IntentRequest intentRequest) throws UnrecognizedIntentException {
         IntentDefinition intentDefinition = model.getIntentDefinitions().get(intentRequest.getIntent().getName());
         if (intentDefinition == null) {
@@ -166,12 +309,17 @@ public class IntentMapper {
     }
 
     public <T> IntentReader<T> intentReaderFor(Class<T> intentClass) {
-        return intentReaderFor(TypeFactory.defaultInstance().constructSimpleType(intentClass, new JavaType[]{}));
+        IntentReader<?> reader = intentReadersByClass.get(intentClass);
+        if (reader == null) {
+            reader = intentReadersByClass.computeIfAbsent(intentClass,
+                k -> intentReaderFor(TypeFactory.defaultInstance().constructSimpleType(intentClass, new JavaType[]{})));
+        }
+        return (IntentReader<T>) reader;
     }
 
     public <T> IntentReader<T> intentReaderFor(JavaType type) {
         return (IntentReader<T>) intentReaderCache.computeIfAbsent(type, k -> {
-            TypeReflector<T> reflector = new TypeReflector<>(type);
+            TypeReflector<T> reflector = TypeReflector.of(type);
 
             Map<String, IntentPropertyReader<?>> intentPropertyReaders = new HashMap<>();
             Set<String> slotNames = new HashSet<>(); // detect duplicate slot names
@@ -209,6 +357,11 @@ public class IntentMapper {
                         com.amazon.ask.interaction.annotation.data.SlotPropertyReader alexaSlotPropertyReader = reflector.getAnnotation(prop, com.amazon.ask.interaction.annotation.data.SlotPropertyReader.class);
                         if (alexaSlotPropertyReader != null) {
                             slotPropertyReader =  Utils.instantiate(alexaSlotPropertyReader.value());
+                        } else if (FuzzyMatches.class.isAssignableFrom(propertyType)) {
+                            if (slotProperty.type() == Object.class) {
+                                throw new IllegalArgumentException(String.format("Fuzzy slot property '%s' on intent %s must declare its slot type", prop.getName(), type.getRawClass().getName()));
+                            }
+                            slotPropertyReader = fuzzySlotReaderFor(slotProperty.type());
                         } else {
                             slotPropertyReader = slotReaderFor(propertyType);
                         }
@@ -223,7 +376,9 @@ public class IntentMapper {
                 intentPropertyReaders.put(prop.getName(), reader);
             }
 
-            return new ReflectiveIntentReader<T>(reflector, intentPropertyReaders);
+            return reflector.getTypeClass().isInterface()
+                ? new LazyIntentReader<T>(reflector, intentPropertyReaders)
+                : new ReflectiveIntentReader<T>(reflector, intentPropertyReaders);
         });
     }
 
@@ -234,26 +389,159 @@ public class IntentMapper {
                 return Utils.instantiate(slotPropertyReader.value());
             }
             if (slotClass.isEnum()) {
-                return new EnumCustomSlotReader(slotClass);
+                return new EnumCustomSlotReader(slotClass, indexEnumSlotValues((Class) slotClass));
             }
             ClassKey classKey = new ClassKey(slotClass);
             if (this.slotPropertyReaders.containsKey(classKey)) {
                 return this.slotPropertyReaders.get(classKey);
             }
 
-            TypeReflector<?> slotTypeReflector = new TypeReflector<>(slotClass);
-            Map<String, SlotPropertyReader> readers = new HashMap<>();
-            for (PropertyDescriptor slotProperty : slotTypeReflector.getPropertyDescriptors()) {
-                if (slotTypeReflector.getAnnotation(slotProperty, AlexaIgnore.class) != null) {
+            TypeReflector<?> slotTypeReflector = TypeReflector.of(slotClass);
+            return new ReflectiveSlotReader(slotTypeReflector, slotPropertyReadersOf(slotTypeReflector));
+        });
+    }
+
+    private Map<String, SlotPropertyReader> slotPropertyReadersOf(TypeReflector<?> slotTypeReflector) {
+        Map<String, SlotPropertyReader> readers = new HashMap<>();
+        for (PropertyDescriptor slotProperty : slotTypeReflector.getPropertyDescriptors()) {
+            if (slotTypeReflector.getAnnotation(slotProperty, AlexaIgnore.class) != null) {
+                continue;
+            }
+
+            readers.put(slotProperty.getName(), resolveSlotPropertyReader(slotTypeReflector, slotProperty));
+        }
+        return readers;
+    }
+
+    /**
+     * Returns a writer of instances of an intent class back into an {@link com.amazon.ask.model.Intent}, for example
+     * as the updated intent of a dialog directive. Writers are built once per class, from the same
+     * {@link SlotProperty} metadata as readers; an {@link IntentConfirmationStatus} property becomes the intent's
+     * confirmation status.
+     *
+     * @param intentClass intent class
+     * @param <T> type of intent
+     * @return intent writer
+     * @throws IllegalArgumentException if a slot property has no writer
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IntentWriter<T> intentWriterFor(Class<T> intentClass) {
+        return (IntentWriter<T>) intentWriterCache.computeIfAbsent(intentClass, k -> {
+            TypeReflector<T> reflector = TypeReflector.of(intentClass);
+
+            Map<String, IntentSlotPropertyWriter<?>> writers = new LinkedHashMap<>();
+            Set<String> slotNames = new HashSet<>(); // detect duplicate slot names
+            String confirmationStatusProperty = null;
+            for (PropertyDescriptor prop : reflector.getPropertyDescriptors()) {
+                if (reflector.getAnnotation(prop, AlexaIgnore.class) != null || prop.getReadMethod() == null) {
                     continue;
                 }
 
-                readers.put(slotProperty.getName(), resolveSlotPropertyReader(slotTypeReflector, slotProperty));
+                Class<?> propertyType = prop.getPropertyType() != Object.class
+                    ? prop.getPropertyType()
+                    : reflector.reifyPropertyType(prop);
+
+                SlotProperty slotProperty = reflector.getAnnotation(prop, SlotProperty.class);
+                if (slotProperty != null) {
+                    String slotName = slotProperty.name().isEmpty() ? prop.getName() : slotProperty.name();
+                    if (!slotNames.add(slotName)) {
+                        throw new IllegalArgumentException(String.format("Slot '%s' declared multiple times on intent %s", slotName, intentClass.getName()));
+                    }
+                    com.amazon.ask.interaction.annotation.data.SlotPropertyWriter alexaSlotPropertyWriter = reflector.getAnnotation(prop, com.amazon.ask.interaction.annotation.data.SlotPropertyWriter.class);
+                    SlotPropertyWriter slotPropertyWriter = alexaSlotPropertyWriter != null
+                        ? Utils.instantiate(alexaSlotPropertyWriter.value())
+                        : slotWriterFor(propertyType);
+                    writers.put(prop.getName(), new IntentSlotPropertyWriter<>(slotPropertyWriter, slotName));
+                } else if (propertyType == IntentConfirmationStatus.class) {
+                    confirmationStatusProperty = prop.getName();
+                }
+            }
+
+            return new ReflectiveIntentWriter<>(intentNameOf(intentClass), reflector, writers, confirmationStatusProperty);
+        });
+    }
+
+    /**
+     * Returns the writer of a slot class, the inverse of {@link #slotReaderFor(Class)}.
+     *
+     * @param slotClass class of the slot type
+     * @param <T> type of the slot
+     * @return slot writer
+     * @throws IllegalArgumentException if no writer is annotated or registered for the class
+     */
+    public <T> SlotPropertyWriter slotWriterFor(Class<T> slotClass) {
+        return this.slotWriterCache.computeIfAbsent(new ClassKey(slotClass), k -> {
+            com.amazon.ask.interaction.annotation.data.SlotPropertyWriter slotPropertyWriter = Utils.findAnnotation(slotClass, com.amazon.ask.interaction.annotation.data.SlotPropertyWriter.class);
+            if (slotPropertyWriter != null) {
+                return Utils.instantiate(slotPropertyWriter.value());
+            }
+            if (slotClass.isEnum()) {
+                return new EnumCustomSlotWriter(slotClass);
+            }
+            if (this.slotPropertyWriters.containsKey(k)) {
+                return this.slotPropertyWriters.get(k);
+            }
+            if (BaseSlotValue.class.isAssignableFrom(slotClass)) {
+                return BASE_SLOT_VALUE_WRITER;
+            }
+            if (Utils.findAnnotation(slotClass, com.amazon.ask.interaction.annotation.data.SlotPropertyReader.class) != null
+                    || this.slotPropertyReaders.containsKey(k)) {
+                throw new IllegalArgumentException(String.format("Could not resolve a %s for %s", SlotPropertyWriter.class.getName(), slotClass.getName()));
+            }
+            TypeReflector<?> slotTypeReflector = TypeReflector.of(slotClass);
+            return new ReflectiveSlotWriter(slotTypeReflector, slotPropertyReadersOf(slotTypeReflector));
+        });
+    }
+
+    /**
+     * Names an intent class as registered in the model, else as its {@link Intent} annotation or simple name.
+     */
+    private String intentNameOf(Class<?> intentClass) {
+        for (IntentDefinition intentDefinition : model.getIntentDefinitions().values()) {
+            if (intentDefinition.getIntentType().getRawClass() == intentClass) {
+                return intentDefinition.getName();
+            }
+        }
+        Intent intentAnnotation = Utils.findAnnotation(intentClass, Intent.class);
+        return intentAnnotation != null && !intentAnnotation.value().isEmpty() ? intentAnnotation.value() : intentClass.getSimpleName();
+    }
+
+    /**
+     * Returns a reader matching spoken values against the values and synonyms of a slot type in each locale, whose
+     * index is built once and shared by every property of that slot type.
+     *
+     * @param slotClass class of the slot type
+     * @return fuzzy slot reader
+     */
+    public FuzzySlotReader fuzzySlotReaderFor(Class<?> slotClass) {
+        return fuzzySlotReaderCache.computeIfAbsent(slotClass, k -> {
+            FuzzySlotReader.Builder builder = FuzzySlotReader.builder();
+            for (SlotTypeDefinition slotTypeDefinition : model.getSlotTypes().values()) {
+                if (slotTypeDefinition.getSlotTypeClass() == slotClass) {
+                    for (Locale locale : locales) {
+                        builder.addValues(locale, model.resolveSlotTypeData(slotTypeDefinition, locale));
+                    }
+                }
             }
-            return new ReflectiveSlotReader(slotTypeReflector, readers);
+            return builder.build();
         });
     }
 
+    /**
+     * Indexes the slot type data of every slot type of an enum class in each locale.
+     */
+    private <T extends Enum<T>> EnumSlotValueIndex<T> indexEnumSlotValues(Class<T> slotClass) {
+        EnumSlotValueIndex.Builder<T> builder = EnumSlotValueIndex.builder(slotClass);
+        for (SlotTypeDefinition slotTypeDefinition : model.getSlotTypes().values()) {
+            if (slotTypeDefinition.getSlotTypeClass() == slotClass) {
+                for (Locale locale : locales) {
+                    builder.addValues(locale, model.resolveSlotTypeData(slotTypeDefinition, locale));
+                }
+            }
+        }
+        return builder.build();
+    }
+
     protected SlotPropertyReader resolveSlotPropertyReader(TypeReflector<?> slotTypeReflector, PropertyDescriptor slotProperty) {
         Class<?> propertyType = slotProperty.getPropertyType();
         if (propertyType == Object.class) {
@@ -285,19 +573,25 @@ public class IntentMapper {
     public static Builder builder() {
         return new Builder()
             .addIntentPropertyReaders(DEFAULT_INTENT_PROPERTY_READERS)
-            .addSlotPropertyReaders(DEFAULT_SLOT_PROPERTY_READERS);
+            .addSlotPropertyReaders(DEFAULT_SLOT_PROPERTY_READERS)
+            .addSlotPropertyWriters(DEFAULT_SLOT_PROPERTY_WRITERS);
     }
 
     public static final class Builder {
         private Model model;
+        private Set<Locale> locales = new LinkedHashSet<>();
         private Map<ClassKey, IntentPropertyReader> intentPropertyReaders = new HashMap<>();
         private Map<ClassKey, SlotPropertyReader> slotPropertyReaders = new HashMap<>();
+        private Map<ClassKey, SlotPropertyWriter> slotPropertyWriters = new HashMap<>();
 
         private Builder() {
         }
 
         public Builder withSkillModel(SkillModel model) {
             this.model = model.getModel();
+            if (model.getInvocationNames() != null) {
+                addLocales(model.getInvocationNames().keySet());
+            }
             return this;
         }
 
@@ -306,6 +600,31 @@ public class IntentMapper {
             return this;
         }
 
+        public Builder withLocales(Collection<Locale> locales) {
+            this.locales = new LinkedHashSet<>(locales);
+            return this;
+        }
+
+        public Builder addLocales(Collection<Locale> locales) {
+            locales.forEach(this::addLocale);
+            return this;
+        }
+
+        /**
+         * Indexes the slot type data of a locale, so enum slots of its requests resolve from their ids, values and
+         * synonyms regardless of case.
+         *
+         * @param locale locale of requests
+         * @return this
+         */
+        public Builder addLocale(Locale locale) {
+            if (this.locales == null) {
+                this.locales = new LinkedHashSet<>();
+            }
+            this.locales.add(locale);
+            return this;
+        }
+
         public Builder withIntentPropertyReaders(Map<ClassKey, IntentPropertyReader> intentPropertyReaders) {
             this.intentPropertyReaders = intentPropertyReaders;
             return this;
@@ -350,8 +669,31 @@ public class IntentMapper {
             return this;
         }
 
+        public Builder withSlotPropertyWriters(Map<ClassKey, SlotPropertyWriter> slotPropertyWriters) {
+            this.slotPropertyWriters = slotPropertyWriters;
+            return this;
+        }
+
+        public Builder addSlotPropertyWriters(Map<ClassKey, SlotPropertyWriter> slotPropertyWriters) {
+            slotPropertyWriters.forEach(this::addSlotPropertyWriter);
+            return this;
+        }
+
+        public Builder addSlotPropertyWriter(Class<?> slotClass, SlotPropertyWriter slotPropertyWriter) {
+            return addSlotPropertyWriter(new ClassKey(slotClass), slotPropertyWriter);
+        }
+
+        public Builder addSlotPropertyWriter(ClassKey classKey, SlotPropertyWriter slotPropertyWriter) {
+            if (this.slotPropertyWriters == null) {
+                this.slotPropertyWriters = new HashMap<>();
+            }
+            this.slotPropertyWriters.put(classKey, slotPropertyWriter);
+            return this;
+        }
+
         public IntentMapper build() {
-            return new IntentMapper(model, intentPropertyReaders, slotPropertyReaders);
+            return new IntentMapper(model, locales == null ? Collections.emptySet() : locales, intentPropertyReaders, slotPropertyReaders,
+                slotPropertyWriters == null ? Collections.emptyMap() : slotPropertyWriters).compileReaders();
         }
     }
 }
@@ -17,8 +17,13 @@ import com.amazon.ask.model.IntentRequest;
 
 /**
  * Thrown when parsing an {@link IntentRequest} fails.
+ *
+ * Parse failures are expected on noisy input, so these exceptions do not capture a stack trace; the message, slot and
+ * cause describe the failure.
+ *
+ * @see IntentMapper#tryParseIntent(IntentRequest)
  */
 public class IntentParseException extends Exception {
-    public IntentParseException(String msg) { super(msg); }
-    public IntentParseException(String msg, Throwable cause) { super(msg, cause); }
+    public IntentParseException(String msg) { this(msg, null); }
+    public IntentParseException(String msg, Throwable cause) { super(msg, cause, true, false); }
 }
@@ -0,0 +1,137 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.model.IntentRequest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Outcome of parsing an {@link IntentRequest}: the parsed value, or the reasons it could not be parsed.
+ *
+ * Slots whose values could not be read are reported together, by slot name, so a caller can tell which slots of a
+ * request were invalid. Any other failure, such as an unrecognized intent or a missing slot, is the result's error.
+ *
+ * @param <T> type of the parsed value
+ * @see IntentMapper#tryParseIntent(IntentRequest)
+ */
+public final class IntentParseResult<T> {
+    private final T value;
+    private final IntentParseException error;
+    private final Map<String, SlotValueParseException> slotErrors;
+
+    private IntentParseResult(T value, IntentParseException error, Map<String, SlotValueParseException> slotErrors) {
+        this.value = value;
+        this.error = error;
+        this.slotErrors = slotErrors;
+    }
+
+    public static <T> IntentParseResult<T> success(T value) {
+        return new IntentParseResult<>(value, null, Collections.emptyMap());
+    }
+
+    /**
+     * @param error cause of the failure, reported as a slot error if it is a {@link SlotValueParseException}
+     * @param <T> type of the parsed value
+     * @return failed result
+     */
+    public static <T> IntentParseResult<T> failure(IntentParseException error) {
+        if (error instanceof SlotValueParseException && ((SlotValueParseException) error).getSlot() != null) {
+            SlotValueParseException slotError = (SlotValueParseException) error;
+            return failure(null, Collections.singletonMap(slotError.getSlot().getName(), slotError));
+        }
+        return failure(error, Collections.emptyMap());
+    }
+
+    /**
+     * @param error cause of the failure other than slot values, if any
+     * @param slotErrors errors of the slot values that could not be read, by slot name
+     * @param <T> type of the parsed value
+     * @return failed result
+     */
+    public static <T> IntentParseResult<T> failure(IntentParseException error, Map<String, SlotValueParseException> slotErrors) {
+        if (error == null && (slotErrors == null || slotErrors.isEmpty())) {
+            throw new IllegalArgumentException("A failed result requires an error");
+        }
+        return new IntentParseResult<>(null, error,
+            slotErrors == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(slotErrors)));
+    }
+
+    public boolean isSuccess() {
+        return error == null && slotErrors.isEmpty();
+    }
+
+    /**
+     * @return parsed value, empty if parsing failed or the value was null
+     */
+    public Optional<T> getValue() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * @return failure not attributed to a single slot value
+     */
+    public Optional<IntentParseException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return errors of the slot values that could not be read, by slot name
+     */
+    public Map<String, SlotValueParseException> getSlotErrors() {
+        return slotErrors;
+    }
+
+    /**
+     * @return parsed value
+     * @throws IntentParseException the error of the result, or else its first slot error
+     */
+    public T getOrThrow() throws IntentParseException {
+        if (error != null) {
+            throw error;
+        }
+        if (!slotErrors.isEmpty()) {
+            throw slotErrors.values().iterator().next();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntentParseResult<?> that = (IntentParseResult<?>) o;
+        return Objects.equals(value, that.value) &&
+            Objects.equals(error, that.error) &&
+            Objects.equals(slotErrors, that.slotErrors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, error, slotErrors);
+    }
+
+    @Override
+    public String toString() {
+        return "IntentParseResult{" +
+            "value=" + value +
+            ", error=" + error +
+            ", slotErrors=" + slotErrors +
+            '}';
+    }
+}
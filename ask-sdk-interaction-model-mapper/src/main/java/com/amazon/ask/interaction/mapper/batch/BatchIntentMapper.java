@@ -0,0 +1,125 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.batch;
+
+import com.amazon.ask.interaction.mapper.IntentMapper;
+import com.amazon.ask.interaction.mapper.IntentParseException;
+import com.amazon.ask.model.IntentRequest;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Maps batches of intent requests in parallel, for replaying request logs or offline analytics.
+ *
+ * Requests are split across the workers of a fork-join pool and parsed with the readers the {@link IntentMapper}
+ * compiled when it was built. A request that can not be parsed does not stop the batch: its error is captured in
+ * the {@link MappedIntent} of that request. Requests are pulled from their source as the workers need them, so a
+ * batch need not fit in memory.
+ */
+public class BatchIntentMapper {
+    private final IntentMapper intentMapper;
+    private final ForkJoinPool pool;
+
+    public BatchIntentMapper(IntentMapper intentMapper) {
+        this(intentMapper, ForkJoinPool.commonPool());
+    }
+
+    public BatchIntentMapper(IntentMapper intentMapper, ForkJoinPool pool) {
+        this.intentMapper = assertNotNull(intentMapper, "intentMapper");
+        this.pool = assertNotNull(pool, "pool");
+    }
+
+    /**
+     * Maps a single request, capturing any error.
+     *
+     * @param request intent request
+     * @return mapped intent
+     */
+    public MappedIntent map(IntentRequest request) {
+        try {
+            return MappedIntent.success(request, intentMapper.parseIntent(request));
+        } catch (IntentParseException | RuntimeException ex) {
+            return MappedIntent.failure(request, ex);
+        }
+    }
+
+    /**
+     * Maps every request on the pool, passing each result to an action that may be called from several threads.
+     *
+     * @param requests intent requests
+     * @param action thread-safe action run for each result
+     */
+    public void forEach(Stream<IntentRequest> requests, Consumer<? super MappedIntent> action) {
+        forEach(assertNotNull(requests, "requests").spliterator(), action);
+    }
+
+    /**
+     * Maps every request on the pool, passing each result to an action that may be called from several threads.
+     *
+     * @param requests intent requests
+     * @param action thread-safe action run for each result
+     */
+    public void forEach(Spliterator<IntentRequest> requests, Consumer<? super MappedIntent> action) {
+        assertNotNull(action, "action");
+        run(requests, results -> {
+            results.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * Maps every request on the pool and reduces the results with a collector, in the order of the requests.
+     *
+     * @param requests intent requests
+     * @param collector collector of the results
+     * @param <A> accumulation type of the collector
+     * @param <R> result of the collector
+     * @return collected results
+     */
+    public <A, R> R collect(Stream<IntentRequest> requests, Collector<? super MappedIntent, A, R> collector) {
+        return collect(assertNotNull(requests, "requests").spliterator(), collector);
+    }
+
+    /**
+     * Maps every request on the pool and reduces the results with a collector, in the order of the requests.
+     *
+     * @param requests intent requests
+     * @param collector collector of the results
+     * @param <A> accumulation type of the collector
+     * @param <R> result of the collector
+     * @return collected results
+     */
+    public <A, R> R collect(Spliterator<IntentRequest> requests, Collector<? super MappedIntent, A, R> collector) {
+        assertNotNull(collector, "collector");
+        return run(requests, results -> results.collect(collector));
+    }
+
+    /**
+     * Runs a terminal operation over the mapped requests inside the pool, so that the parallel stream forks its
+     * tasks into that pool rather than the common pool.
+     */
+    private <R> R run(Spliterator<IntentRequest> requests, Function<Stream<MappedIntent>, R> operation) {
+        Stream<MappedIntent> results = StreamSupport.stream(assertNotNull(requests, "requests"), true).map(this::map);
+        return pool.invoke(ForkJoinTask.adapt(() -> operation.apply(results)));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.batch;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.RequestEnvelope;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Reads the intent requests of a request log holding one JSON request envelope per line (JSON Lines).
+ *
+ * Envelopes are parsed one at a time from a single streaming parser, and requests other than intent requests are
+ * skipped. When split for parallel processing, the log hands out fixed size batches of requests, so only the
+ * batches being mapped are held in memory. A log can only be read once, by a single consumer at a time.
+ */
+public class IntentRequestLogReader implements Closeable {
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final MappingIterator<RequestEnvelope> envelopes;
+    private final int batchSize;
+
+    public IntentRequestLogReader(Reader reader) throws IOException {
+        this(reader, MAPPER, DEFAULT_BATCH_SIZE);
+    }
+
+    public IntentRequestLogReader(Reader reader, ObjectMapper mapper, int batchSize) throws IOException {
+        this.envelopes = assertNotNull(mapper, "mapper").readerFor(RequestEnvelope.class)
+            .readValues(assertNotNull(reader, "reader"));
+        this.batchSize = assertIsPositive(batchSize, "batchSize");
+    }
+
+    /**
+     * @return the intent requests of the log, in order
+     */
+    public Spliterator<IntentRequest> spliterator() {
+        return new LogSpliterator();
+    }
+
+    /**
+     * @return sequential stream of the intent requests of the log, closing the log when closed
+     */
+    public Stream<IntentRequest> stream() {
+        return StreamSupport.stream(spliterator(), false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        envelopes.close();
+    }
+
+    /**
+     * Reads the next intent request of the log, skipping other requests.
+     *
+     * @return next intent request, or null at the end of the log
+     * @throws UncheckedIOException if the log can not be read or holds an invalid envelope
+     */
+    private IntentRequest next() {
+        try {
+            while (envelopes.hasNextValue()) {
+                Request request = envelopes.nextValue().getRequest();
+                if (request instanceof IntentRequest) {
+                    return (IntentRequest) request;
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read request log", ex);
+        }
+    }
+
+    private final class LogSpliterator implements Spliterator<IntentRequest> {
+        private boolean done;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IntentRequest> action) {
+            IntentRequest request = poll();
+            if (request == null) {
+                return false;
+            }
+            action.accept(request);
+            return true;
+        }
+
+        @Override
+        public Spliterator<IntentRequest> trySplit() {
+            IntentRequest[] batch = new IntentRequest[batchSize];
+            int size = 0;
+            IntentRequest request;
+            while (size < batchSize && (request = poll()) != null) {
+                batch[size++] = request;
+            }
+            return size == 0 ? null : Spliterators.spliterator(batch, 0, size, characteristics());
+        }
+
+        private IntentRequest poll() {
+            IntentRequest request = done ? null : next();
+            done = request == null;
+            return request;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.batch;
+
+import com.amazon.ask.model.IntentRequest;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Outcome of mapping one request of a batch: the parsed intent, or the error that prevented parsing it.
+ */
+public final class MappedIntent {
+    private final IntentRequest request;
+    private final Object intent;
+    private final Exception error;
+
+    private MappedIntent(IntentRequest request, Object intent, Exception error) {
+        this.request = request;
+        this.intent = intent;
+        this.error = error;
+    }
+
+    public static MappedIntent success(IntentRequest request, Object intent) {
+        return new MappedIntent(request, intent, null);
+    }
+
+    public static MappedIntent failure(IntentRequest request, Exception error) {
+        return new MappedIntent(request, null, error);
+    }
+
+    public IntentRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return parsed intent, or null if the request could not be parsed
+     */
+    public Object getIntent() {
+        return intent;
+    }
+
+    /**
+     * @return the parsed intent if it is an instance of the given class
+     */
+    public <T> Optional<T> getIntent(Class<T> intentClass) {
+        return intentClass.isInstance(intent) ? Optional.of(intentClass.cast(intent)) : Optional.empty();
+    }
+
+    /**
+     * @return error thrown while parsing the request, or null if it was parsed
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    public boolean isMapped() {
+        return error == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MappedIntent that = (MappedIntent) o;
+        return Objects.equals(request, that.request) &&
+            Objects.equals(intent, that.intent) &&
+            Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(request, intent, error);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedIntent{" +
+            "request=" + request +
+            ", intent=" + intent +
+            ", error=" + error +
+            '}';
+    }
+}
@@ -15,6 +15,7 @@ package com.amazon.ask.interaction.mapper.intent;
 
 import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.interaction.mapper.IntentParseException;
+import com.amazon.ask.interaction.mapper.IntentParseResult;
 
 public interface IntentReader<T> {
     /**
@@ -25,4 +26,18 @@ public interface IntentReader<T> {
      * @throws IntentParseException if an instance could not be read from the request
      */
     T read(IntentRequest intentRequest) throws IntentParseException;
+
+    /**
+     * Parse an IntentRequest to a concrete instance, returning the failure rather than throwing it
+     *
+     * @param intentRequest intent request
+     * @return instance representation of this request, or the reasons it could not be read
+     */
+    default IntentParseResult<T> tryRead(IntentRequest intentRequest) {
+        try {
+            return IntentParseResult.success(read(intentRequest));
+        } catch (IntentParseException ex) {
+            return IntentParseResult.failure(ex);
+        }
+    }
 }
@@ -0,0 +1,48 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.intent;
+
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyWriter;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.SlotConfirmationStatus;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+import static com.amazon.ask.util.ValidationUtils.assertStringNotEmpty;
+
+/**
+ * Writes an intent's slot property using a delegate {@link SlotPropertyWriter}, the inverse of
+ * {@link IntentSlotPropertyReader}. Null values are written as a slot without a value.
+ */
+public class IntentSlotPropertyWriter<T> {
+    private final SlotPropertyWriter<T> slotPropertyWriter;
+    private final String slotName;
+    private final Slot emptySlot;
+
+    public IntentSlotPropertyWriter(SlotPropertyWriter<T> slotPropertyWriter, String slotName) {
+        this.slotPropertyWriter = assertNotNull(slotPropertyWriter, "slotPropertyWriter");
+        this.slotName = assertStringNotEmpty(slotName, "slotName");
+        this.emptySlot = Slot.builder()
+            .withName(slotName)
+            .withConfirmationStatus(SlotConfirmationStatus.NONE)
+            .build();
+    }
+
+    public String getSlotName() {
+        return slotName;
+    }
+
+    public Slot write(T value) {
+        return value == null ? emptySlot : slotPropertyWriter.write(slotName, value);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.intent;
+
+import com.amazon.ask.model.Intent;
+
+/**
+ * Writes an intent instance back into an {@link Intent}, the inverse of an {@link IntentReader}, for example as the
+ * updated intent of a dialog directive.
+ */
+public interface IntentWriter<T> {
+    /**
+     * @param intent intent instance
+     * @return intent holding a slot for each slot property of the instance
+     */
+    Intent write(T intent);
+}
@@ -0,0 +1,130 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.intent;
+
+import com.amazon.ask.interaction.TypeReflector;
+import com.amazon.ask.interaction.mapper.IntentParseException;
+import com.amazon.ask.model.IntentRequest;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Reads intents declared as interfaces into proxies that parse each property on first access.
+ *
+ * Handlers that only read some of an intent's slots skip parsing the others. Values are memoized per proxy, and a
+ * parse failure is thrown as an {@link IllegalStateException} from the getter instead of from
+ * {@link #read(IntentRequest)}. Proxies belong to a single request and are not synchronized. They are only equal to
+ * themselves, and {@code toString} shows unparsed properties as {@code <unresolved>} without parsing them.
+ *
+ * Every method of the interface must be the getter of a property with a reader, so default methods are not supported.
+ */
+public class LazyIntentReader<T> implements IntentReader<T> {
+    private final Class<T> intentClass;
+    private final Map<Method, Integer> properties = new HashMap<>();
+    private final String[] names;
+    private final IntentPropertyReader<?>[] readers;
+
+    /**
+     * @param reflector introspects the intent interface
+     * @param readers bean property readers
+     * @throws IllegalArgumentException if the intent is not an interface, or has methods without a reader
+     */
+    public LazyIntentReader(TypeReflector<T> reflector, Map<String, IntentPropertyReader<?>> readers) {
+        assertNotNull(reflector, "reflector");
+        assertNotNull(readers, "readers");
+        this.intentClass = reflector.getTypeClass();
+        if (!intentClass.isInterface()) {
+            throw new IllegalArgumentException(String.format("Lazy intent %s must be an interface", intentClass.getName()));
+        }
+
+        this.names = new String[readers.size()];
+        this.readers = new IntentPropertyReader<?>[readers.size()];
+        for (PropertyDescriptor property : reflector.getPropertyDescriptors()) {
+            IntentPropertyReader<?> reader = readers.get(property.getName());
+            if (reader != null) {
+                int index = properties.size();
+                properties.put(property.getReadMethod(), index);
+                this.names[index] = property.getName();
+                this.readers[index] = reader;
+            }
+        }
+
+        for (Method method : intentClass.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && !properties.containsKey(method)) {
+                throw new IllegalArgumentException(String.format("Method '%s' of lazy intent %s is not a property with a reader",
+                    method.getName(), intentClass.getName()));
+            }
+        }
+    }
+
+    @Override
+    public T read(IntentRequest intentRequest) {
+        return intentClass.cast(Proxy.newProxyInstance(intentClass.getClassLoader(), new Class<?>[] {intentClass},
+            new Handler(assertNotNull(intentRequest, "intentRequest"))));
+    }
+
+    private final class Handler implements InvocationHandler {
+        private final IntentRequest intentRequest;
+        private final Object[] values = new Object[readers.length];
+        private final boolean[] resolved = new boolean[readers.length];
+
+        private Handler(IntentRequest intentRequest) {
+            this.intentRequest = intentRequest;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Integer index = properties.get(method);
+            if (index != null) {
+                return value(index);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    StringBuilder builder = new StringBuilder(intentClass.getSimpleName()).append('{');
+                    for (int i = 0; i < names.length; i++) {
+                        builder.append(i == 0 ? "" : ", ").append(names[i]).append('=')
+                            .append(resolved[i] ? values[i] : "<unresolved>");
+                    }
+                    return builder.append('}').toString();
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        }
+
+        private Object value(int index) {
+            if (!resolved[index]) {
+                try {
+                    values[index] = readers[index].read(intentRequest);
+                } catch (IntentParseException ex) {
+                    throw new IllegalStateException(String.format("Failed to read property '%s' of intent %s",
+                        names[index], intentClass.getName()), ex);
+                }
+                resolved[index] = true;
+            }
+            return values[index];
+        }
+    }
+}
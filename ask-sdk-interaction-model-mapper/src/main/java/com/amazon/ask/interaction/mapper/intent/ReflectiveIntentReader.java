@@ -17,8 +17,10 @@ import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.interaction.TypeReflector;
 import com.amazon.ask.interaction.definition.SlotTypeDefinition;
 import com.amazon.ask.interaction.mapper.IntentParseException;
+import com.amazon.ask.interaction.mapper.IntentParseResult;
+import com.amazon.ask.interaction.mapper.SlotValueParseException;
 
-import java.beans.PropertyDescriptor;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
@@ -48,18 +50,37 @@ public class ReflectiveIntentReader<T> implements IntentReader<T> {
 
     @Override
     public T read(IntentRequest intentRequest) throws IntentParseException {
+        return tryRead(intentRequest).getOrThrow();
+    }
+
+    /**
+     * Reads every property, reporting all the slot values that could not be read rather than only the first.
+     */
+    @Override
+    public IntentParseResult<T> tryRead(IntentRequest intentRequest) {
         try {
             T instance = reflector.getTypeClass().newInstance();
+            IntentParseException error = null;
+            Map<String, SlotValueParseException> slotErrors = null;
             for (Map.Entry<String, IntentPropertyReader<?>> reader : readers.entrySet()) {
-                PropertyDescriptor property = reflector.getPropertyDescriptorIndex().get(reader.getKey());
-                if (property == null) {
-                    throw new IntentParseException(String.format("Property '%s' does not exist on class '%s'", reader.getKey(), reflector.getTypeClass().getName()));
+                if (reflector.getPropertyDescriptorIndex().get(reader.getKey()) == null) {
+                    return IntentParseResult.failure(new IntentParseException(String.format("Property '%s' does not exist on class '%s'", reader.getKey(), reflector.getTypeClass().getName())));
                 }
 
-                Object value = reader.getValue().read(intentRequest);
-                reflector.set(instance, reader.getKey(), value);
+                try {
+                    reflector.set(instance, reader.getKey(), reader.getValue().read(intentRequest));
+                } catch (SlotValueParseException ex) {
+                    if (slotErrors == null) {
+                        slotErrors = new LinkedHashMap<>();
+                    }
+                    slotErrors.put(ex.getSlot() == null ? reader.getKey() : ex.getSlot().getName(), ex);
+                } catch (IntentParseException ex) {
+                    if (error == null) {
+                        error = ex;
+                    }
+                }
             }
-            return instance;
+            return error == null && slotErrors == null ? IntentParseResult.success(instance) : IntentParseResult.failure(error, slotErrors);
         } catch (ReflectiveOperationException ex) {
             throw new IllegalStateException(String.format("Failed to instantiate intent '%s'", reflector.getTypeClass().getName()), ex);
         }
@@ -0,0 +1,75 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.intent;
+
+import com.amazon.ask.interaction.TypeReflector;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentConfirmationStatus;
+import com.amazon.ask.model.Slot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+import static com.amazon.ask.util.ValidationUtils.assertStringNotEmpty;
+
+/**
+ * Writes a Java Bean whose properties are associated with slots back into an {@link Intent}.
+ *
+ * The getters and slot writers are resolved once, when the writer is built, so writing an intent only reads its
+ * properties and builds the slots that changed name or value.
+ */
+public class ReflectiveIntentWriter<T> implements IntentWriter<T> {
+    private final String intentName;
+    private final Function<T, Object>[] getters;
+    private final IntentSlotPropertyWriter<Object>[] writers;
+    private final Function<T, Object> confirmationStatus;
+
+    /**
+     * @param intentName name of the written intent
+     * @param reflector introspects the intent class
+     * @param writers slot property writers by bean property
+     * @param confirmationStatusProperty bean property holding the intent's confirmation status, or null
+     */
+    @SuppressWarnings("unchecked")
+    public ReflectiveIntentWriter(String intentName, TypeReflector<T> reflector,
+                                  Map<String, IntentSlotPropertyWriter<?>> writers, String confirmationStatusProperty) {
+        this.intentName = assertStringNotEmpty(intentName, "intentName");
+        assertNotNull(reflector, "reflector");
+        this.getters = new Function[assertNotNull(writers, "writers").size()];
+        this.writers = new IntentSlotPropertyWriter[writers.size()];
+        int index = 0;
+        for (Map.Entry<String, IntentSlotPropertyWriter<?>> writer : writers.entrySet()) {
+            this.getters[index] = reflector.getter(writer.getKey());
+            this.writers[index++] = (IntentSlotPropertyWriter<Object>) writer.getValue();
+        }
+        this.confirmationStatus = confirmationStatusProperty == null ? null : reflector.getter(confirmationStatusProperty);
+    }
+
+    @Override
+    public Intent write(T intent) {
+        assertNotNull(intent, "intent");
+        Map<String, Slot> slots = new HashMap<>(writers.length * 4 / 3 + 1);
+        for (int i = 0; i < writers.length; i++) {
+            slots.put(writers[i].getSlotName(), writers[i].write(getters[i].apply(intent)));
+        }
+        Object status = confirmationStatus == null ? null : confirmationStatus.apply(intent);
+        return Intent.builder()
+            .withName(intentName)
+            .withSlots(slots)
+            .withConfirmationStatus(status == null ? IntentConfirmationStatus.NONE : (IntentConfirmationStatus) status)
+            .build();
+    }
+}
@@ -20,71 +20,137 @@ import com.amazon.ask.interaction.types.slot.date.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.Month;
+import java.time.Year;
 
 /**
+ * Classifies and decodes values in a single pass over their characters. Values are accepted in the formats:
+ * <pre>
+ * PRESENT_REF
+ * yyyy-MM-dd        specific date
+ * yyyy-Www          week, where ww is [0-4][0-9] or 5[0-2]+
+ * yyyy-Www-WE       weekend
+ * yyyy-MM           month, where MM is 00 to 12
+ * yyyy              year
+ * ddX               decade, e.g. 201X
+ * yyyy-(WI|SP|SU|FA) season
+ * </pre>
+ *
  * @see <a href="https://developer.amazon.com/docs/custom-skills/slot-type-reference.html#date">AMAZON.DATE docs</a>
  */
 public class AmazonDateParser implements SlotPropertyReader<AmazonDate> {
     private static final String PRESENT_REF = "PRESENT_REF";
-    private static final Pattern SPECIFIC_PATTERN = Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$");
-    private static final Pattern WEEK_PATTERN = Pattern.compile("^([0-9]{4})-W([0-4][0-9]|5[0-2]+)$");
-    private static final Pattern WEEKEND_PATTERN = Pattern.compile("^([0-9]{4})-W([0-4][0-9]|5[0-2]+)-WE$");
-    private static final Pattern MONTH_PATTERN = Pattern.compile("^([0-9]{4})-(0[0-9]|1[0-2])$");
-    private static final Pattern YEAR_PATTERN = Pattern.compile("^([0-9]{4})$");
-    private static final Pattern DECADE_PATTERN = Pattern.compile("^([0-9]{2})([0-9])X$");
-    private static final Pattern SEASON_PATTERN = Pattern.compile("^([0-9]{4})-(WI|SP|SU|FA)$");
 
     @Override
     public AmazonDate read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
-        AmazonDate parsed = null;
-        try {
-            if (slot.getValue().equals(PRESENT_REF)) {
-                parsed = new PresentRef(slot, LocalDateTime.now());
-            }
-            if (parsed == null) {
-                parsed = tryParse(slot, SPECIFIC_PATTERN, matcher -> new SpecificDate(slot, LocalDate.parse(matcher.group())));
-            }
-            if (parsed == null) {
-                parsed = tryParse(slot, WEEK_PATTERN, matcher -> new WeekDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
-            }
-            if (parsed == null) {
-                parsed = tryParse(slot, WEEKEND_PATTERN, matcher -> new WeekendDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
-            }
-            if (parsed == null) {
-                parsed = tryParse(slot, MONTH_PATTERN, matcher -> new MonthDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
-            }
-            if (parsed == null) {
-                parsed = tryParse(slot, YEAR_PATTERN, matcher -> new YearDate(slot, getInt(matcher, 1)));
+        AmazonDate parsed = parse(slot, slot.getValue());
+        if (parsed == null) {
+            throw new SlotValueParseException(slot, AmazonDate.class);
+        }
+
+        return parsed;
+    }
+
+    private static AmazonDate parse(Slot slot, String value) {
+        if (value.equals(PRESENT_REF)) {
+            return new PresentRef(slot, LocalDateTime.now());
+        }
+
+        int length = value.length();
+        if (length == 4 && value.charAt(3) == 'X') {
+            int century = Digits.parse(value, 0, 2);
+            int decade = Digits.parse(value, 2, 3);
+            return century < 0 || decade < 0 ? null : new DecadeDate(slot, century, decade);
+        }
+
+        int year = Digits.parse(value, 0, Math.min(length, 4));
+        if (length < 4 || year < 0) {
+            return null;
+        } else if (length == 4) {
+            return new YearDate(slot, year);
+        } else if (length < 7 || value.charAt(4) != '-') {
+            return null;
+        }
+
+        char first = value.charAt(5);
+        if (length == 7) {
+            char second = value.charAt(6);
+            int month = month(first, second);
+            if (month >= 0) {
+                return new MonthDate(slot, year, month);
             }
-            if (parsed == null) {
-                parsed = tryParse(slot, DECADE_PATTERN, matcher -> new DecadeDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
+            Season season = season(first, second);
+            return season == null ? null : new SeasonDate(slot, year, season);
+        } else if (first == 'W') {
+            return week(slot, value, year);
+        } else if (length == 10 && value.charAt(7) == '-') {
+            int month = Digits.parse(value, 5, 7);
+            int day = Digits.parse(value, 8, 10);
+            return month < 0 || day < 0 || !isValidDate(year, month, day) ? null
+                : new SpecificDate(slot, LocalDate.of(year, month, day));
+        }
+        return null;
+    }
+
+    /**
+     * Decodes a week or weekend, whose week number starts at index 6.
+     */
+    private static AmazonDate week(Slot slot, String value, int year) {
+        int length = value.length();
+        int end = value.indexOf('-', 6);
+        boolean weekend = end >= 0;
+        if (!weekend) {
+            end = length;
+        } else if (end + 3 != length || value.charAt(end + 1) != 'W' || value.charAt(end + 2) != 'E') {
+            return null;
+        }
+
+        int digits = end - 6;
+        char first = value.charAt(6);
+        if (digits < 2) {
+            return null;
+        } else if (first >= '0' && first <= '4') {
+            if (digits != 2 || !Digits.isDigit(value.charAt(7))) {
+                return null;
             }
-            if (parsed == null) {
-                parsed = tryParse(slot, SEASON_PATTERN, matcher -> new SeasonDate(slot, getInt(matcher, 1), Season.valueOf(matcher.group(2))));
+        } else if (first == '5') {
+            for (int i = 7; i < end; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '2') {
+                    return null;
+                }
             }
-        } catch (DateTimeParseException ex) {
-            throw new SlotValueParseException(slot, AmazonDate.class, ex);
+        } else {
+            return null;
         }
 
-        if (parsed == null) {
-            throw new SlotValueParseException(slot, AmazonDate.class);
-        }
+        // long runs of 5[0-2]+ overflow an int, and fail as they always have
+        int week = digits <= 9 ? Digits.parse(value, 6, end) : Integer.parseInt(value.substring(6, end));
+        return weekend ? new WeekendDate(slot, year, week) : new WeekDate(slot, year, week);
+    }
 
-        return parsed;
+    private static boolean isValidDate(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
     }
 
-    private static int getInt(Matcher matcher, int index) {
-        return Integer.valueOf(matcher.group(index));
+    private static int month(char first, char second) {
+        if (first == '0' && Digits.isDigit(second)) {
+            return second - '0';
+        } else if (first == '1' && second >= '0' && second <= '2') {
+            return 10 + second - '0';
+        }
+        return -1;
     }
 
-    private static <T extends AmazonDate> T tryParse(Slot slot, Pattern pattern, Function<Matcher, T> parse) {
-        Matcher matcher = pattern.matcher(slot.getValue());
-        if (matcher.matches()) {
-            return parse.apply(matcher);
+    private static Season season(char first, char second) {
+        if (first == 'W' && second == 'I') {
+            return Season.WI;
+        } else if (first == 'S' && second == 'P') {
+            return Season.SP;
+        } else if (first == 'S' && second == 'U') {
+            return Season.SU;
+        } else if (first == 'F' && second == 'A') {
+            return Season.FA;
         }
         return null;
     }
@@ -21,30 +21,108 @@ import com.amazon.ask.interaction.types.slot.AmazonDuration;
 import java.time.Duration;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
-import java.util.regex.Pattern;
 
 /**
- *
+ * Decodes durations such as <code>P1Y2M3W4DT5H6M7S</code> in a single pass. Values with signs, fractions, lower
+ * case units or more than eight digits in a field are left to {@link Period#parse} and {@link Duration#parse}.
  */
 public class AmazonDurationParser implements SlotPropertyReader<AmazonDuration> {
-    private static final Pattern SPLIT_PATTERN = Pattern.compile("T");
+    private static final int MAX_DIGITS = 8;
+    private static final int YEARS = 0;
+    private static final int MONTHS = 1;
+    private static final int WEEKS = 2;
+    private static final int DAYS = 3;
+    private static final int HOURS = 4;
+    private static final int MINUTES = 5;
+    private static final int SECONDS = 6;
 
     @Override
     public AmazonDuration read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
         String value = slot.getValue();
-        String[] split = SPLIT_PATTERN.split(value, 2);
         try {
-            if (split.length == 1) {
-                return new AmazonDuration(slot, Period.parse(value), Duration.ZERO);
-            } else {
-                Period p;
-                if (split[0].equals("P")) p = Period.ZERO;
-                else p = Period.parse(split[0]);
-
-                return new AmazonDuration(slot, p, Duration.parse("PT" + split[1]));
-            }
+            AmazonDuration scanned = scan(slot, value);
+            return scanned != null ? scanned : parse(slot, value);
         } catch (DateTimeParseException ex) {
             throw new SlotValueParseException(slot, AmazonDuration.class, ex);
         }
     }
+
+    /**
+     * @return the duration, or null if the value is not made of unsigned whole fields in canonical order
+     */
+    private static AmazonDuration scan(Slot slot, String value) {
+        int length = value.length();
+        if (length < 2 || value.charAt(0) != 'P') {
+            return null;
+        }
+
+        int[] fields = new int[SECONDS + 1];
+        int last = -1;
+        boolean time = false;
+        int position = 1;
+        while (position < length) {
+            if (value.charAt(position) == 'T') {
+                if (time) {
+                    return null;
+                }
+                time = true;
+                last = DAYS;
+                position++;
+                continue;
+            }
+
+            int start = position;
+            int number = 0;
+            while (position < length && Digits.isDigit(value.charAt(position))) {
+                number = number * 10 + value.charAt(position++) - '0';
+            }
+            if (position == start || position - start > MAX_DIGITS || position == length) {
+                return null;
+            }
+
+            int field = field(value.charAt(position++), time);
+            if (field <= last) {
+                return null;
+            }
+            fields[field] = number;
+            last = field;
+        }
+
+        // the date part needs a field unless a time follows, and a time needs a field
+        if (time ? last <= DAYS : last < YEARS) {
+            return null;
+        }
+        return new AmazonDuration(slot,
+            Period.of(fields[YEARS], fields[MONTHS], fields[WEEKS] * 7 + fields[DAYS]),
+            Duration.ofSeconds(fields[HOURS] * 3600L + fields[MINUTES] * 60L + fields[SECONDS]));
+    }
+
+    private static int field(char unit, boolean time) {
+        switch (unit) {
+            case 'Y':
+                return time ? -1 : YEARS;
+            case 'M':
+                return time ? MINUTES : MONTHS;
+            case 'W':
+                return time ? -1 : WEEKS;
+            case 'D':
+                return time ? -1 : DAYS;
+            case 'H':
+                return time ? HOURS : -1;
+            case 'S':
+                return time ? SECONDS : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static AmazonDuration parse(Slot slot, String value) {
+        int separator = value.indexOf('T');
+        if (separator < 0) {
+            return new AmazonDuration(slot, Period.parse(value), Duration.ZERO);
+        }
+        String period = value.substring(0, separator);
+        Period p = period.equals("P") ? Period.ZERO : Period.parse(period);
+        return new AmazonDuration(slot, p, Duration.parse("PT" + value.substring(separator + 1)));
+    }
 }
@@ -19,15 +19,34 @@ import com.amazon.ask.interaction.mapper.SlotValueParseException;
 import com.amazon.ask.interaction.types.slot.AmazonNumber;
 
 /**
- *
+ * Decodes an optional sign followed by decimal digits, rejecting other and overflowing values without the cost of a
+ * {@link NumberFormatException}. Accepts exactly the values {@link Long#parseLong} does.
  */
 public class AmazonNumberParser implements SlotPropertyReader<AmazonNumber> {
     @Override
     public AmazonNumber read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
-        try {
-            return new AmazonNumber(slot, Long.valueOf(slot.getValue()));
-        } catch (NumberFormatException ex) {
-            throw new SlotValueParseException(slot, AmazonNumber.class, ex);
+        String value = slot.getValue();
+        int length = value == null ? 0 : value.length();
+        boolean negative = length > 0 && value.charAt(0) == '-';
+        int start = negative || (length > 0 && value.charAt(0) == '+') ? 1 : 0;
+        if (length == start) {
+            throw new SlotValueParseException(slot, AmazonNumber.class);
         }
+
+        // accumulate negatively, as the range of negative longs is the larger
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < limit / 10) {
+                throw new SlotValueParseException(slot, AmazonNumber.class);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new SlotValueParseException(slot, AmazonNumber.class);
+            }
+            result -= digit;
+        }
+        return new AmazonNumber(slot, negative ? result : -result);
     }
 }
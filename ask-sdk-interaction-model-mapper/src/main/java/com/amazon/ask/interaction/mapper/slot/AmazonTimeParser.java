@@ -25,13 +25,20 @@ import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 
 /**
- *
+ * Decodes <code>HH:mm</code> times directly, and leaves other values to {@link LocalTime#parse}.
  */
 public class AmazonTimeParser implements SlotPropertyReader<AmazonTime> {
     @Override
     public AmazonTime read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
         String value = slot.getValue();
         try {
+            if (value.length() == 5 && value.charAt(2) == ':') {
+                int hour = Digits.parse(value, 0, 2);
+                int minute = Digits.parse(value, 3, 5);
+                if (hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59) {
+                    return new AbsoluteTime(slot, LocalTime.of(hour, minute));
+                }
+            }
             if (value.length() == 2) {
                 return new RelativeTime(slot, TimeOfDay.valueOf(value));
             } else {
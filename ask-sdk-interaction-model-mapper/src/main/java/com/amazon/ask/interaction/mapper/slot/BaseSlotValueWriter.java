@@ -0,0 +1,28 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.interaction.types.slot.BaseSlotValue;
+import com.amazon.ask.model.Slot;
+
+/**
+ * Writes the slot a {@link BaseSlotValue} was read from, so built-in slot types are written with the value,
+ * confirmation status and resolutions Alexa sent.
+ */
+public class BaseSlotValueWriter implements SlotPropertyWriter<BaseSlotValue> {
+    @Override
+    public Slot write(String slotName, BaseSlotValue value) {
+        return RawSlotPropertyWriter.named(slotName, value.getSlot());
+    }
+}
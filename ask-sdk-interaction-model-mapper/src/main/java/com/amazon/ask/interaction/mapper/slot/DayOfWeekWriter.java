@@ -0,0 +1,27 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.interaction.types.slot.list.DayOfWeek;
+import com.amazon.ask.model.Slot;
+
+/**
+ * Writes the slot a {@link DayOfWeek} was read from.
+ */
+public class DayOfWeekWriter implements SlotPropertyWriter<DayOfWeek> {
+    @Override
+    public Slot write(String slotName, DayOfWeek value) {
+        return RawSlotPropertyWriter.named(slotName, value.getSlot());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+/**
+ * Decodes ASCII digits for the built-in slot value parsers, which scan values without regular expressions.
+ */
+final class Digits {
+    private Digits() {
+    }
+
+    /**
+     * @param c character
+     * @return true if the character is an ASCII digit
+     */
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Decodes a range of at most nine ASCII digits.
+     *
+     * @param value value to decode
+     * @param from index of the first digit
+     * @param to index after the last digit
+     * @return value of the digits, or -1 if the range is empty or contains a character other than a digit
+     */
+    static int parse(String value, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -24,32 +24,47 @@ import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 /**
  * Parses a Custom Slot symbol to its corresponding Enum value.
  *
+ * The id of a successful entity resolution match is read first, then the exact constant name, and then, if the index
+ * has data for the request's locale, the names, ids, values and synonyms of that locale, ignoring case.
+ *
  * https://developer.amazon.com/docs/custom-skills/define-synonyms-and-ids-for-slot-type-values-entity-resolution.html
  */
 public class EnumCustomSlotReader<T extends Enum<T>> implements SlotPropertyReader<T> {
     private final Class<T> slotClass;
+    private final EnumSlotValueIndex<T> index;
 
     public EnumCustomSlotReader(Class<T> slotClass) {
+        this(slotClass, EnumSlotValueIndex.of(assertNotNull(slotClass, "slotClass")));
+    }
+
+    public EnumCustomSlotReader(Class<T> slotClass, EnumSlotValueIndex<T> index) {
         this.slotClass = assertNotNull(slotClass, "slotClass");
+        this.index = assertNotNull(index, "index");
     }
 
     @Override
     public T read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
-        try {
-            if (slot.getResolutions() != null &&
-                slot.getResolutions().getResolutionsPerAuthority() != null &&
-                !slot.getResolutions().getResolutionsPerAuthority().isEmpty()) {
-
-                // TODO: Unit test this
-                for (Resolution resolution : slot.getResolutions().getResolutionsPerAuthority()) {
-                    if (resolution.getStatus().getCode() == StatusCode.ER_SUCCESS_MATCH) {
-                        return Enum.valueOf(slotClass, resolution.getValues().get(0).getValue().getId());
+        if (slot.getResolutions() != null &&
+            slot.getResolutions().getResolutionsPerAuthority() != null &&
+            !slot.getResolutions().getResolutionsPerAuthority().isEmpty()) {
+
+            for (Resolution resolution : slot.getResolutions().getResolutionsPerAuthority()) {
+                if (resolution.getStatus().getCode() == StatusCode.ER_SUCCESS_MATCH) {
+                    T resolved = index.constant(resolution.getValues().get(0).getValue().getId());
+                    if (resolved != null) {
+                        return resolved;
                     }
                 }
             }
-            return Enum.valueOf(slotClass, slot.getValue());
-        } catch (IllegalArgumentException ex) {
-            throw new SlotValueParseException(slot, slotClass, ex);
         }
+
+        T value = index.constant(slot.getValue());
+        if (value == null) {
+            value = index.lookup(intentRequest == null ? null : intentRequest.getLocale(), slot.getValue());
+        }
+        if (value == null) {
+            throw new SlotValueParseException(slot, slotClass);
+        }
+        return value;
     }
 }
@@ -0,0 +1,53 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.SlotConfirmationStatus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Writes an enum constant as a slot whose value is the constant's name, the id it is read from.
+ *
+ * The slots of each slot name are built once and shared, since slots are immutable.
+ */
+public class EnumCustomSlotWriter<T extends Enum<T>> implements SlotPropertyWriter<T> {
+    private final T[] constants;
+    private final Map<String, Slot[]> slots = new ConcurrentHashMap<>();
+
+    public EnumCustomSlotWriter(Class<T> slotClass) {
+        this.constants = assertNotNull(slotClass, "slotClass").getEnumConstants();
+    }
+
+    @Override
+    public Slot write(String slotName, T value) {
+        return slots.computeIfAbsent(slotName, this::slotsNamed)[value.ordinal()];
+    }
+
+    private Slot[] slotsNamed(String slotName) {
+        Slot[] named = new Slot[constants.length];
+        for (T constant : constants) {
+            named[constant.ordinal()] = Slot.builder()
+                .withName(slotName)
+                .withValue(constant.name())
+                .withConfirmationStatus(SlotConfirmationStatus.NONE)
+                .build();
+        }
+        return named;
+    }
+}
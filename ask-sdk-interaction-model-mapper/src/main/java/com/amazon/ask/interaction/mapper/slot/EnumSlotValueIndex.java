@@ -0,0 +1,135 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.interaction.data.model.SlotTypeData;
+import com.amazon.ask.interaction.model.SlotValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Immutable lookup of the constants of an enum slot type by exact name, and by the case-folded names, ids, values
+ * and synonyms of its {@link SlotTypeData} in each indexed locale.
+ *
+ * Ids take precedence over values, which take precedence over synonyms. Ids that do not name a constant are ignored.
+ *
+ * @param <T> type of the enum
+ */
+public final class EnumSlotValueIndex<T extends Enum<T>> {
+    private final Map<String, T> constants;
+    private final Map<String, Map<String, T>> valuesByLocale;
+
+    private EnumSlotValueIndex(Map<String, T> constants, Map<String, Map<String, T>> valuesByLocale) {
+        this.constants = constants;
+        this.valuesByLocale = valuesByLocale;
+    }
+
+    /**
+     * @param name exact name of a constant
+     * @return the constant, or null
+     */
+    public T constant(String name) {
+        return name == null ? null : constants.get(name);
+    }
+
+    /**
+     * @param locale language tag of the request, e.g. <code>en-US</code>, or null
+     * @param value spoken value of the slot
+     * @return the constant the value is a name, id, value or synonym of in the locale, or null if the locale is not
+     * indexed
+     */
+    public T lookup(String locale, String value) {
+        Map<String, T> values = locale == null ? null : valuesByLocale.get(locale);
+        return values == null || value == null ? null : values.get(fold(value));
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param enumClass type of the enum
+     * @param <T> type of the enum
+     * @return an index of the constant names only
+     */
+    public static <T extends Enum<T>> EnumSlotValueIndex<T> of(Class<T> enumClass) {
+        return builder(enumClass).build();
+    }
+
+    public static <T extends Enum<T>> Builder<T> builder(Class<T> enumClass) {
+        return new Builder<>(enumClass);
+    }
+
+    public static final class Builder<T extends Enum<T>> {
+        private final Map<String, T> constants = new HashMap<>();
+        private final Map<String, T> foldedConstants = new HashMap<>();
+        private final Map<String, Map<String, T>> valuesByLocale = new HashMap<>();
+
+        private Builder(Class<T> enumClass) {
+            for (T constant : assertNotNull(enumClass, "enumClass").getEnumConstants()) {
+                constants.put(constant.name(), constant);
+                foldedConstants.putIfAbsent(fold(constant.name()), constant);
+            }
+        }
+
+        /**
+         * Indexes the ids, values and synonyms of a slot type in a locale.
+         *
+         * @param locale locale of the data
+         * @param data slot type data
+         * @return this
+         */
+        public Builder<T> addValues(Locale locale, SlotTypeData data) {
+            assertNotNull(data, "data");
+            Map<String, T> values = valuesByLocale.computeIfAbsent(assertNotNull(locale, "locale").toLanguageTag(),
+                tag -> new HashMap<>(foldedConstants));
+            for (Map.Entry<String, SlotValue> entry : data.getValuesIndex().entrySet()) {
+                T constant = constants.get(entry.getKey());
+                if (constant != null) {
+                    values.put(fold(entry.getKey()), constant);
+                }
+            }
+            for (Map.Entry<String, SlotValue> entry : data.getValuesIndex().entrySet()) {
+                T constant = constants.get(entry.getKey());
+                if (constant != null && entry.getValue().getValue() != null) {
+                    values.putIfAbsent(fold(entry.getValue().getValue()), constant);
+                }
+            }
+            for (Map.Entry<String, SlotValue> entry : data.getValuesIndex().entrySet()) {
+                T constant = constants.get(entry.getKey());
+                if (constant != null && entry.getValue().getSynonyms() != null) {
+                    for (String synonym : entry.getValue().getSynonyms()) {
+                        if (synonym != null) {
+                            values.putIfAbsent(fold(synonym), constant);
+                        }
+                    }
+                }
+            }
+            return this;
+        }
+
+        public EnumSlotValueIndex<T> build() {
+            Map<String, Map<String, T>> locales = new HashMap<>();
+            valuesByLocale.forEach((locale, values) -> locales.put(locale, Collections.unmodifiableMap(new HashMap<>(values))));
+            return new EnumSlotValueIndex<>(
+                Collections.unmodifiableMap(new HashMap<>(constants)),
+                Collections.unmodifiableMap(locales));
+        }
+    }
+}
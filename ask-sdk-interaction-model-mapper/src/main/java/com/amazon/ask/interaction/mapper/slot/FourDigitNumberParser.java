@@ -18,25 +18,20 @@ import com.amazon.ask.model.Slot;
 import com.amazon.ask.interaction.mapper.SlotValueParseException;
 import com.amazon.ask.interaction.types.slot.FourDigitNumber;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  *
  */
 public class FourDigitNumberParser implements SlotPropertyReader<FourDigitNumber> {
-    private static final Pattern REGEX = Pattern.compile("^([0-9])([0-9])([0-9])([0-9])$");
-
     @Override
     public FourDigitNumber read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
-        Matcher matcher = REGEX.matcher(slot.getValue());
-        if (matcher.matches()) {
+        String value = slot.getValue();
+        if (value.length() == 4 && Digits.parse(value, 0, 4) >= 0) {
             return new FourDigitNumber(
                 slot,
-                Integer.valueOf(matcher.group(1)),
-                Integer.valueOf(matcher.group(2)),
-                Integer.valueOf(matcher.group(3)),
-                Integer.valueOf(matcher.group(4))
+                value.charAt(0) - '0',
+                value.charAt(1) - '0',
+                value.charAt(2) - '0',
+                value.charAt(3) - '0'
             );
         } else {
             throw new SlotValueParseException(slot, FourDigitNumber.class);
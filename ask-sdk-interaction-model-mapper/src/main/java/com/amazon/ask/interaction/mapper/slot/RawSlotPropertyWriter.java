@@ -0,0 +1,41 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.model.Slot;
+
+/**
+ * Writes a raw slot, renamed if it was read from a slot of another name.
+ */
+public class RawSlotPropertyWriter implements SlotPropertyWriter<Slot> {
+    @Override
+    public Slot write(String slotName, Slot slot) {
+        return named(slotName, slot);
+    }
+
+    /**
+     * @return the slot itself if it has the name, otherwise a copy with the name
+     */
+    static Slot named(String slotName, Slot slot) {
+        if (slotName.equals(slot.getName())) {
+            return slot;
+        }
+        return Slot.builder()
+            .withName(slotName)
+            .withValue(slot.getValue())
+            .withConfirmationStatus(slot.getConfirmationStatus())
+            .withResolutions(slot.getResolutions())
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.interaction.TypeReflector;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.SlotConfirmationStatus;
+import com.amazon.ask.model.slu.entityresolution.Resolutions;
+
+import java.beans.PropertyDescriptor;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Writes a slot type read by a {@link ReflectiveSlotReader}, from the properties read from the slot itself.
+ *
+ * A property holding the raw slot is written as is. Otherwise the slot is built from the properties holding its
+ * value, confirmation status and resolutions.
+ */
+public class ReflectiveSlotWriter<T> implements SlotPropertyWriter<T> {
+    private Function<T, Object> slot;
+    private Function<T, Object> value;
+    private Function<T, Object> confirmationStatus;
+    private Function<T, Object> resolutions;
+
+    /**
+     * @param reflector introspects the slot class
+     * @param readers readers of the slot class's properties
+     * @throws IllegalArgumentException if no property holds the slot or its value
+     */
+    public ReflectiveSlotWriter(TypeReflector<T> reflector, Map<String, SlotPropertyReader<?>> readers) {
+        assertNotNull(reflector, "reflector");
+        for (Map.Entry<String, SlotPropertyReader<?>> reader : assertNotNull(readers, "readers").entrySet()) {
+            PropertyDescriptor property = reflector.getPropertyDescriptorIndex().get(reader.getKey());
+            if (property == null || property.getReadMethod() == null) {
+                continue;
+            }
+            Function<T, Object> getter = reflector.getter(reader.getKey());
+            if (reader.getValue() instanceof RawSlotPropertyReader && slot == null) {
+                slot = getter;
+            } else if (reader.getValue() instanceof SlotValueReader && value == null) {
+                value = getter;
+            } else if (reader.getValue() instanceof SlotConfirmationStatusReader && confirmationStatus == null) {
+                confirmationStatus = getter;
+            } else if (reader.getValue() instanceof ResolutionsReader && resolutions == null) {
+                resolutions = getter;
+            }
+        }
+        if (slot == null && value == null) {
+            throw new IllegalArgumentException(String.format("Slot type %s has no property holding its slot or value", reflector.getTypeClass().getName()));
+        }
+    }
+
+    @Override
+    public Slot write(String slotName, T instance) {
+        Slot raw = slot == null ? null : (Slot) slot.apply(instance);
+        if (raw != null) {
+            return RawSlotPropertyWriter.named(slotName, raw);
+        }
+        Object status = confirmationStatus == null ? null : confirmationStatus.apply(instance);
+        return Slot.builder()
+            .withName(slotName)
+            .withValue(value == null ? null : (String) value.apply(instance))
+            .withConfirmationStatus(status == null ? SlotConfirmationStatus.NONE : (SlotConfirmationStatus) status)
+            .withResolutions(resolutions == null ? null : (Resolutions) resolutions.apply(instance))
+            .build();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot;
+
+import com.amazon.ask.model.Slot;
+
+/**
+ * Writes a slot property back into a {@link Slot}, the inverse of a {@link SlotPropertyReader}.
+ */
+public interface SlotPropertyWriter<T> {
+    /**
+     * @param slotName name of the slot to write
+     * @param value non-null value of the slot property
+     * @return slot with the given name holding the value
+     */
+    Slot write(String slotName, T value);
+}
@@ -0,0 +1,75 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot.fuzzy;
+
+import java.util.Objects;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Candidate slot value of a fuzzy search, with a score from 0 to 1.
+ */
+public class FuzzyMatch {
+    private final String id;
+    private final String value;
+    private final double score;
+
+    public FuzzyMatch(String id, String value, double score) {
+        this.id = assertNotNull(id, "id");
+        this.value = value;
+        this.score = score;
+    }
+
+    /**
+     * @return id of the slot value
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return value or synonym that matched
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FuzzyMatch that = (FuzzyMatch) o;
+        return Double.compare(that.score, score) == 0 &&
+            Objects.equals(id, that.id) &&
+            Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, value, score);
+    }
+
+    @Override
+    public String toString() {
+        return "FuzzyMatch{" +
+            "id='" + id + '\'' +
+            ", value='" + value + '\'' +
+            ", score=" + score +
+            '}';
+    }
+}
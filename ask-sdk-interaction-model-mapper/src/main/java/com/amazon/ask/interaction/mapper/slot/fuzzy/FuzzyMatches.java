@@ -0,0 +1,69 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot.fuzzy;
+
+import com.amazon.ask.interaction.types.slot.BaseSlotValue;
+import com.amazon.ask.model.Slot;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Candidate values of a slot, best first.
+ *
+ * @see FuzzySlotReader
+ */
+public class FuzzyMatches extends BaseSlotValue {
+    private final List<FuzzyMatch> matches;
+
+    public FuzzyMatches(Slot slot, List<FuzzyMatch> matches) {
+        this.setSlot(assertNotNull(slot, "slot"));
+        this.matches = Collections.unmodifiableList(assertNotNull(matches, "matches"));
+    }
+
+    public List<FuzzyMatch> getMatches() {
+        return matches;
+    }
+
+    /**
+     * @return the match with the highest score, if any
+     */
+    public Optional<FuzzyMatch> getBest() {
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        FuzzyMatches that = (FuzzyMatches) o;
+        return Objects.equals(matches, that.matches);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matches);
+    }
+
+    @Override
+    public String toString() {
+        return "FuzzyMatches{" +
+            "matches=" + matches +
+            ", slot=" + getSlot() +
+            '}';
+    }
+}
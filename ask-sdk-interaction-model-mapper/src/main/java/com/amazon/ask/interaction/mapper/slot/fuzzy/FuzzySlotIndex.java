@@ -0,0 +1,329 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot.fuzzy;
+
+import com.amazon.ask.interaction.data.model.SlotTypeData;
+import com.amazon.ask.interaction.model.SlotValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Immutable index of slot values and synonyms for approximate matching of spoken values.
+ *
+ * Values are case-folded and reduced to letters and digits, then indexed by their trigrams and by the Soundex codes of
+ * their words. A match scores the Dice coefficient of the shared trigrams, raised when the value sounds alike.
+ * Candidates are only gathered from the rarest trigrams of a query, as many as a value must share to reach the
+ * minimum score, and the remaining trigrams are checked for those candidates alone.
+ *
+ * The index is safe to share between threads; each searching thread keeps a scratch buffer sized to the index.
+ */
+public final class FuzzySlotIndex {
+    private static final double PHONETIC_WEIGHT = 0.5;
+    private static final int[] NONE = new int[0];
+    private static final Comparator<FuzzyMatch> BEST_FIRST = Comparator.comparingDouble(FuzzyMatch::getScore).reversed()
+        .thenComparing(FuzzyMatch::getId);
+
+    private final String[] ids;
+    private final String[] values;
+    private final String[] phoneticKeys;
+    private final int[] gramCounts;
+    private final Map<String, int[]> grams;
+    private final Map<String, int[]> phonetics;
+    private final ThreadLocal<Scratch> scratch;
+
+    private FuzzySlotIndex(String[] ids, String[] values, String[] phoneticKeys, int[] gramCounts,
+                           Map<String, int[]> grams, Map<String, int[]> phonetics) {
+        this.ids = ids;
+        this.values = values;
+        this.phoneticKeys = phoneticKeys;
+        this.gramCounts = gramCounts;
+        this.grams = grams;
+        this.phonetics = phonetics;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(ids.length));
+    }
+
+    /**
+     * @return number of values and synonyms indexed
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Finds the slot values closest to a spoken value.
+     *
+     * @param value spoken value
+     * @param maxResults maximum number of matches
+     * @param minScore minimum score of a match, from 0 to 1
+     * @return the best match of each slot value id, best first
+     */
+    public List<FuzzyMatch> search(String value, int maxResults, double minScore) {
+        String normalized = value == null ? "" : normalize(value);
+        if (normalized.isEmpty() || maxResults <= 0) {
+            return Collections.emptyList();
+        }
+        Set<String> queryGrams = trigrams(normalized);
+        String queryKey = Soundex.encode(normalized);
+        int[][] postings = new int[queryGrams.size()][];
+        int index = 0;
+        for (String gram : queryGrams) {
+            int[] terms = grams.get(gram);
+            postings[index++] = terms == null ? NONE : terms;
+        }
+        Arrays.sort(postings, Comparator.comparingInt(terms -> terms.length));
+        int candidateLists = postings.length - minSharedGrams(postings.length, minScore) + 1;
+
+        Scratch scratch = this.scratch.get();
+        try {
+            for (int i = 0; i < candidateLists; i++) {
+                for (int term : postings[i]) {
+                    scratch.count(term);
+                }
+            }
+            int[] alike = phonetics.get(queryKey);
+            if (alike != null) {
+                for (int term : alike) {
+                    scratch.touch(term);
+                }
+            }
+            for (int i = Math.max(candidateLists, 0); i < postings.length; i++) {
+                scratch.countCandidates(postings[i]);
+            }
+
+            Map<String, FuzzyMatch> best = new HashMap<>();
+            for (int i = 0; i < scratch.touchedCount; i++) {
+                int term = scratch.touched[i];
+                double dice = 2.0 * scratch.shared[term] / (queryGrams.size() + gramCounts[term]);
+                double phonetic = queryKey.equals(phoneticKeys[term]) ? 1 : 0;
+                double score = (dice + PHONETIC_WEIGHT * phonetic) / (1 + PHONETIC_WEIGHT);
+                if (score >= minScore) {
+                    FuzzyMatch existing = best.get(ids[term]);
+                    if (existing == null || existing.getScore() < score) {
+                        best.put(ids[term], new FuzzyMatch(ids[term], values[term], score));
+                    }
+                }
+            }
+
+            List<FuzzyMatch> matches = new ArrayList<>(best.values());
+            matches.sort(BEST_FIRST);
+            return matches.size() > maxResults ? new ArrayList<>(matches.subList(0, maxResults)) : matches;
+        } finally {
+            scratch.reset();
+        }
+    }
+
+    /**
+     * Bounds the trigrams a value without a phonetic match shares with a query to score at least the minimum: as its
+     * own trigrams are at least those it shares, a Dice coefficient of d needs d * queryGrams / (2 - d) of them.
+     */
+    private static int minSharedGrams(int queryGrams, double minScore) {
+        double dice = minScore * (1 + PHONETIC_WEIGHT);
+        if (dice >= 2) {
+            return queryGrams + 1;
+        }
+        return Math.max(1, (int) Math.ceil(dice * queryGrams / (2 - dice) - 1e-9));
+    }
+
+    /**
+     * Case-folds a value and replaces each run of characters other than letters and digits with a single space.
+     */
+    static String normalize(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the distinct trigrams of a normalized value padded with a space at each end
+     */
+    static Set<String> trigrams(String normalized) {
+        String padded = " " + normalized + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Counts the trigrams each value shares with a query, remembering which values to reset.
+     */
+    private static final class Scratch {
+        private final int[] shared;
+        private final int[] touched;
+        private final boolean[] seen;
+        private int touchedCount;
+
+        private Scratch(int size) {
+            this.shared = new int[size];
+            this.touched = new int[size];
+            this.seen = new boolean[size];
+        }
+
+        private void count(int term) {
+            touch(term);
+            shared[term]++;
+        }
+
+        private void touch(int term) {
+            if (!seen[term]) {
+                seen[term] = true;
+                touched[touchedCount++] = term;
+            }
+        }
+
+        /**
+         * Counts a posting list for the terms already touched only, searching it when they are few.
+         */
+        private void countCandidates(int[] postings) {
+            if ((long) touchedCount * (32 - Integer.numberOfLeadingZeros(postings.length)) < postings.length) {
+                for (int i = 0; i < touchedCount; i++) {
+                    if (Arrays.binarySearch(postings, touched[i]) >= 0) {
+                        shared[touched[i]]++;
+                    }
+                }
+            } else {
+                for (int term : postings) {
+                    if (seen[term]) {
+                        shared[term]++;
+                    }
+                }
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                int term = touched[i];
+                shared[term] = 0;
+                seen[term] = false;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    public static final class Builder {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<String> phoneticKeys = new ArrayList<>();
+        private final IntList gramCounts = new IntList();
+        private final Map<String, IntList> grams = new HashMap<>();
+        private final Map<String, IntList> phonetics = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Indexes the values and synonyms of a slot type.
+         *
+         * @param data slot type data
+         * @return this
+         */
+        public Builder addValues(SlotTypeData data) {
+            for (Map.Entry<String, SlotValue> entry : assertNotNull(data, "data").getValuesIndex().entrySet()) {
+                addValue(entry.getKey(), entry.getValue().getValue());
+                if (entry.getValue().getSynonyms() != null) {
+                    for (String synonym : entry.getValue().getSynonyms()) {
+                        addValue(entry.getKey(), synonym);
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @param id id of the slot value
+         * @param value value or synonym, ignored if it has no letters or digits
+         * @return this
+         */
+        public Builder addValue(String id, String value) {
+            assertNotNull(id, "id");
+            String normalized = value == null ? "" : normalize(value);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+
+            int term = ids.size();
+            ids.add(id);
+            values.add(value);
+            Set<String> trigrams = trigrams(normalized);
+            gramCounts.add(trigrams.size());
+            for (String gram : trigrams) {
+                grams.computeIfAbsent(gram, k -> new IntList()).add(term);
+            }
+            String key = Soundex.encode(normalized);
+            phoneticKeys.add(key);
+            phonetics.computeIfAbsent(key, k -> new IntList()).add(term);
+            return this;
+        }
+
+        public FuzzySlotIndex build() {
+            return new FuzzySlotIndex(
+                ids.toArray(new String[0]),
+                values.toArray(new String[0]),
+                phoneticKeys.toArray(new String[0]),
+                gramCounts.toArray(),
+                freeze(grams),
+                freeze(phonetics));
+        }
+
+        private static Map<String, int[]> freeze(Map<String, IntList> postings) {
+            Map<String, int[]> frozen = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((key, terms) -> frozen.put(key, terms.toArray()));
+            return Collections.unmodifiableMap(frozen);
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot.fuzzy;
+
+import com.amazon.ask.interaction.data.model.SlotTypeData;
+import com.amazon.ask.interaction.mapper.SlotValueParseException;
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.slu.entityresolution.Resolution;
+import com.amazon.ask.model.slu.entityresolution.StatusCode;
+import com.amazon.ask.model.slu.entityresolution.Value;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Reads the candidate values of a custom slot, for when entity resolution finds no match.
+ *
+ * A successful entity resolution match is returned as the only candidate, with a score of 1. Otherwise the spoken
+ * value is searched in the {@link FuzzySlotIndex} of the request's locale; requests of locales without an index have
+ * no candidates. Declare an intent property of type {@link FuzzyMatches} with the slot type to match against:
+ *
+ * <pre>
+ * &#64;SlotProperty(type = Catalog.class)
+ * private FuzzyMatches item;
+ * </pre>
+ */
+public class FuzzySlotReader implements SlotPropertyReader<FuzzyMatches> {
+    public static final int DEFAULT_MAX_RESULTS = 5;
+    public static final double DEFAULT_MIN_SCORE = 0.3;
+
+    private final Map<String, FuzzySlotIndex> indexes;
+    private final int maxResults;
+    private final double minScore;
+
+    public FuzzySlotReader(Map<Locale, FuzzySlotIndex> indexes, int maxResults, double minScore) {
+        this.indexes = new HashMap<>();
+        assertNotNull(indexes, "indexes").forEach((locale, index) -> this.indexes.put(locale.toLanguageTag(), index));
+        this.maxResults = assertIsPositive(maxResults, "maxResults");
+        this.minScore = minScore;
+    }
+
+    @Override
+    public FuzzyMatches read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+        if (slot.getResolutions() != null && slot.getResolutions().getResolutionsPerAuthority() != null) {
+            for (Resolution resolution : slot.getResolutions().getResolutionsPerAuthority()) {
+                if (resolution.getStatus().getCode() == StatusCode.ER_SUCCESS_MATCH
+                    && resolution.getValues() != null && !resolution.getValues().isEmpty()) {
+                    Value value = resolution.getValues().get(0).getValue();
+                    return new FuzzyMatches(slot, Collections.singletonList(new FuzzyMatch(value.getId(), value.getName(), 1)));
+                }
+            }
+        }
+
+        FuzzySlotIndex index = intentRequest == null || intentRequest.getLocale() == null
+            ? null : indexes.get(intentRequest.getLocale());
+        List<FuzzyMatch> matches = index == null
+            ? Collections.emptyList() : index.search(slot.getValue(), maxResults, minScore);
+        return new FuzzyMatches(slot, matches);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final Map<Locale, FuzzySlotIndex.Builder> indexes = new HashMap<>();
+        private int maxResults = DEFAULT_MAX_RESULTS;
+        private double minScore = DEFAULT_MIN_SCORE;
+
+        private Builder() {
+        }
+
+        /**
+         * Indexes the values and synonyms of a slot type in a locale.
+         *
+         * @param locale locale of the data
+         * @param data slot type data
+         * @return this
+         */
+        public Builder addValues(Locale locale, SlotTypeData data) {
+            indexes.computeIfAbsent(assertNotNull(locale, "locale"), k -> FuzzySlotIndex.builder()).addValues(data);
+            return this;
+        }
+
+        public Builder withMaxResults(int maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        public Builder withMinScore(double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public FuzzySlotReader build() {
+            Map<Locale, FuzzySlotIndex> built = new HashMap<>();
+            indexes.forEach((locale, index) -> built.put(locale, index.build()));
+            return new FuzzySlotReader(built, maxResults, minScore);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper.slot.fuzzy;
+
+/**
+ * Encodes words with American Soundex, so values that sound alike share a key.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Soundex">Soundex</a>
+ */
+final class Soundex {
+    //                                     ABCDEFGHIJKLMNOPQRSTUVWXYZ
+    private static final String CODES = "01230120022455012623010202";
+
+    private Soundex() {
+    }
+
+    /**
+     * @param normalized lower case words separated by single spaces
+     * @return the codes of each word separated by spaces, where words without ASCII letters are kept as they are
+     */
+    static String encode(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        int start = 0;
+        while (start < normalized.length()) {
+            int end = normalized.indexOf(' ', start);
+            if (end < 0) {
+                end = normalized.length();
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            encodeWord(normalized, start, end, builder);
+            start = end + 1;
+        }
+        return builder.toString();
+    }
+
+    private static void encodeWord(String value, int start, int end, StringBuilder builder) {
+        int length = builder.length();
+        char previous = 0;
+        for (int i = start; i < end && builder.length() - length < 4; i++) {
+            char c = value.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char code = CODES.charAt(c - 'a');
+            if (builder.length() == length) {
+                builder.append(Character.toUpperCase(c));
+            } else if (code != '0' && code != previous) {
+                builder.append(code);
+            }
+            // h and w do not separate letters with the same code, vowels do
+            if (c != 'h' && c != 'w') {
+                previous = code;
+            }
+        }
+        if (builder.length() == length) {
+            builder.append(value, start, end);
+        } else {
+            while (builder.length() - length < 4) {
+                builder.append('0');
+            }
+        }
+    }
+}
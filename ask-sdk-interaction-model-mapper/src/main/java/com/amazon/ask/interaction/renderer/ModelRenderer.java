@@ -88,23 +88,7 @@ public class ModelRenderer {
         }
 
         for (SlotTypeDefinition slotType : model.getSlotTypes().values()) {
-            RenderContext<SlotTypeDefinition> renderContext = RenderContext.slotType()
-                .withLocale(locale)
-                .withValue(slotType)
-                .build();
-
-            Stream<SlotTypeData> resolvedData = model.getSlotTypeDataResolvers().stream()
-                .flatMap(resolver -> resolver.apply(renderContext));
-
-            Stream<SlotTypeData> mappedData = Optional.ofNullable(model.getSlotTypeDataSources().get(slotType))
-                .map(Stream::of).orElse(Stream.empty())
-                .flatMap(Set::stream)
-                .map(mapper -> mapper.apply(renderContext));
-
-            SlotTypeData slotTypeData = Stream.concat(resolvedData, mappedData)
-                .reduce(SlotTypeData::combine)
-                .orElse(SlotTypeData.empty());
-
+            SlotTypeData slotTypeData = model.resolveSlotTypeData(slotType, locale);
             if (!slotTypeData.isEmpty()) {
                 types.put(slotType, slotTypeRenderer.renderSlotType(slotType, slotTypeData));
             }
@@ -0,0 +1,38 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+import com.amazon.ask.model.IntentRequest;
+
+/**
+ * Thrown by a rejecting {@link ModelRequestValidator} if an {@link IntentRequest} does not match the model.
+ */
+public class InvalidIntentRequestException extends RuntimeException {
+    private final IntentRequest intentRequest;
+    private final int violations;
+
+    public InvalidIntentRequestException(IntentRequest intentRequest, int violations) {
+        super(String.format("IntentRequest for '%s' has %d model violation(s)", intentRequest.getIntent().getName(), violations));
+        this.intentRequest = intentRequest;
+        this.violations = violations;
+    }
+
+    public IntentRequest getIntentRequest() {
+        return intentRequest;
+    }
+
+    public int getViolations() {
+        return violations;
+    }
+}
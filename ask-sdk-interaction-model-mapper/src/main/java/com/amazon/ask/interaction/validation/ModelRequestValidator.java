@@ -0,0 +1,196 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+import com.amazon.ask.dispatcher.request.handler.HandlerInput;
+import com.amazon.ask.dispatcher.request.interceptor.RequestInterceptor;
+import com.amazon.ask.interaction.Utils;
+import com.amazon.ask.interaction.definition.IntentDefinition;
+import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.definition.SlotTypeDefinition;
+import com.amazon.ask.interaction.mapper.SlotValueParseException;
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.Slot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * A {@link RequestInterceptor} checking each {@link IntentRequest} against the skill's {@link Model}, so that requests
+ * drifting from the deployed interaction model are detected before they reach a handler.
+ *
+ * The model is compiled once into a table of slots per intent. Each request is then checked in a single pass over
+ * its slots: unknown intents and slots, missing slots, and values of built-in slot types (such as AMAZON.NUMBER or
+ * AMAZON.DATE) that their parser rejects are reported to a {@link ModelViolationSink}. Values of custom slot types
+ * are not checked.
+ */
+public class ModelRequestValidator implements RequestInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelRequestValidator.class);
+
+    /**
+     * Accepts any value of a slot type without a parser
+     */
+    private static final SlotPropertyReader<?> ANY_VALUE = (intentRequest, slot) -> null;
+
+    private final Map<String, Map<String, SlotPropertyReader<?>>> intents;
+    private final ModelViolationSink sink;
+    private final boolean reject;
+
+    /**
+     * @param model model to validate requests against
+     * @param sink receives the violations
+     * @param reject if true, requests with violations are rejected with an {@link InvalidIntentRequestException}
+     */
+    public ModelRequestValidator(Model model, ModelViolationSink sink, boolean reject) {
+        this.intents = compile(assertNotNull(model, "model"));
+        this.sink = assertNotNull(sink, "sink");
+        this.reject = reject;
+    }
+
+    @Override
+    public void process(HandlerInput input) {
+        Request request = input.getRequestEnvelope().getRequest();
+        if (request instanceof IntentRequest) {
+            int violations = validate((IntentRequest) request);
+            if (violations > 0 && reject) {
+                throw new InvalidIntentRequestException((IntentRequest) request, violations);
+            }
+        }
+    }
+
+    /**
+     * Checks an intent request against the model, reporting each violation to the sink.
+     *
+     * @param intentRequest request to check
+     * @return number of violations
+     */
+    public int validate(IntentRequest intentRequest) {
+        Intent intent = assertNotNull(intentRequest, "intentRequest").getIntent();
+        String intentName = intent == null ? null : intent.getName();
+        Map<String, SlotPropertyReader<?>> schema = intentName == null ? null : intents.get(intentName);
+        if (schema == null) {
+            return report(ModelViolation.UNKNOWN_INTENT, intentName, null);
+        }
+
+        int violations = 0;
+        int known = 0;
+        Map<String, Slot> slots = intent.getSlots();
+        if (slots != null) {
+            for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+                SlotPropertyReader<?> reader = schema.get(entry.getKey());
+                if (reader == null) {
+                    violations += report(ModelViolation.UNKNOWN_SLOT, intentName, entry.getKey());
+                    continue;
+                }
+                known++;
+
+                Slot slot = entry.getValue();
+                if (reader != ANY_VALUE && slot != null && slot.getValue() != null && !isValid(reader, intentRequest, slot)) {
+                    violations += report(ModelViolation.INVALID_SLOT_VALUE, intentName, entry.getKey());
+                }
+            }
+        }
+
+        if (known < schema.size()) {
+            for (String slotName : schema.keySet()) {
+                if (slots == null || !slots.containsKey(slotName)) {
+                    violations += report(ModelViolation.MISSING_SLOT, intentName, slotName);
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static boolean isValid(SlotPropertyReader<?> reader, IntentRequest intentRequest, Slot slot) {
+        try {
+            reader.read(intentRequest, slot);
+            return true;
+        } catch (SlotValueParseException | RuntimeException ex) {
+            return false;
+        }
+    }
+
+    private int report(ModelViolation violation, String intentName, String slotName) {
+        LOGGER.debug("{} in request for intent '{}', slot '{}'", violation, intentName, slotName);
+        sink.onViolation(violation, intentName, slotName);
+        return 1;
+    }
+
+    /**
+     * Builds the slot table of each intent, holding the parser of each slot with a built-in type.
+     */
+    private static Map<String, Map<String, SlotPropertyReader<?>>> compile(Model model) {
+        Map<Class<?>, SlotPropertyReader<?>> parsers = new HashMap<>();
+        Map<String, Map<String, SlotPropertyReader<?>>> intents = new HashMap<>();
+        for (IntentDefinition intentDefinition : model.getIntentDefinitions().values()) {
+            Map<String, SlotPropertyReader<?>> slots = new HashMap<>();
+            for (Map.Entry<String, SlotTypeDefinition> slot : intentDefinition.getSlots().entrySet()) {
+                slots.put(slot.getKey(), parsers.computeIfAbsent(slot.getValue().getSlotTypeClass(), slotTypeClass -> parserOf(slot.getValue())));
+            }
+            intents.put(intentDefinition.getName(), slots);
+        }
+        return intents;
+    }
+
+    private static SlotPropertyReader<?> parserOf(SlotTypeDefinition slotType) {
+        if (slotType.isCustom()) {
+            return ANY_VALUE;
+        }
+        com.amazon.ask.interaction.annotation.data.SlotPropertyReader parser = Utils.findAnnotation(slotType.getSlotTypeClass(), com.amazon.ask.interaction.annotation.data.SlotPropertyReader.class);
+        return parser == null ? ANY_VALUE : Utils.instantiate(parser.value());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Model model;
+        private ModelViolationSink sink;
+        private boolean reject;
+
+        private Builder() {
+        }
+
+        public Builder withModel(Model model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder withSink(ModelViolationSink sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * @param reject if true, requests with violations are rejected with an {@link InvalidIntentRequestException}
+         * @return this builder
+         */
+        public Builder withReject(boolean reject) {
+            this.reject = reject;
+            return this;
+        }
+
+        public ModelRequestValidator build() {
+            return new ModelRequestValidator(model, sink, reject);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+/**
+ * Kinds of mismatch between an {@link com.amazon.ask.model.IntentRequest} and the skill's model.
+ *
+ * @see ModelRequestValidator
+ */
+public enum ModelViolation {
+    /**
+     * The intent is not defined in the model
+     */
+    UNKNOWN_INTENT,
+
+    /**
+     * The slot is not defined on the intent
+     */
+    UNKNOWN_SLOT,
+
+    /**
+     * A slot defined on the intent is absent from the request
+     */
+    MISSING_SLOT,
+
+    /**
+     * The value of a built-in slot type can not be parsed
+     */
+    INVALID_SLOT_VALUE
+}
@@ -0,0 +1,102 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Counts violations per kind, and per intent or slot, for export to metrics.
+ *
+ * Intent and slot names come from requests, so at most {@code maxKeys} distinct names are counted per kind;
+ * violations of further names only count towards the total of their kind.
+ */
+public class ModelViolationCounters implements ModelViolationSink {
+    private static final int DEFAULT_MAX_KEYS = 1000;
+
+    private final int maxKeys;
+    private final Map<ModelViolation, LongAdder> totals = new EnumMap<>(ModelViolation.class);
+    private final Map<ModelViolation, Map<String, LongAdder>> counts = new EnumMap<>(ModelViolation.class);
+
+    public ModelViolationCounters() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * @param maxKeys maximum number of distinct intent or slot names counted per kind of violation
+     */
+    public ModelViolationCounters(int maxKeys) {
+        this.maxKeys = assertIsPositive(maxKeys, "maxKeys");
+        for (ModelViolation violation : ModelViolation.values()) {
+            totals.put(violation, new LongAdder());
+            counts.put(violation, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void onViolation(ModelViolation violation, String intentName, String slotName) {
+        totals.get(assertNotNull(violation, "violation")).increment();
+
+        Map<String, LongAdder> byKey = counts.get(violation);
+        String key = key(intentName, slotName);
+        LongAdder count = byKey.get(key);
+        if (count == null) {
+            if (byKey.size() >= maxKeys) {
+                return;
+            }
+            count = byKey.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * @param violation kind of violation
+     * @return number of violations of this kind
+     */
+    public long getCount(ModelViolation violation) {
+        return totals.get(assertNotNull(violation, "violation")).sum();
+    }
+
+    /**
+     * @param violation kind of violation
+     * @param intentName name of the intent
+     * @param slotName name of the slot, or null for violations concerning the intent
+     * @return number of violations of this kind for the intent or slot
+     */
+    public long getCount(ModelViolation violation, String intentName, String slotName) {
+        LongAdder count = counts.get(assertNotNull(violation, "violation")).get(key(intentName, slotName));
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @param violation kind of violation
+     * @return snapshot of the counts of this kind, keyed by intent name or {@code intent.slot}
+     */
+    public Map<String, Long> getCounts(ModelViolation violation) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.get(assertNotNull(violation, "violation")).forEach((key, count) -> snapshot.put(key, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private static String key(String intentName, String slotName) {
+        return slotName == null ? String.valueOf(intentName) : intentName + "." + slotName;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+/**
+ * Receives the violations found by a {@link ModelRequestValidator}. Called from request threads, so implementations
+ * must be thread safe and cheap.
+ *
+ * @see ModelViolationCounters
+ */
+public interface ModelViolationSink {
+    /**
+     * @param violation kind of violation
+     * @param intentName name of the requested intent
+     * @param slotName name of the offending slot, or null if the violation concerns the intent
+     */
+    void onViolation(ModelViolation violation, String intentName, String slotName);
+}
@@ -14,6 +14,7 @@
 package com.amazon.ask.interaction;
 
 import com.amazon.ask.interaction.annotation.type.Intent;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.junit.Test;
 
@@ -21,6 +22,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Objects;
 
 import static org.junit.Assert.*;
@@ -150,6 +153,57 @@ public class TypeReflectorTest {
         new TypeReflector<>(TestClass.class).getAnnotation("missing", PropertyAnnotation.class);
     }
 
+    @Test
+    public void testPropertyAnnotationPrecedence() {
+        TypeReflector<TestAnnotatedAccessors> reflector = new TypeReflector<>(TestAnnotatedAccessors.class);
+        assertEquals("field", reflector.getAnnotation("value", AccessorAnnotation.class).value());
+        assertEquals("getter", reflector.getAnnotation("other", AccessorAnnotation.class).value());
+        assertEquals("setter", reflector.getAnnotation("last", AccessorAnnotation.class).value());
+        assertNull(reflector.getAnnotation("value", PropertyAnnotation.class));
+    }
+
+    @Test
+    public void testSuperclassFieldAnnotation() {
+        assertEquals("Test", new TypeReflector<>(TestSubClass.class).getAnnotation("value", PropertyAnnotation.class).value());
+    }
+
+    @Test
+    public void testInterfaceGetterAnnotation() {
+        assertEquals("getter", new TypeReflector<>(TestInterface.class).getAnnotation("value", AccessorAnnotation.class).value());
+    }
+
+    @Test
+    public void testSharedReflectors() {
+        assertSame(TypeReflector.of(TestClass.class), TypeReflector.of(TestClass.class));
+        assertEquals(new TypeReflector<>(TestClass.class), TypeReflector.of(TestClass.class));
+
+        TypeReflector<TestGeneric> strings = TypeReflector.of(TypeFactory.defaultInstance().constructParametricType(TestGeneric.class, String.class));
+        TypeReflector<TestGeneric> integers = TypeReflector.of(TypeFactory.defaultInstance().constructParametricType(TestGeneric.class, Integer.class));
+        assertNotSame(strings, integers);
+        assertSame(strings, TypeReflector.of(TypeFactory.defaultInstance().constructParametricType(TestGeneric.class, String.class)));
+        assertEquals(String.class, strings.reifyPropertyType("value"));
+        assertEquals(Integer.class, integers.reifyPropertyType("value"));
+    }
+
+    @Test
+    public void testReflectorsOfOtherLoaderParametersAreNotShared() throws Exception {
+        URL classes = TypeReflectorTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null)) {
+            Class<?> foreign = loader.loadClass(TestClass.class.getName());
+            assertNotSame(TestClass.class, foreign);
+
+            JavaType type = TypeFactory.defaultInstance().constructParametricType(TestGeneric.class, foreign);
+            TypeReflector<TestGeneric> reflector = TypeReflector.of(type);
+            assertNotSame(reflector, TypeReflector.of(type));
+            assertEquals(foreign, reflector.reifyPropertyType("value"));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedReflectorsAreImmutable() {
+        TypeReflector.of(TestClass.class).getPropertyDescriptors().clear();
+    }
+
     @Test
     public void testReifyProperty() {
         TypeReflector<TestGeneric> reflector = new TypeReflector<>(
@@ -175,6 +229,12 @@ public class TypeReflectorTest {
         String value();
     }
 
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD})
+    @interface AccessorAnnotation {
+        String value();
+    }
+
     @Intent("Test")
     public static class TestClass {
         @PropertyAnnotation("Test")
@@ -256,4 +316,48 @@ public class TypeReflectorTest {
             this.value = value;
         }
     }
+
+    public static class TestSubClass extends TestClass {
+    }
+
+    public interface TestInterface {
+        @AccessorAnnotation("getter")
+        String getValue();
+    }
+
+    public static class TestAnnotatedAccessors {
+        @AccessorAnnotation("field")
+        private String value;
+        private String other;
+        private String last;
+
+        @AccessorAnnotation("getter")
+        public String getValue() {
+            return value;
+        }
+
+        @AccessorAnnotation("setter")
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        @AccessorAnnotation("getter")
+        public String getOther() {
+            return other;
+        }
+
+        @AccessorAnnotation("setter")
+        public void setOther(String other) {
+            this.other = other;
+        }
+
+        public String getLast() {
+            return last;
+        }
+
+        @AccessorAnnotation("setter")
+        public void setLast(String last) {
+            this.last = last;
+        }
+    }
 }
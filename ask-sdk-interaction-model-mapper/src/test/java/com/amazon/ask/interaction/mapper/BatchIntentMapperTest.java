@@ -0,0 +1,144 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.mapper.batch.BatchIntentMapper;
+import com.amazon.ask.interaction.mapper.batch.IntentRequestLogReader;
+import com.amazon.ask.interaction.mapper.batch.MappedIntent;
+import com.amazon.ask.interaction.types.intent.CancelIntent;
+import com.amazon.ask.interaction.types.intent.StopIntent;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentRequest;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchIntentMapperTest {
+    private final IntentMapper intentMapper = IntentMapper.fromModel(Model.builder()
+        .intent(CancelIntent.class)
+        .intent(StopIntent.class)
+        .build());
+
+    @Test
+    public void testCollectInRequestOrder() {
+        List<IntentRequest> requests = IntStream.range(0, 10000)
+            .mapToObj(i -> request("request" + i, i % 2 == 0 ? "AMAZON.CancelIntent" : "AMAZON.StopIntent"))
+            .collect(Collectors.toList());
+
+        List<MappedIntent> results = new BatchIntentMapper(intentMapper).collect(requests.stream(), Collectors.toList());
+
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals(requests.get(i), results.get(i).getRequest());
+            assertTrue(results.get(i).isMapped());
+            assertEquals(i % 2 == 0 ? new CancelIntent() : new StopIntent(), results.get(i).getIntent());
+        }
+    }
+
+    @Test
+    public void testCaptureErrorPerRequest() {
+        List<MappedIntent> results = new BatchIntentMapper(intentMapper).collect(Stream.of(
+            request("known", "AMAZON.CancelIntent"),
+            request("unknown", "UnknownIntent")), Collectors.toList());
+
+        assertTrue(results.get(0).getIntent(CancelIntent.class).isPresent());
+        assertFalse(results.get(1).isMapped());
+        assertNull(results.get(1).getIntent());
+        assertTrue(results.get(1).getError() instanceof UnrecognizedIntentException);
+    }
+
+    @Test
+    public void testMapOnPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            new BatchIntentMapper(intentMapper, pool).forEach(
+                IntStream.range(0, 10000).mapToObj(i -> request("request" + i, "AMAZON.CancelIntent")),
+                result -> threads.add(Thread.currentThread().getName()));
+
+            assertFalse(threads.isEmpty());
+            assertTrue(threads.toString(), threads.stream().allMatch(thread -> thread.startsWith("ForkJoinPool-")));
+            assertFalse(threads.stream().anyMatch(thread -> thread.contains("commonPool")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReadLogSkippingOtherRequests() throws Exception {
+        String log = "{\"version\":\"1.0\",\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"first\",\"locale\":\"en-US\",\"intent\":{\"name\":\"AMAZON.CancelIntent\"}}}\n"
+            + "{\"version\":\"1.0\",\"request\":{\"type\":\"LaunchRequest\",\"requestId\":\"launch\",\"locale\":\"en-US\"}}\n"
+            + "\n"
+            + "{\"version\":\"1.0\",\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"second\",\"locale\":\"en-US\",\"intent\":{\"name\":\"AMAZON.StopIntent\"}}}\n";
+
+        try (IntentRequestLogReader reader = new IntentRequestLogReader(new StringReader(log))) {
+            List<MappedIntent> results = new BatchIntentMapper(intentMapper).collect(reader.spliterator(), Collectors.toList());
+
+            assertEquals(2, results.size());
+            assertEquals("first", results.get(0).getRequest().getRequestId());
+            assertEquals(new CancelIntent(), results.get(0).getIntent());
+            assertEquals("second", results.get(1).getRequest().getRequestId());
+            assertEquals(new StopIntent(), results.get(1).getIntent());
+        }
+    }
+
+    @Test
+    public void testReadLogInBatches() throws Exception {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            log.append("{\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"request").append(i)
+                .append("\",\"intent\":{\"name\":\"AMAZON.CancelIntent\"}}}\n");
+        }
+
+        try (IntentRequestLogReader reader = new IntentRequestLogReader(new StringReader(log.toString()),
+                new com.fasterxml.jackson.databind.ObjectMapper(), 64)) {
+            List<String> ids = new ArrayList<>();
+            reader.stream().parallel().map(IntentRequest::getRequestId).forEachOrdered(ids::add);
+
+            assertEquals(1000, ids.size());
+            assertEquals("request0", ids.get(0));
+            assertEquals("request999", ids.get(999));
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testMalformedLog() throws Exception {
+        try (IntentRequestLogReader reader = new IntentRequestLogReader(new StringReader("{\"request\":"))) {
+            reader.stream().count();
+        }
+    }
+
+    private static IntentRequest request(String requestId, String intentName) {
+        return IntentRequest.builder()
+            .withRequestId(requestId)
+            .withIntent(Intent.builder().withName(intentName).withSlots(Collections.emptyMap()).build())
+            .build();
+    }
+}
@@ -13,6 +13,7 @@
 
 package com.amazon.ask.interaction.mapper;
 
+import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.model.Slot;
 import com.amazon.ask.model.slu.entityresolution.Resolution;
 import com.amazon.ask.model.slu.entityresolution.Resolutions;
@@ -20,11 +21,15 @@ import com.amazon.ask.model.slu.entityresolution.Status;
 import com.amazon.ask.model.slu.entityresolution.StatusCode;
 import com.amazon.ask.model.slu.entityresolution.ValueWrapper;
 import com.amazon.ask.model.slu.entityresolution.Value;
+import com.amazon.ask.interaction.data.model.SlotTypeData;
 import com.amazon.ask.interaction.mapper.slot.EnumCustomSlotReader;
+import com.amazon.ask.interaction.mapper.slot.EnumSlotValueIndex;
+import com.amazon.ask.interaction.model.SlotValue;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
 
@@ -33,6 +38,15 @@ public class EnumCustomSlotReaderTest {
 
     private final EnumCustomSlotReader<TestEnum> underTest = new EnumCustomSlotReader<>(TestEnum.class);
 
+    private final EnumCustomSlotReader<TestEnum> indexed = new EnumCustomSlotReader<>(TestEnum.class,
+        EnumSlotValueIndex.builder(TestEnum.class)
+            .addValues(Locale.US, SlotTypeData.builder()
+                .addValue("A", SlotValue.builder().withValue("apple").withSynonyms(Arrays.asList("Granny Smith", "b")).build())
+                .addValue("B", SlotValue.builder().withValue("banana").withSynonyms(Collections.emptyList()).build())
+                .addValue("C", SlotValue.builder().withValue("cherry").withSynonyms(Collections.emptyList()).build())
+                .build())
+            .build());
+
     @Test
     public void testParseValue() throws IntentParseException {
         assertEquals(TestEnum.A, underTest.read(null, slot("A")));
@@ -44,6 +58,63 @@ public class EnumCustomSlotReaderTest {
         underTest.read(null, slot("unknown"));
     }
 
+    @Test
+    public void testParseIndexedValueAndSynonymIgnoringCase() throws IntentParseException {
+        assertEquals(TestEnum.A, indexed.read(request("en-US"), slot("Apple")));
+        assertEquals(TestEnum.A, indexed.read(request("en-US"), slot("granny smith")));
+        assertEquals(TestEnum.B, indexed.read(request("en-US"), slot("BANANA")));
+        assertEquals(TestEnum.A, indexed.read(request("en-US"), slot("a")));
+    }
+
+    @Test
+    public void testIdTakesPrecedenceOverSynonym() throws IntentParseException {
+        assertEquals(TestEnum.B, indexed.read(request("en-US"), slot("b")));
+    }
+
+    @Test(expected = SlotValueParseException.class)
+    public void testIdWithoutConstantIsIgnored() throws IntentParseException {
+        indexed.read(request("en-US"), slot("cherry"));
+    }
+
+    @Test(expected = SlotValueParseException.class)
+    public void testConstantNameIsCaseSensitiveWithoutLocales() throws IntentParseException {
+        underTest.read(request("en-US"), slot("a"));
+    }
+
+    @Test(expected = SlotValueParseException.class)
+    public void testConstantNameIsCaseSensitiveInUnindexedLocale() throws IntentParseException {
+        indexed.read(request("de-DE"), slot("a"));
+    }
+
+    @Test
+    public void testParseExactConstantNameInUnindexedLocale() throws IntentParseException {
+        assertEquals(TestEnum.A, indexed.read(request("de-DE"), slot("A")));
+        assertEquals(TestEnum.B, indexed.read(null, slot("B")));
+    }
+
+    @Test(expected = SlotValueParseException.class)
+    public void testSynonymOfOtherLocaleIsNotMatched() throws IntentParseException {
+        indexed.read(request("de-DE"), slot("apple"));
+    }
+
+    @Test
+    public void testParseSynonymIfMatchedResolutionIdIsUnknown() throws SlotValueParseException {
+        Slot slot = Slot.builder()
+            .withValue("apple")
+            .withResolutions(Resolutions.builder()
+                .withResolutionsPerAuthority(Arrays.asList(
+                    resolution("unknown", StatusCode.ER_SUCCESS_MATCH)
+                ))
+                .build())
+            .build();
+
+        assertEquals(TestEnum.A, indexed.read(request("en-US"), slot));
+    }
+
+    private static IntentRequest request(String locale) {
+        return IntentRequest.builder().withLocale(locale).build();
+    }
+
     private static Slot slot(String value) {
         return Slot.builder()
             .withResolutions(Resolutions.builder()
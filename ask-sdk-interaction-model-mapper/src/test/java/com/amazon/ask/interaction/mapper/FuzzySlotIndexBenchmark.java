@@ -0,0 +1,118 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzySlotIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures misspelled values matched per second against a catalog of generated values, sharing one index between
+ * threads. Run with the GC profiler to report bytes allocated per search (gc.alloc.rate.norm):
+ * <code>mvn -Pbenchmark test-compile exec:exec</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Threads(4)
+public class FuzzySlotIndexBenchmark {
+    private static final String CONSONANTS = "bcdfghjklmnprstvwz";
+    private static final String VOWELS = "aeiou";
+    private static final int QUERIES = 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    public int values;
+
+    private FuzzySlotIndex index;
+    private String[] queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        FuzzySlotIndex.Builder builder = FuzzySlotIndex.builder();
+        List<String> catalog = new ArrayList<>(values);
+        for (int i = 0; i < values; i++) {
+            String value = value(random);
+            catalog.add(value);
+            builder.addValue("VALUE_" + i, value);
+        }
+        index = builder.build();
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = misspell(catalog.get(random.nextInt(values)), random);
+        }
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(index.search(query, 5, 0.3));
+        }
+    }
+
+    /**
+     * Generates one to three pronounceable words of two to four syllables.
+     */
+    private static String value(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int words = 1 + random.nextInt(3);
+        for (int word = 0; word < words; word++) {
+            if (word > 0) {
+                builder.append(' ');
+            }
+            int syllables = 2 + random.nextInt(3);
+            for (int syllable = 0; syllable < syllables; syllable++) {
+                builder.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())))
+                    .append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Replaces one letter, as a speech recognizer might mishear it.
+     */
+    private static String misspell(String value, Random random) {
+        char[] chars = value.toCharArray();
+        int position;
+        do {
+            position = random.nextInt(chars.length);
+        } while (chars[position] == ' ');
+        chars[position] = VOWELS.indexOf(chars[position]) >= 0
+            ? VOWELS.charAt(random.nextInt(VOWELS.length()))
+            : CONSONANTS.charAt(random.nextInt(CONSONANTS.length()));
+        return new String(chars);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.data.model.SlotTypeData;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzyMatch;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzyMatches;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzySlotIndex;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzySlotReader;
+import com.amazon.ask.interaction.model.SlotValue;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.slu.entityresolution.Resolution;
+import com.amazon.ask.model.slu.entityresolution.Resolutions;
+import com.amazon.ask.model.slu.entityresolution.Status;
+import com.amazon.ask.model.slu.entityresolution.StatusCode;
+import com.amazon.ask.model.slu.entityresolution.Value;
+import com.amazon.ask.model.slu.entityresolution.ValueWrapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FuzzySlotReaderTest {
+    private static final SlotTypeData CATALOG = SlotTypeData.builder()
+        .addValue("ESPRESSO", SlotValue.builder().withValue("Espresso").withSynonyms(Arrays.asList("short black")).build())
+        .addValue("CAPPUCCINO", SlotValue.builder().withValue("Cappuccino").withSynonyms(Collections.emptyList()).build())
+        .addValue("FLAT_WHITE", SlotValue.builder().withValue("Flat White").withSynonyms(Collections.emptyList()).build())
+        .addValue("MACCHIATO", SlotValue.builder().withValue("Latte Macchiato").withSynonyms(Arrays.asList("macchiato")).build())
+        .build();
+
+    private final FuzzySlotIndex index = FuzzySlotIndex.builder().addValues(CATALOG).build();
+
+    @Test
+    public void testExactValueScoresOne() {
+        List<FuzzyMatch> matches = index.search("flat white", 5, 0.3);
+        assertEquals(new FuzzyMatch("FLAT_WHITE", "Flat White", 1.0), matches.get(0));
+    }
+
+    @Test
+    public void testMisspelledValue() {
+        assertEquals("ESPRESSO", index.search("expresso", 5, 0.3).get(0).getId());
+        assertEquals("CAPPUCCINO", index.search("capuchino", 5, 0.3).get(0).getId());
+    }
+
+    @Test
+    public void testSynonymIgnoringCaseAndPunctuation() {
+        FuzzyMatch best = index.search("Short-Black!", 5, 0.3).get(0);
+        assertEquals("ESPRESSO", best.getId());
+        assertEquals("short black", best.getValue());
+        assertEquals(1.0, best.getScore(), 0.0);
+    }
+
+    @Test
+    public void testOneMatchPerIdBestFirst() {
+        List<FuzzyMatch> matches = index.search("macchiato", 5, 0.0);
+        assertEquals("MACCHIATO", matches.get(0).getId());
+        assertEquals("macchiato", matches.get(0).getValue());
+        assertEquals(matches.size(), matches.stream().map(FuzzyMatch::getId).distinct().count());
+        for (int i = 1; i < matches.size(); i++) {
+            assertTrue(matches.get(i - 1).getScore() >= matches.get(i).getScore());
+        }
+    }
+
+    @Test
+    public void testLimits() {
+        assertTrue(index.search("a", 1, 0.0).size() <= 1);
+        assertTrue(index.search("zzzz", 5, 0.3).isEmpty());
+        assertTrue(index.search("", 5, 0.0).isEmpty());
+        assertTrue(index.search(null, 5, 0.0).isEmpty());
+    }
+
+    @Test
+    public void testConcurrentSearches() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<String> search = () -> index.search("capuccino", 5, 0.3).get(0).getId();
+            List<Future<String>> results = executor.invokeAll(IntStream.range(0, 100).mapToObj(i -> search).collect(Collectors.toList()));
+            for (Future<String> result : results) {
+                assertEquals("CAPPUCCINO", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testReaderSearchesIndexOfRequestLocale() throws SlotValueParseException {
+        FuzzySlotReader reader = FuzzySlotReader.builder()
+            .addValues(Locale.US, CATALOG)
+            .withMaxResults(2)
+            .build();
+
+        FuzzyMatches matches = reader.read(request("en-US"), slot("flat wite", StatusCode.ER_SUCCESS_NO_MATCH));
+        assertEquals(Optional.of("FLAT_WHITE"), matches.getBest().map(FuzzyMatch::getId));
+        assertTrue(matches.getMatches().size() <= 2);
+
+        assertFalse(reader.read(request("de-DE"), slot("flat wite", StatusCode.ER_SUCCESS_NO_MATCH)).getBest().isPresent());
+    }
+
+    @Test
+    public void testReaderReturnsResolvedMatch() throws SlotValueParseException {
+        FuzzySlotReader reader = FuzzySlotReader.builder().addValues(Locale.US, CATALOG).build();
+
+        FuzzyMatches matches = reader.read(request("en-US"), slot("flat wite", StatusCode.ER_SUCCESS_MATCH));
+        assertEquals(Collections.singletonList(new FuzzyMatch("FLAT_WHITE", "Flat White", 1.0)), matches.getMatches());
+    }
+
+    private static IntentRequest request(String locale) {
+        return IntentRequest.builder().withLocale(locale).build();
+    }
+
+    private static Slot slot(String value, StatusCode code) {
+        return Slot.builder()
+            .withName("drink")
+            .withValue(value)
+            .withResolutions(Resolutions.builder()
+                .withResolutionsPerAuthority(Collections.singletonList(Resolution.builder()
+                    .withStatus(Status.builder().withCode(code).build())
+                    .withValues(Collections.singletonList(ValueWrapper.builder()
+                        .withValue(Value.builder().withId("FLAT_WHITE").withName("Flat White").build())
+                        .build()))
+                    .build()))
+                .build())
+            .build();
+    }
+}
@@ -19,7 +19,14 @@ import com.amazon.ask.model.SlotConfirmationStatus;
 import com.amazon.ask.model.slu.entityresolution.Resolutions;
 import com.amazon.ask.interaction.annotation.data.SlotProperty;
 import com.amazon.ask.interaction.annotation.type.Intent;
+import com.amazon.ask.interaction.data.model.SlotTypeData;
+import com.amazon.ask.interaction.definition.IntentDefinition;
 import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.mapper.intent.IntentReader;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzyMatch;
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.interaction.mapper.slot.fuzzy.FuzzyMatches;
+import com.amazon.ask.interaction.model.SlotValue;
 import com.amazon.ask.interaction.stubs.*;
 import com.amazon.ask.interaction.types.intent.*;
 import com.amazon.ask.interaction.types.slot.AmazonDuration;
@@ -229,6 +236,130 @@ public class IntentMapperTest {
         Model.builder().intent(TestIntentUnsupportedType.class).build();
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnreadableIntentFailsOnBuild() {
+        IntentMapper.fromModel(Model.builder().intent(TestUnreadableIntent.class).build());
+    }
+
+    @Test
+    public void testReadersAreCompiledOnBuild() throws IntentParseException {
+        IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().intent(TestNullSlot.class).build());
+
+        IntentReader<TestNullSlot> reader = intentMapper.intentReaderFor(TestNullSlot.class);
+        assertSame(reader, intentMapper.intentReaderFor(TestNullSlot.class));
+        assertTrue(intentMapper.parseIntent(makeRequest("TestNullSlot", Collections.singletonMap("slot", null))) instanceof TestNullSlot);
+    }
+
+    @Test
+    public void testSubclassHooksRunAfterConstruction() throws IntentParseException {
+        AliasingIntentMapper intentMapper = new AliasingIntentMapper(Model.builder().intent(TestNullSlot.class).build(), "Alias");
+        intentMapper.compileReaders();
+
+        assertTrue(intentMapper.slotClasses.contains(AmazonDate.class));
+        assertTrue(intentMapper.parseIntent(makeRequest("Alias", Collections.singletonMap("slot", null))) instanceof TestNullSlot);
+        assertTrue(intentMapper.tryParseIntent(makeRequest("Alias", Collections.singletonMap("slot", null))).isSuccess());
+    }
+
+    @Test
+    public void testEnumSlotResolvesLocalizedSynonyms() throws IntentParseException {
+        Model model = Model.builder()
+            .intent(TestIntent.class)
+            .slotType(TestCustomEnum.class, context -> SlotTypeData.builder()
+                .addValue("A", SlotValue.builder()
+                    .withValue(Locale.GERMANY.equals(context.getLocale()) ? "Apfel" : "Apple")
+                    .withSynonyms(Collections.emptyList())
+                    .build())
+                .build())
+            .build();
+        IntentMapper intentMapper = IntentMapper.builder()
+            .withModel(model)
+            .addLocale(Locale.US)
+            .addLocale(Locale.GERMANY)
+            .build();
+
+        assertEquals(TestCustomEnum.A, intentMapper.parseIntentSlot(makeRequest("en-US", "TestIntent", Collections.singletonMap("testCustomEnumSlot", "apple")), "testCustomEnumSlot"));
+        assertEquals(TestCustomEnum.A, intentMapper.parseIntentSlot(makeRequest("de-DE", "TestIntent", Collections.singletonMap("testCustomEnumSlot", "APFEL")), "testCustomEnumSlot"));
+        assertEquals(TestCustomEnum.B, intentMapper.parseIntentSlot(makeRequest("de-DE", "TestIntent", Collections.singletonMap("testCustomEnumSlot", "b")), "testCustomEnumSlot"));
+    }
+
+    @Test
+    public void testFuzzySlotMatchesDeclaredSlotType() throws IntentParseException {
+        Model model = Model.builder()
+            .intent(TestFuzzyIntent.class)
+            .slotType(TestCustomEnum.class, context -> SlotTypeData.builder()
+                .addValue("A", SlotValue.builder().withValue("Apple").withSynonyms(Collections.emptyList()).build())
+                .addValue("B", SlotValue.builder().withValue("Banana").withSynonyms(Collections.emptyList()).build())
+                .build())
+            .build();
+        IntentMapper intentMapper = IntentMapper.builder()
+            .withModel(model)
+            .addLocale(Locale.US)
+            .build();
+
+        FuzzyMatches matches = ((TestFuzzyIntent) intentMapper.parseIntent(makeRequest("en-US", "TestFuzzyIntent", Collections.singletonMap("slot", "banan")))).getSlot();
+        assertEquals(Optional.of("B"), matches.getBest().map(FuzzyMatch::getId));
+        assertEquals("banan", matches.getSlot().getValue());
+    }
+
+    @Test
+    public void testFuzzySlotWithoutSlotTypeFails() {
+        IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().build());
+        try {
+            intentMapper.intentReaderFor(TestUntypedFuzzyIntent.class);
+            fail("Expected " + IllegalArgumentException.class.getName());
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains("must declare its slot type"));
+        }
+    }
+
+    @Test
+    public void testTryParseIntentReportsEverySlotError() {
+        IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().intent(TestIntent.class).build());
+        Map<String, String> values = new HashMap<>();
+        for (String slot : Arrays.asList("dayOfWeekSlot", "durationSlot", "literalSlot", "dateSlot", "timeSlot",
+                "testCustomSlot", "testCustomEnumSlot", "numberSlot", "listTypeSlot", "slot")) {
+            values.put(slot, null);
+        }
+        values.put("numberSlot", "many");
+        values.put("testCustomEnumSlot", "Z");
+
+        IntentParseResult<Object> result = intentMapper.tryParseIntent(makeRequest("TestIntent", values));
+
+        assertFalse(result.isSuccess());
+        assertFalse(result.getValue().isPresent());
+        assertFalse(result.getError().isPresent());
+        assertEquals(new HashSet<>(Arrays.asList("numberSlot", "testCustomEnumSlot")), result.getSlotErrors().keySet());
+        assertEquals("many", result.getSlotErrors().get("numberSlot").getSlot().getValue());
+
+        values.put("numberSlot", "1");
+        values.put("testCustomEnumSlot", "A");
+        TestIntent intent = (TestIntent) intentMapper.tryParseIntent(makeRequest("TestIntent", values)).getValue().get();
+        assertEquals(TestCustomEnum.A, intent.getTestCustomEnumSlot());
+    }
+
+    @Test
+    public void testTryParseUnrecognizedIntent() {
+        IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().intent(StopIntent.class).build());
+
+        IntentParseResult<Object> result = intentMapper.tryParseIntent(makeRequest("missing"));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getError().get() instanceof UnrecognizedIntentException);
+        assertTrue(result.getSlotErrors().isEmpty());
+        assertTrue(intentMapper.tryParseIntentSlot(makeRequest("AMAZON.StopIntent"), "slot").getError().get() instanceof UnrecognizedSlotException);
+    }
+
+    @Test
+    public void testParseExceptionsAreStackless() {
+        IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().build());
+        try {
+            intentMapper.parseIntent(makeRequest("missing"));
+            fail("Expected " + UnrecognizedIntentException.class.getName());
+        } catch (IntentParseException ex) {
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
     private static <T extends StandardIntent> IntentRequest makeRequest(Class<T> clazz) {
         return makeRequest("AMAZON." + clazz.getSimpleName(), Collections.emptyMap());
     }
@@ -236,6 +367,9 @@ public class IntentMapperTest {
         return makeRequest(intentName, Collections.emptyMap());
     }
     private static IntentRequest makeRequest(String intentName, Map<String, String> slots) {
+        return makeRequest(null, intentName, slots);
+    }
+    private static IntentRequest makeRequest(String locale, String intentName, Map<String, String> slots) {
         com.amazon.ask.model.Intent.Builder intentBuilder = com.amazon.ask.model.Intent.builder().withName(intentName);
 
         Map<String, Slot> slotsValues = new HashMap<>();
@@ -253,6 +387,7 @@ public class IntentMapperTest {
 
         return IntentRequest.builder()
             .withRequestId("requestId")
+            .withLocale(locale)
             .withIntent(intentBuilder.build())
             .build();
     }
@@ -285,6 +420,70 @@ public class IntentMapperTest {
         YesIntent.class
     );
 
+    @Intent
+    public static class TestUnreadableIntent {
+        private String unknown;
+
+        public String getUnknown() {
+            return unknown;
+        }
+
+        public void setUnknown(String unknown) {
+            this.unknown = unknown;
+        }
+    }
+
+    private static class AliasingIntentMapper extends IntentMapper {
+        private final String alias;
+        private final List<Class<?>> slotClasses = new ArrayList<>();
+
+        private AliasingIntentMapper(Model model, String alias) {
+            super(model, Collections.emptyMap(), Collections.emptyMap());
+            this.alias = alias;
+        }
+
+        @Override
+        public <T> SlotPropertyReader slotReaderFor(Class<T> slotClass) {
+            slotClasses.add(slotClass);
+            return super.slotReaderFor(slotClass);
+        }
+
+        @Override
+        protected IntentDefinition getIntentDefinition(IntentRequest intentRequest) throws UnrecognizedIntentException {
+            return alias.equals(intentRequest.getIntent().getName())
+                ? super.getIntentDefinition(makeRequest("TestNullSlot"))
+                : super.getIntentDefinition(intentRequest);
+        }
+    }
+
+    @Intent
+    public static class TestFuzzyIntent {
+        @SlotProperty(type = TestCustomEnum.class)
+        private FuzzyMatches slot;
+
+        public FuzzyMatches getSlot() {
+            return slot;
+        }
+
+        public void setSlot(FuzzyMatches slot) {
+            this.slot = slot;
+        }
+    }
+
+    @Intent
+    public static class TestUntypedFuzzyIntent {
+        @SlotProperty
+        private FuzzyMatches slot;
+
+        public FuzzyMatches getSlot() {
+            return slot;
+        }
+
+        public void setSlot(FuzzyMatches slot) {
+            this.slot = slot;
+        }
+    }
+
     @Intent
     public static class TestNullSlot {
         @SlotProperty
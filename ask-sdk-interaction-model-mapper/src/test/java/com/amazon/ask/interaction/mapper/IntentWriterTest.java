@@ -0,0 +1,118 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.mapper.intent.IntentWriter;
+import com.amazon.ask.interaction.stubs.TestCustomEnum;
+import com.amazon.ask.interaction.stubs.TestIntent;
+import com.amazon.ask.interaction.stubs.TestIntentUnsupportedType;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentConfirmationStatus;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.SlotConfirmationStatus;
+import com.amazon.ask.model.slu.entityresolution.Resolutions;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class IntentWriterTest {
+    private final IntentMapper intentMapper = IntentMapper.fromModel(Model.builder().intent(TestIntent.class).build());
+
+    @Test
+    public void testWriteReadIntent() throws IntentParseException {
+        Map<String, String> values = new HashMap<>();
+        values.put("literalSlot", "hello world");
+        values.put("numberSlot", "42");
+        values.put("testCustomSlot", "custom");
+        values.put("testCustomEnumSlot", "B");
+        values.put("listTypeSlot", "sam");
+        values.put("dateSlot", "2017-12-25");
+        values.put("durationSlot", "PT1H");
+        values.put("timeSlot", "10:30");
+        values.put("dayOfWeekSlot", "monday");
+        values.put("slot", "raw");
+        IntentRequest request = makeRequest(values);
+
+        Intent intent = intentMapper.intentWriterFor(TestIntent.class).write(intentMapper.parseIntent(request, TestIntent.class));
+
+        assertEquals("TestIntent", intent.getName());
+        assertEquals(IntentConfirmationStatus.NONE, intent.getConfirmationStatus());
+        assertEquals(request.getIntent().getSlots().keySet(), intent.getSlots().keySet());
+        for (Slot slot : request.getIntent().getSlots().values()) {
+            Slot written = intent.getSlots().get(slot.getName());
+            assertEquals(slot.getName(), written.getName());
+            assertEquals(slot.getValue(), written.getValue());
+        }
+        // slots read into built-in types are written as received
+        assertSame(request.getIntent().getSlots().get("numberSlot"), intent.getSlots().get("numberSlot"));
+    }
+
+    @Test
+    public void testWriteNullSlotsAndConfirmationStatus() {
+        TestIntent testIntent = new TestIntent();
+        testIntent.setIntentConfirmationStatus(IntentConfirmationStatus.CONFIRMED);
+        testIntent.setTestCustomEnumSlot(TestCustomEnum.A);
+
+        Intent intent = intentMapper.intentWriterFor(TestIntent.class).write(testIntent);
+
+        assertEquals(IntentConfirmationStatus.CONFIRMED, intent.getConfirmationStatus());
+        assertEquals("A", intent.getSlots().get("testCustomEnumSlot").getValue());
+        assertEquals(SlotConfirmationStatus.NONE, intent.getSlots().get("testCustomEnumSlot").getConfirmationStatus());
+        assertEquals("numberSlot", intent.getSlots().get("numberSlot").getName());
+        assertNull(intent.getSlots().get("numberSlot").getValue());
+        assertEquals(SlotConfirmationStatus.NONE, intent.getSlots().get("numberSlot").getConfirmationStatus());
+    }
+
+    @Test
+    public void testWritersAreCached() {
+        IntentWriter<TestIntent> writer = intentMapper.intentWriterFor(TestIntent.class);
+        assertSame(writer, intentMapper.intentWriterFor(TestIntent.class));
+
+        TestIntent testIntent = new TestIntent();
+        testIntent.setTestCustomEnumSlot(TestCustomEnum.B);
+        assertSame(writer.write(testIntent).getSlots().get("testCustomEnumSlot"),
+            writer.write(testIntent).getSlots().get("testCustomEnumSlot"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedSlotType() {
+        intentMapper.intentWriterFor(TestIntentUnsupportedType.class);
+    }
+
+    private static IntentRequest makeRequest(Map<String, String> slots) {
+        Map<String, Slot> slotsValues = new HashMap<>();
+        for (Map.Entry<String, String> entry : slots.entrySet()) {
+            slotsValues.put(entry.getKey(), Slot.builder()
+                .withName(entry.getKey())
+                .withValue(entry.getValue())
+                .withResolutions(Resolutions.builder()
+                    .withResolutionsPerAuthority(Collections.emptyList())
+                    .build())
+                .withConfirmationStatus(SlotConfirmationStatus.CONFIRMED)
+                .build());
+        }
+        return IntentRequest.builder()
+            .withRequestId("requestId")
+            .withIntent(Intent.builder().withName("TestIntent").withSlots(slotsValues).build())
+            .build();
+    }
+}
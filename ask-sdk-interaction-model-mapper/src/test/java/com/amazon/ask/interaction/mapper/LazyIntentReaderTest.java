@@ -0,0 +1,141 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.annotation.data.SlotProperty;
+import com.amazon.ask.interaction.annotation.data.SlotPropertyReader;
+import com.amazon.ask.interaction.annotation.type.Intent;
+import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.mapper.slot.AmazonNumberParser;
+import com.amazon.ask.interaction.types.slot.AmazonNumber;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class LazyIntentReaderTest {
+    private final IntentMapper mapper = IntentMapper.fromModel(Model.builder().intent(TestLazyIntent.class).build());
+
+    @Before
+    public void reset() {
+        CountingNumberParser.READS.set(0);
+    }
+
+    @Test
+    public void testSlotsAreParsedOnFirstAccess() throws IntentParseException {
+        TestLazyIntent intent = (TestLazyIntent) mapper.parseIntent(request("1", "2"));
+        assertEquals(0, CountingNumberParser.READS.get());
+
+        assertEquals(1, intent.getFirst().getNumber());
+        assertEquals(1, intent.getFirst().getNumber());
+        assertEquals(1, CountingNumberParser.READS.get());
+
+        assertEquals(2, intent.getSecond().getNumber());
+        assertEquals(2, CountingNumberParser.READS.get());
+    }
+
+    @Test
+    public void testParseFailureOnAccess() throws IntentParseException {
+        TestLazyIntent intent = mapper.parseIntent(request("1", "not a number"), TestLazyIntent.class);
+
+        assertEquals(1, intent.getFirst().getNumber());
+        try {
+            intent.getSecond();
+            fail("Expected " + IllegalStateException.class.getName());
+        } catch (IllegalStateException ex) {
+            assertEquals(SlotValueParseException.class, ex.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void testObjectMethods() throws IntentParseException {
+        TestLazyIntent intent = (TestLazyIntent) mapper.parseIntent(request("1", "2"));
+        TestLazyIntent same = (TestLazyIntent) mapper.parseIntent(request("1", "2"));
+
+        assertEquals(intent, intent);
+        assertEquals(System.identityHashCode(intent), intent.hashCode());
+        assertNotEquals(intent, same);
+        assertFalse(intent.equals(null));
+        assertEquals("TestLazyIntent{first=<unresolved>, second=<unresolved>}", intent.toString());
+        assertEquals(0, CountingNumberParser.READS.get());
+
+        assertEquals("TestLazyIntent{first=" + intent.getFirst() + ", second=<unresolved>}", intent.toString());
+    }
+
+    @Test
+    public void testObjectMethodsDoNotParseInvalidSlots() throws IntentParseException {
+        TestLazyIntent intent = (TestLazyIntent) mapper.parseIntent(request("1", "not a number"));
+
+        assertEquals(intent, intent);
+        intent.hashCode();
+        assertEquals("TestLazyIntent{first=<unresolved>, second=<unresolved>}", intent.toString());
+        assertEquals(0, CountingNumberParser.READS.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMethodWithoutReader() {
+        IntentMapper.fromModel(Model.builder().intent(TestInvalidLazyIntent.class).build());
+    }
+
+    private static IntentRequest request(String first, String second) {
+        Map<String, Slot> slots = new HashMap<>();
+        slots.put("first", Slot.builder().withName("first").withValue(first).build());
+        slots.put("second", Slot.builder().withName("second").withValue(second).build());
+        return IntentRequest.builder()
+            .withRequestId("id")
+            .withIntent(com.amazon.ask.model.Intent.builder()
+                .withName("TestLazyIntent")
+                .withSlots(slots)
+                .build())
+            .build();
+    }
+
+    @Intent
+    public interface TestLazyIntent {
+        @SlotProperty
+        @SlotPropertyReader(CountingNumberParser.class)
+        AmazonNumber getFirst();
+
+        @SlotProperty
+        @SlotPropertyReader(CountingNumberParser.class)
+        AmazonNumber getSecond();
+    }
+
+    @Intent
+    public interface TestInvalidLazyIntent {
+        @SlotProperty
+        AmazonNumber getFirst();
+
+        AmazonNumber first(String name);
+    }
+
+    public static class CountingNumberParser extends AmazonNumberParser {
+        static final AtomicInteger READS = new AtomicInteger();
+
+        @Override
+        public AmazonNumber read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            READS.incrementAndGet();
+            return super.read(intentRequest, slot);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.interaction.types.slot.AmazonDuration;
+import com.amazon.ask.interaction.types.slot.AmazonNumber;
+import com.amazon.ask.interaction.types.slot.FourDigitNumber;
+import com.amazon.ask.interaction.types.slot.date.*;
+import com.amazon.ask.interaction.types.slot.time.AbsoluteTime;
+import com.amazon.ask.interaction.types.slot.time.AmazonTime;
+import com.amazon.ask.interaction.types.slot.time.RelativeTime;
+import com.amazon.ask.interaction.types.slot.time.TimeOfDay;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The regular expression based slot value parsers the single-pass parsers replaced, kept as the reference for
+ * {@link SlotParserDifferentialTest} and the baseline of {@link SlotParserBenchmark}.
+ */
+final class RegexSlotParsers {
+    private RegexSlotParsers() {
+    }
+
+    static class DateParser implements SlotPropertyReader<AmazonDate> {
+        private static final String PRESENT_REF = "PRESENT_REF";
+        private static final Pattern SPECIFIC_PATTERN = Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$");
+        private static final Pattern WEEK_PATTERN = Pattern.compile("^([0-9]{4})-W([0-4][0-9]|5[0-2]+)$");
+        private static final Pattern WEEKEND_PATTERN = Pattern.compile("^([0-9]{4})-W([0-4][0-9]|5[0-2]+)-WE$");
+        private static final Pattern MONTH_PATTERN = Pattern.compile("^([0-9]{4})-(0[0-9]|1[0-2])$");
+        private static final Pattern YEAR_PATTERN = Pattern.compile("^([0-9]{4})$");
+        private static final Pattern DECADE_PATTERN = Pattern.compile("^([0-9]{2})([0-9])X$");
+        private static final Pattern SEASON_PATTERN = Pattern.compile("^([0-9]{4})-(WI|SP|SU|FA)$");
+
+        @Override
+        public AmazonDate read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            AmazonDate parsed = null;
+            try {
+                if (slot.getValue().equals(PRESENT_REF)) {
+                    parsed = new PresentRef(slot, LocalDateTime.now());
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, SPECIFIC_PATTERN, matcher -> new SpecificDate(slot, LocalDate.parse(matcher.group())));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, WEEK_PATTERN, matcher -> new WeekDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, WEEKEND_PATTERN, matcher -> new WeekendDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, MONTH_PATTERN, matcher -> new MonthDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, YEAR_PATTERN, matcher -> new YearDate(slot, getInt(matcher, 1)));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, DECADE_PATTERN, matcher -> new DecadeDate(slot, getInt(matcher, 1), getInt(matcher, 2)));
+                }
+                if (parsed == null) {
+                    parsed = tryParse(slot, SEASON_PATTERN, matcher -> new SeasonDate(slot, getInt(matcher, 1), Season.valueOf(matcher.group(2))));
+                }
+            } catch (DateTimeParseException ex) {
+                throw new SlotValueParseException(slot, AmazonDate.class, ex);
+            }
+
+            if (parsed == null) {
+                throw new SlotValueParseException(slot, AmazonDate.class);
+            }
+
+            return parsed;
+        }
+
+        private static int getInt(Matcher matcher, int index) {
+            return Integer.valueOf(matcher.group(index));
+        }
+
+        private static <T extends AmazonDate> T tryParse(Slot slot, Pattern pattern, Function<Matcher, T> parse) {
+            Matcher matcher = pattern.matcher(slot.getValue());
+            if (matcher.matches()) {
+                return parse.apply(matcher);
+            }
+            return null;
+        }
+    }
+
+    static class DurationParser implements SlotPropertyReader<AmazonDuration> {
+        private static final Pattern SPLIT_PATTERN = Pattern.compile("T");
+
+        @Override
+        public AmazonDuration read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            String value = slot.getValue();
+            String[] split = SPLIT_PATTERN.split(value, 2);
+            try {
+                if (split.length == 1) {
+                    return new AmazonDuration(slot, Period.parse(value), Duration.ZERO);
+                } else {
+                    Period p;
+                    if (split[0].equals("P")) p = Period.ZERO;
+                    else p = Period.parse(split[0]);
+
+                    return new AmazonDuration(slot, p, Duration.parse("PT" + split[1]));
+                }
+            } catch (DateTimeParseException ex) {
+                throw new SlotValueParseException(slot, AmazonDuration.class, ex);
+            }
+        }
+    }
+
+    static class TimeParser implements SlotPropertyReader<AmazonTime> {
+        @Override
+        public AmazonTime read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            String value = slot.getValue();
+            try {
+                if (value.length() == 2) {
+                    return new RelativeTime(slot, TimeOfDay.valueOf(value));
+                } else {
+                    return new AbsoluteTime(slot, LocalTime.parse(value));
+                }
+            } catch (DateTimeParseException | IllegalArgumentException ex) {
+                throw new SlotValueParseException(slot, AmazonTime.class, ex);
+            }
+        }
+    }
+
+    static class NumberParser implements SlotPropertyReader<AmazonNumber> {
+        @Override
+        public AmazonNumber read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            try {
+                return new AmazonNumber(slot, Long.valueOf(slot.getValue()));
+            } catch (NumberFormatException ex) {
+                throw new SlotValueParseException(slot, AmazonNumber.class, ex);
+            }
+        }
+    }
+
+    static class FourDigitNumberParser implements SlotPropertyReader<FourDigitNumber> {
+        private static final Pattern REGEX = Pattern.compile("^([0-9])([0-9])([0-9])([0-9])$");
+
+        @Override
+        public FourDigitNumber read(IntentRequest intentRequest, Slot slot) throws SlotValueParseException {
+            Matcher matcher = REGEX.matcher(slot.getValue());
+            if (matcher.matches()) {
+                return new FourDigitNumber(
+                    slot,
+                    Integer.valueOf(matcher.group(1)),
+                    Integer.valueOf(matcher.group(2)),
+                    Integer.valueOf(matcher.group(3)),
+                    Integer.valueOf(matcher.group(4))
+                );
+            } else {
+                throw new SlotValueParseException(slot, FourDigitNumber.class);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.mapper.slot.AmazonDateParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonDurationParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonNumberParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonTimeParser;
+import com.amazon.ask.interaction.mapper.slot.FourDigitNumberParser;
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.model.Slot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures slot values read per second by the single-pass parsers, against the regular expression based parsers
+ * they replaced. Run with the GC profiler to report bytes allocated per read (gc.alloc.rate.norm):
+ * <code>mvn -Pbenchmark test-compile exec:exec</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SlotParserBenchmark {
+    @Param({"regex", "scanner"})
+    public String parser;
+
+    @Param({"AMAZON.DATE", "AMAZON.DURATION", "AMAZON.TIME", "AMAZON.NUMBER", "AMAZON.FOUR_DIGIT_NUMBER"})
+    public String slotType;
+
+    private SlotPropertyReader<?> reader;
+    private Slot[] slots;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean regex = "regex".equals(parser);
+        String[] values;
+        switch (slotType) {
+            case "AMAZON.DATE":
+                reader = regex ? new RegexSlotParsers.DateParser() : new AmazonDateParser();
+                values = new String[] {"2018-11-24", "2018-W48", "2018-W48-WE", "2018-11", "2018", "201X", "2018-WI"};
+                break;
+            case "AMAZON.DURATION":
+                reader = regex ? new RegexSlotParsers.DurationParser() : new AmazonDurationParser();
+                values = new String[] {"P1D", "PT10M", "P2DT3H", "P1Y2M3W4DT5H6M7S"};
+                break;
+            case "AMAZON.TIME":
+                reader = regex ? new RegexSlotParsers.TimeParser() : new AmazonTimeParser();
+                values = new String[] {"07:30", "18:00", "NI", "23:59"};
+                break;
+            case "AMAZON.NUMBER":
+                reader = regex ? new RegexSlotParsers.NumberParser() : new AmazonNumberParser();
+                values = new String[] {"7", "42", "-15", "1000000"};
+                break;
+            case "AMAZON.FOUR_DIGIT_NUMBER":
+                reader = regex ? new RegexSlotParsers.FourDigitNumberParser() : new FourDigitNumberParser();
+                values = new String[] {"0042", "1234", "9999", "2018"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown slot type " + slotType);
+        }
+
+        slots = new Slot[values.length];
+        for (int i = 0; i < values.length; i++) {
+            slots[i] = Slot.builder().withName("slot").withValue(values[i]).build();
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws Exception {
+        for (Slot slot : slots) {
+            blackhole.consume(reader.read(null, slot));
+        }
+    }
+}
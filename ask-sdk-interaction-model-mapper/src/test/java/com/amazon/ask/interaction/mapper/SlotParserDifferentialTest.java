@@ -0,0 +1,179 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.mapper;
+
+import com.amazon.ask.interaction.mapper.slot.AmazonDateParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonDurationParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonNumberParser;
+import com.amazon.ask.interaction.mapper.slot.AmazonTimeParser;
+import com.amazon.ask.interaction.mapper.slot.FourDigitNumberParser;
+import com.amazon.ask.interaction.mapper.slot.SlotPropertyReader;
+import com.amazon.ask.interaction.types.slot.date.PresentRef;
+import com.amazon.ask.model.Slot;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Checks the single-pass slot value parsers behave exactly like the regular expression based parsers they replaced,
+ * over hand-picked edge cases and a generated corpus.
+ */
+public class SlotParserDifferentialTest {
+    private static final String ALPHABET = "0123456789-:+.,PTYMWDHSXEIUFAREF ";
+
+    @Test
+    public void testDate() {
+        List<String> corpus = corpus(
+            null, "", "PRESENT_REF", "PRESENT_REF ", "2018", "201", "20181", "201X", "000X", "990X", "20X", "2A1X",
+            "2018-01", "2018-00", "2018-12", "2018-13", "2018-1", "2018-WI", "2018-SP", "2018-SU", "2018-FA", "2018-WA",
+            "2018-01-01", "2018-02-29", "2016-02-29", "2018-04-31", "2018-00-10", "2018-13-01", "0000-01-01",
+            "2018-1-01", "2018/01/01", "2018-01-01T", "2018-W01", "2018-W1", "2018-W00", "2018-W49", "2018-W50",
+            "2018-W52", "2018-W53", "2018-W60", "2018-W522", "2018-W5222222222", "2018-W52222222222",
+            "2018-W01-WE", "2018-W52-WE", "2018-W53-WE", "2018-W01-W", "2018-W01-WEE", "2018-W01WE", "2018-W-WE",
+            "2018-W01-XE", "\u0662\u0660\u0661\u0668", "2018-\u0660\u0661");
+        for (int month = 0; month <= 13; month++) {
+            for (int day = 0; day <= 32; day++) {
+                corpus.add(String.format("2016-%02d-%02d", month, day));
+                corpus.add(String.format("2100-%02d-%02d", month, day));
+            }
+        }
+        for (int week = 0; week <= 99; week++) {
+            corpus.add(String.format("2018-W%02d", week));
+            corpus.add(String.format("2018-W%02d-WE", week));
+        }
+        generate(corpus, "2018-", 10);
+        assertSameBehavior(new RegexSlotParsers.DateParser(), new AmazonDateParser(), corpus);
+    }
+
+    @Test
+    public void testDuration() {
+        List<String> corpus = corpus(
+            null, "", "P", "PT", "T", "P1", "P1D", "P1DT", "PT1H", "P1DT1H", "P1Y2M3W4DT5H6M7S", "P1W", "P1W1D",
+            "P1D1W", "P1Y1Y", "PT1H1H", "PT1M1H", "P1M", "PT1M", "PT1S", "PT1.5S", "PT1,5S", "P-1D", "P+1D", "-P1D",
+            "PT-1H", "p1d", "P1d", "pt1h", "PT1h", "P1DT1H1", "PTT1H", "P1DTT1H", "P00D", "PT00H", "P0D", "PT0S",
+            "P12345678D", "P123456789D", "PT99999999H", "PT999999999999H", "P2147483647Y", "P2147483648Y",
+            "1T2T3", "PINVALIDT0H", "PINVALID", "PTINVALIDH", "P1YT", "P1Y2M", "P1HT1D", "PT1D", "P\u0661D");
+        Random random = new Random(42);
+        String[] units = {"Y", "M", "W", "D"};
+        String[] timeUnits = {"H", "M", "S"};
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder("P");
+            for (String unit : units) {
+                if (random.nextBoolean()) {
+                    builder.append(random.nextInt(1000)).append(unit);
+                }
+            }
+            if (random.nextBoolean()) {
+                builder.append('T');
+                for (String unit : timeUnits) {
+                    if (random.nextBoolean()) {
+                        builder.append(random.nextInt(100000)).append(unit);
+                    }
+                }
+            }
+            corpus.add(builder.toString());
+        }
+        generate(corpus, "P", 10);
+        assertSameBehavior(new RegexSlotParsers.DurationParser(), new AmazonDurationParser(), corpus);
+    }
+
+    @Test
+    public void testTime() {
+        List<String> corpus = corpus(
+            null, "", "MO", "AF", "EV", "NI", "mo", "XX", "M", "00:00", "23:59", "24:00", "12:60", "1:00", "01:0",
+            "12:00:00", "12:00:60", "12:00:00.5", "12-00", "T12:00", "\u0661\u0662:00");
+        for (int hour = 0; hour <= 25; hour++) {
+            for (int minute = 0; minute <= 61; minute++) {
+                corpus.add(String.format("%02d:%02d", hour, minute));
+            }
+        }
+        generate(corpus, "", 6);
+        assertSameBehavior(new RegexSlotParsers.TimeParser(), new AmazonTimeParser(), corpus);
+    }
+
+    @Test
+    public void testNumber() {
+        List<String> corpus = corpus(
+            null, "", "-", "+", "0", "-0", "+0", "007", "12", "-12", "+12", "1.5", "1,000", " 1", "1 ",
+            "999999999999999999", "-999999999999999999", "1000000000000000000", "9223372036854775807",
+            "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "0000000000000000000001",
+            "\u0661\u0662", "--1", "+-1");
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            corpus.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+        }
+        generate(corpus, "", 20);
+        assertSameBehavior(new RegexSlotParsers.NumberParser(), new AmazonNumberParser(), corpus);
+    }
+
+    @Test
+    public void testFourDigitNumber() {
+        List<String> corpus = corpus(
+            null, "", "1", "123", "1234", "0000", "12345", "-123", "12.3", "123X", "\u0661\u0662\u0663\u0664");
+        for (int i = 0; i <= 9999; i += 7) {
+            corpus.add(String.format("%04d", i));
+        }
+        generate(corpus, "", 6);
+        assertSameBehavior(new RegexSlotParsers.FourDigitNumberParser(), new FourDigitNumberParser(), corpus);
+    }
+
+    private static List<String> corpus(String... values) {
+        return new ArrayList<>(Arrays.asList(values));
+    }
+
+    /**
+     * Adds random strings of the characters the parsers classify on, with and without a valid prefix.
+     */
+    private static void generate(List<String> corpus, String prefix, int maxLength) {
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder(random.nextBoolean() ? prefix : "");
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            corpus.add(builder.toString());
+        }
+    }
+
+    private static <T> void assertSameBehavior(SlotPropertyReader<T> expected, SlotPropertyReader<T> actual, List<String> corpus) {
+        for (String value : corpus) {
+            Slot slot = Slot.builder().withName("test").withValue(value).build();
+            Object expectedOutcome = outcome(expected, slot);
+            Object actualOutcome = outcome(actual, slot);
+            assertEquals("'" + value + "'", expectedOutcome, actualOutcome);
+        }
+    }
+
+    /**
+     * @return the value read, or a description of the failure comparable across parsers
+     */
+    private static Object outcome(SlotPropertyReader<?> reader, Slot slot) {
+        try {
+            Object value = reader.read(null, slot);
+            assertNotNull(value);
+            // the present reference is read at the current time
+            return value instanceof PresentRef ? PresentRef.class : value;
+        } catch (Exception ex) {
+            // helpful null pointer messages name the parser's own variables
+            return Arrays.asList(ex.getClass(), ex instanceof NullPointerException ? null : ex.getMessage());
+        }
+    }
+}
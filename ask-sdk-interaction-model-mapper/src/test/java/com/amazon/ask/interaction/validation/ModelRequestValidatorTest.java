@@ -0,0 +1,157 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.interaction.validation;
+
+import com.amazon.ask.dispatcher.request.handler.HandlerInput;
+import com.amazon.ask.interaction.definition.Model;
+import com.amazon.ask.interaction.stubs.TestIntent;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.LaunchRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Slot;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ModelRequestValidatorTest {
+    private final Model model = Model.builder().intent(TestIntent.class).build();
+    private final ModelViolationCounters counters = new ModelViolationCounters();
+    private final ModelRequestValidator validator = ModelRequestValidator.builder()
+        .withModel(model)
+        .withSink(counters)
+        .build();
+
+    @Test
+    public void testValidRequest() {
+        assertEquals(0, validator.validate(request("TestIntent", validSlots())));
+        for (ModelViolation violation : ModelViolation.values()) {
+            assertEquals(0, counters.getCount(violation));
+        }
+    }
+
+    @Test
+    public void testUnfilledSlotsAreValid() {
+        Map<String, String> slots = validSlots();
+        slots.replaceAll((name, value) -> null);
+        assertEquals(0, validator.validate(request("TestIntent", slots)));
+    }
+
+    @Test
+    public void testUnknownIntent() {
+        assertEquals(1, validator.validate(request("RenamedIntent", validSlots())));
+        assertEquals(1, counters.getCount(ModelViolation.UNKNOWN_INTENT));
+        assertEquals(1, counters.getCount(ModelViolation.UNKNOWN_INTENT, "RenamedIntent", null));
+        assertEquals(0, counters.getCount(ModelViolation.UNKNOWN_SLOT));
+    }
+
+    @Test
+    public void testUnknownAndMissingSlots() {
+        Map<String, String> slots = validSlots();
+        slots.remove("numberSlot");
+        slots.put("renamedSlot", "value");
+
+        assertEquals(2, validator.validate(request("TestIntent", slots)));
+        assertEquals(1, counters.getCount(ModelViolation.UNKNOWN_SLOT, "TestIntent", "renamedSlot"));
+        assertEquals(1, counters.getCount(ModelViolation.MISSING_SLOT, "TestIntent", "numberSlot"));
+    }
+
+    @Test
+    public void testInvalidBuiltInSlotValues() {
+        Map<String, String> slots = validSlots();
+        slots.put("numberSlot", "twelve");
+        slots.put("dateSlot", "2018-13-45");
+        slots.put("durationSlot", "5 minutes");
+        slots.put("timeSlot", "noon");
+        slots.put("dayOfWeekSlot", "someday");
+        slots.put("literalSlot", "anything goes");
+        slots.put("testCustomEnumSlot", "not a value");
+
+        assertEquals(5, validator.validate(request("TestIntent", slots)));
+        assertEquals(5, counters.getCount(ModelViolation.INVALID_SLOT_VALUE));
+        assertEquals(1, counters.getCount(ModelViolation.INVALID_SLOT_VALUE, "TestIntent", "dateSlot"));
+        assertEquals(0, counters.getCount(ModelViolation.INVALID_SLOT_VALUE, "TestIntent", "literalSlot"));
+        assertEquals(0, counters.getCount(ModelViolation.INVALID_SLOT_VALUE, "TestIntent", "testCustomEnumSlot"));
+    }
+
+    @Test
+    public void testRejectingInterceptor() {
+        ModelRequestValidator rejecting = ModelRequestValidator.builder()
+            .withModel(model)
+            .withSink(counters)
+            .withReject(true)
+            .build();
+
+        rejecting.process(input(request("TestIntent", validSlots())));
+        rejecting.process(input(LaunchRequest.builder().build()));
+        try {
+            rejecting.process(input(request("RenamedIntent", validSlots())));
+            fail("Expected " + InvalidIntentRequestException.class.getName());
+        } catch (InvalidIntentRequestException ex) {
+            assertEquals(1, ex.getViolations());
+        }
+    }
+
+    @Test
+    public void testCountersBoundDistinctNames() {
+        ModelViolationCounters bounded = new ModelViolationCounters(2);
+        for (int i = 0; i < 5; i++) {
+            bounded.onViolation(ModelViolation.UNKNOWN_INTENT, "Intent" + i, null);
+        }
+        bounded.onViolation(ModelViolation.UNKNOWN_INTENT, "Intent0", null);
+
+        assertEquals(6, bounded.getCount(ModelViolation.UNKNOWN_INTENT));
+        assertEquals(2, bounded.getCounts(ModelViolation.UNKNOWN_INTENT).size());
+        assertEquals(2, bounded.getCount(ModelViolation.UNKNOWN_INTENT, "Intent0", null));
+    }
+
+    private static Map<String, String> validSlots() {
+        Map<String, String> slots = new HashMap<>();
+        slots.put("literalSlot", "hello world");
+        slots.put("numberSlot", "42");
+        slots.put("testCustomSlot", "custom");
+        slots.put("testCustomEnumSlot", "VALUE");
+        slots.put("listTypeSlot", "sam");
+        slots.put("dateSlot", "2018-07-01");
+        slots.put("durationSlot", "PT5M");
+        slots.put("timeSlot", "10:30");
+        slots.put("dayOfWeekSlot", "monday");
+        slots.put("slot", "raw");
+        return slots;
+    }
+
+    private static IntentRequest request(String intentName, Map<String, String> slots) {
+        Map<String, Slot> requestSlots = new HashMap<>();
+        slots.forEach((name, value) -> requestSlots.put(name, Slot.builder().withName(name).withValue(value).build()));
+        return IntentRequest.builder()
+            .withIntent(Intent.builder()
+                .withName(intentName)
+                .withSlots(requestSlots)
+                .build())
+            .build();
+    }
+
+    private static HandlerInput input(Request request) {
+        HandlerInput input = mock(HandlerInput.class);
+        when(input.getRequestEnvelope()).thenReturn(RequestEnvelope.builder().withRequest(request).build());
+        return input;
+    }
+}
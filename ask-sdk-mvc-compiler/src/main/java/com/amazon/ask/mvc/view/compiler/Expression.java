@@ -0,0 +1,39 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import com.squareup.javapoet.CodeBlock;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Java expression evaluating a template placeholder, and its static type.
+ */
+final class Expression {
+    private final CodeBlock code;
+    private final TypeMirror type;
+
+    Expression(CodeBlock code, TypeMirror type) {
+        this.code = code;
+        this.type = type;
+    }
+
+    CodeBlock getCode() {
+        return code;
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+}
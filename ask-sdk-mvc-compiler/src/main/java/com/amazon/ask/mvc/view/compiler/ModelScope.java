@@ -0,0 +1,226 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Session;
+import com.amazon.ask.mvc.view.ViewModel;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Resolves placeholder paths against the model attributes declared for a template.
+ *
+ * Each step of a path is assigned to a local variable, and skipped when the previous step is null. Properties of
+ * maps are entries, properties of {@link Object} values are read reflectively at render time, and properties of any
+ * other type must be a public getter or no-argument method, or compilation fails.
+ */
+final class ModelScope {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final Elements elements;
+    private final Types types;
+    private final Map<String, TypeMirror> attributes;
+    private final TypeMirror objectType;
+    private final TypeMirror mapType;
+    private int variables;
+
+    ModelScope(Elements elements, Types types, Map<String, TypeMirror> attributes) {
+        this.elements = assertNotNull(elements, "elements");
+        this.types = assertNotNull(types, "types");
+        this.attributes = assertNotNull(attributes, "attributes");
+        this.objectType = typeOf(Object.class);
+        this.mapType = types.erasure(typeOf(Map.class));
+    }
+
+    /**
+     * Declares the value of a path as local variables of the body.
+     *
+     * @param path dot-separated path
+     * @param body code the variables are declared in
+     * @param pointer location of the path in the template
+     * @return expression reading the value of the path
+     * @throws TemplateException if the path can not be resolved
+     */
+    Expression resolve(String path, CodeBlock.Builder body, String pointer) throws TemplateException {
+        String[] segments = path.split("\\.", -1);
+        for (String segment : segments) {
+            if (!IDENTIFIER.matcher(segment).matches()) {
+                throw new TemplateException(pointer, String.format("invalid path '%s'", path));
+            }
+        }
+
+        Expression current = root(segments[0], pointer);
+        String variable = declare(current, body);
+        for (int i = 1; i < segments.length; i++) {
+            Expression step = step(variable, current.getType(), segments[i], pointer);
+            String next = variable();
+            body.addStatement("$T $L = $L == null ? null : $L", TypeName.get(step.getType()), next, variable, step.getCode());
+            current = step;
+            variable = next;
+        }
+        return new Expression(CodeBlock.of("$L", variable), current.getType());
+    }
+
+    /**
+     * @param type type of an expression
+     * @return true if values of the type are strings
+     */
+    boolean isString(TypeMirror type) {
+        return types.isSameType(type, typeOf(String.class));
+    }
+
+    /**
+     * @param type type of an expression
+     * @return true if values of the type are booleans
+     */
+    boolean isBoolean(TypeMirror type) {
+        return types.isSameType(type, typeOf(Boolean.class));
+    }
+
+    /**
+     * @param type type of an expression
+     * @return true if the type is {@link Object}, whose values are only known when rendering
+     */
+    boolean isObject(TypeMirror type) {
+        return types.isSameType(type, objectType);
+    }
+
+    /**
+     * @param type type of an expression
+     * @param target class of a response property
+     * @return true if values of the type can be bound to the property
+     */
+    boolean isAssignable(TypeMirror type, Class<?> target) {
+        TypeMirror targetType = target.isPrimitive()
+            ? types.boxedClass(types.getPrimitiveType(primitiveKind(target))).asType()
+            : typeOf(target);
+        return targetType != null && types.isAssignable(type, types.erasure(targetType));
+    }
+
+    private Expression root(String name, String pointer) throws TemplateException {
+        TypeMirror declared = attributes.get(name);
+        if (declared != null) {
+            TypeMirror type = boxed(declared);
+            return isObject(type)
+                ? new Expression(CodeBlock.of("model.get($S)", name), type)
+                : new Expression(CodeBlock.of("($T) model.get($S)", TypeName.get(type), name), type);
+        } else if (ViewModel.ENVELOPE.equals(name)) {
+            return new Expression(CodeBlock.of("model.getRequestEnvelope()"), typeOf(RequestEnvelope.class));
+        } else if (ViewModel.REQUEST.equals(name)) {
+            return new Expression(CodeBlock.of("model.getRequestEnvelope().getRequest()"), typeOf(Request.class));
+        } else if (ViewModel.SESSION.equals(name)) {
+            return new Expression(CodeBlock.of("model.getRequestEnvelope().getSession()"), typeOf(Session.class));
+        }
+        throw new TemplateException(pointer, String.format("attribute '%s' is not declared", name));
+    }
+
+    private Expression step(String variable, TypeMirror type, String property, String pointer) throws TemplateException {
+        if (isObject(type)) {
+            return new Expression(CodeBlock.of("property($L, $S)", variable, property), objectType);
+        } else if (type.getKind() != TypeKind.DECLARED) {
+            throw new TemplateException(pointer, String.format("can not read property '%s' of %s", property, type));
+        } else if (types.isAssignable(type, mapType)) {
+            return new Expression(CodeBlock.of("$L.get($S)", variable, property), mapValueType((DeclaredType) type));
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        ExecutableElement accessor = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(element))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                || !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (name.equals("get" + suffix) || name.equals("is" + suffix)) {
+                accessor = method;
+                break;
+            } else if (name.equals(property) && accessor == null) {
+                accessor = method;
+            }
+        }
+        if (accessor == null) {
+            throw new TemplateException(pointer, String.format("%s has no property '%s'", element.getQualifiedName(), property));
+        }
+        TypeMirror returnType = ((ExecutableType) types.asMemberOf(declaredType, accessor)).getReturnType();
+        return new Expression(CodeBlock.of("$L.$N()", variable, accessor.getSimpleName().toString()), boxed(returnType));
+    }
+
+    private TypeMirror mapValueType(DeclaredType type) {
+        if (types.isSameType(types.erasure(type), mapType)) {
+            List<? extends TypeMirror> arguments = type.getTypeArguments();
+            return arguments.size() == 2 ? boxed(arguments.get(1)) : objectType;
+        }
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (supertype.getKind() == TypeKind.DECLARED && types.isAssignable(supertype, mapType)) {
+                return mapValueType((DeclaredType) supertype);
+            }
+        }
+        return objectType;
+    }
+
+    /**
+     * Normalizes a type so it can declare a nullable local variable.
+     */
+    private TypeMirror boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).asType();
+        } else if (type.getKind() == TypeKind.WILDCARD) {
+            TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            return bound == null ? objectType : boxed(bound);
+        } else if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.ARRAY) {
+            return types.erasure(type);
+        }
+        return type;
+    }
+
+    private String declare(Expression expression, CodeBlock.Builder body) {
+        String variable = variable();
+        body.addStatement("$T $L = $L", TypeName.get(expression.getType()), variable, expression.getCode());
+        return variable;
+    }
+
+    private String variable() {
+        return "p" + variables++;
+    }
+
+    private TypeMirror typeOf(Class<?> type) {
+        TypeElement element = elements.getTypeElement(type.getCanonicalName());
+        return element == null ? null : types.erasure(element.asType());
+    }
+
+    private static TypeKind primitiveKind(Class<?> type) {
+        return TypeKind.valueOf(type.getName().toUpperCase());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits template strings into literal text and <code>${path}</code> placeholders.
+ */
+final class Placeholders {
+    private static final String OPEN = "${";
+    private static final String CLOSE = "}";
+
+    private Placeholders() {
+    }
+
+    /**
+     * @param text template string
+     * @param pointer location of the string in the template
+     * @return literal strings and {@link Path}s, in order
+     * @throws TemplateException if a placeholder is empty or not closed
+     */
+    static List<Object> parse(String text, String pointer) throws TemplateException {
+        List<Object> parts = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = text.indexOf(OPEN, start)) >= 0) {
+            int close = text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new TemplateException(pointer, String.format("placeholder at %d is not closed", open));
+            }
+            String path = text.substring(open + OPEN.length(), close).trim();
+            if (path.isEmpty()) {
+                throw new TemplateException(pointer, String.format("placeholder at %d is empty", open));
+            }
+            if (open > start) {
+                parts.add(text.substring(start, open));
+            }
+            parts.add(new Path(path));
+            start = close + CLOSE.length();
+        }
+        if (start < text.length() || parts.isEmpty()) {
+            parts.add(text.substring(start));
+        }
+        return parts;
+    }
+
+    /**
+     * Dot-separated path of a placeholder.
+     */
+    static final class Path {
+        private final String value;
+
+        Path(String value) {
+            this.value = value;
+        }
+
+        String getValue() {
+            return value;
+        }
+    }
+}
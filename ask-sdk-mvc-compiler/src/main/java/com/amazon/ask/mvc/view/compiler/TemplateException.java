@@ -0,0 +1,33 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+/**
+ * Thrown when a response template can not be compiled.
+ */
+public class TemplateException extends Exception {
+    private final String pointer;
+
+    public TemplateException(String pointer, String message) {
+        super(String.format("%s: %s", pointer.isEmpty() ? "/" : pointer, message));
+        this.pointer = pointer;
+    }
+
+    /**
+     * @return JSON pointer to the part of the template in error
+     */
+    public String getPointer() {
+        return pointer;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.view.ViewModel;
+import com.amazon.ask.mvc.view.generated.GeneratedView;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Compiles a response template into the source of a {@link GeneratedView}.
+ *
+ * The template is walked along with the {@link Response} model: each object is built with the builder its class
+ * is deserialized with, and polymorphic objects with the builder of the sub type named by their type property, so
+ * unknown properties and types fail compilation instead of rendering. Properties of type {@link Object}, such as
+ * APL documents, are built as maps and lists.
+ *
+ * Templates use the format of the <code>JsonTemplateViewResolver</code>, except for its <code>#each</code>,
+ * <code>#as</code> and <code>#value</code> directives, which are rejected.
+ */
+final class ViewCompiler {
+    static final String CONDITION = "#if";
+    static final List<String> UNSUPPORTED_DIRECTIVES = Arrays.asList("#each", "#as", "#value");
+
+    private final ModelScope scope;
+    private int variables;
+
+    ViewCompiler(ModelScope scope) {
+        this.scope = assertNotNull(scope, "scope");
+    }
+
+    /**
+     * @param className name of the generated class
+     * @param viewName name of the view
+     * @param template parsed template
+     * @return generated class
+     * @throws TemplateException if the template is invalid
+     */
+    TypeSpec.Builder compile(String className, String viewName, JsonNode template) throws TemplateException {
+        if (!template.isObject()) {
+            throw new TemplateException("", "template must be an object");
+        } else if (template.has(CONDITION)) {
+            throw new TemplateException("/" + CONDITION, "the response can not be conditional");
+        }
+
+        CodeBlock.Builder body = CodeBlock.builder();
+        CodeBlock response = value(template, Response.class, "", body);
+        body.addStatement("return $L", response);
+
+        return TypeSpec.classBuilder(className)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .superclass(GeneratedView.class)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("super($S)", viewName)
+                .build())
+            .addMethod(MethodSpec.methodBuilder("render")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(Response.class)
+                .addParameter(ViewModel.class, "model")
+                .addException(Exception.class)
+                .addCode(body.build())
+                .build());
+    }
+
+    /**
+     * Emits the statements building a value.
+     *
+     * @return expression of the value, or null to leave the property unset
+     */
+    private CodeBlock value(JsonNode node, Type type, String pointer, CodeBlock.Builder body) throws TemplateException {
+        Class<?> raw = rawType(type);
+        if (node.isNull()) {
+            return raw == Object.class ? CodeBlock.of("null") : null;
+        } else if (node.isTextual()) {
+            return text(node.textValue(), raw, pointer, body);
+        } else if (node.isBoolean()) {
+            if (raw != Object.class && raw != Boolean.class && raw != boolean.class) {
+                throw mismatch(pointer, "a boolean", raw);
+            }
+            return CodeBlock.of("$L", node.booleanValue());
+        } else if (node.isNumber()) {
+            return number(node, raw, pointer);
+        } else if (node.isArray()) {
+            if (raw != Object.class && !Collection.class.isAssignableFrom(raw)) {
+                throw mismatch(pointer, "an array", raw);
+            }
+            return list(node, typeArgument(type, 0), pointer, body);
+        } else if (raw == Object.class || Map.class.isAssignableFrom(raw)) {
+            return map(node, raw == Object.class ? Object.class : typeArgument(type, 1), pointer, body);
+        }
+        return object(node, raw, pointer, body);
+    }
+
+    /**
+     * Emits an element of an object or array, guarded by its condition if it has one.
+     */
+    private void element(JsonNode node, Type type, String pointer, CodeBlock.Builder body, Consumer<CodeBlock> sink) throws TemplateException {
+        JsonNode condition = node.isObject() ? node.get(CONDITION) : null;
+        if (condition != null) {
+            body.beginControlFlow("if ($L)", condition(condition, pointer + "/" + CONDITION, body));
+        }
+        CodeBlock value = value(node, type, pointer, body);
+        if (value != null) {
+            sink.accept(value);
+        }
+        if (condition != null) {
+            body.endControlFlow();
+        }
+    }
+
+    private CodeBlock object(JsonNode node, Class<?> type, String pointer, CodeBlock.Builder body) throws TemplateException {
+        Class<?> concrete = concreteType(node, type, pointer);
+        Class<?> builderType = builderType(concrete, pointer);
+        Map<String, Method> setters = setters(builderType);
+        String typeProperty = typeProperty(type);
+
+        String builder = variable("b");
+        body.addStatement("$T $L = $T.builder()", builderType, builder, concrete);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            checkDirective(name, pointer);
+            Method setter = setters.get(name);
+            if (CONDITION.equals(name) || (setter == null && name.equals(typeProperty))) {
+                continue;
+            } else if (setter == null) {
+                throw new TemplateException(pointer + "/" + name, String.format("%s has no property '%s'", concrete.getName(), name));
+            }
+            element(field.getValue(), setter.getGenericParameterTypes()[0], pointer + "/" + name, body,
+                value -> body.addStatement("$L.$N($L)", builder, setter.getName(), value));
+        }
+        return CodeBlock.of("$L.build()", builder);
+    }
+
+    private CodeBlock list(JsonNode node, Type elementType, String pointer, CodeBlock.Builder body) throws TemplateException {
+        String list = variable("l");
+        body.addStatement("$T $L = new $T<>()", ParameterizedTypeName.get(ClassName.get(List.class), typeName(elementType)), list, ArrayList.class);
+        for (int i = 0; i < node.size(); i++) {
+            element(node.get(i), elementType, pointer + "/" + i, body, value -> body.addStatement("$L.add($L)", list, value));
+        }
+        return CodeBlock.of("$L", list);
+    }
+
+    private CodeBlock map(JsonNode node, Type valueType, String pointer, CodeBlock.Builder body) throws TemplateException {
+        String map = variable("m");
+        body.addStatement("$T $L = new $T<>()",
+            ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), typeName(valueType)), map, LinkedHashMap.class);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            checkDirective(field.getKey(), pointer);
+            if (!CONDITION.equals(field.getKey())) {
+                element(field.getValue(), valueType, pointer + "/" + field.getKey(), body,
+                    value -> body.addStatement("$L.put($S, $L)", map, field.getKey(), value));
+            }
+        }
+        return CodeBlock.of("$L", map);
+    }
+
+    private static void checkDirective(String name, String pointer) throws TemplateException {
+        if (UNSUPPORTED_DIRECTIVES.contains(name)) {
+            throw new TemplateException(pointer + "/" + name, String.format("'%s' is not supported by compiled views", name));
+        }
+    }
+
+    private CodeBlock text(String text, Class<?> type, String pointer, CodeBlock.Builder body) throws TemplateException {
+        List<Object> parts = Placeholders.parse(text, pointer);
+        if (parts.size() == 1 && parts.get(0) instanceof Placeholders.Path) {
+            return bind(scope.resolve(((Placeholders.Path) parts.get(0)).getValue(), body, pointer), type, pointer);
+        } else if (parts.stream().noneMatch(part -> part instanceof Placeholders.Path)) {
+            return literal(text, type, pointer);
+        } else if (type != String.class && type != Object.class) {
+            throw mismatch(pointer, "an interpolated string", type);
+        }
+
+        List<CodeBlock> operands = new ArrayList<>();
+        for (Object part : parts) {
+            if (part instanceof Placeholders.Path) {
+                operands.add(CodeBlock.of("text($L)", scope.resolve(((Placeholders.Path) part).getValue(), body, pointer).getCode()));
+            } else {
+                operands.add(CodeBlock.of("$S", part));
+            }
+        }
+        return CodeBlock.join(operands, " + ");
+    }
+
+    /**
+     * Binds the value of a placeholder to a property.
+     */
+    private CodeBlock bind(Expression expression, Class<?> type, String pointer) throws TemplateException {
+        if (type == Object.class) {
+            return expression.getCode();
+        } else if (type == String.class) {
+            return scope.isString(expression.getType()) ? expression.getCode() : CodeBlock.of("string($L)", expression.getCode());
+        } else if (scope.isAssignable(expression.getType(), type)) {
+            return expression.getCode();
+        } else if (scope.isObject(expression.getType())) {
+            return CodeBlock.of("($T) $L", TypeName.get(type).box(), expression.getCode());
+        }
+        throw new TemplateException(pointer, String.format("%s can not be assigned to %s", expression.getType(), type.getName()));
+    }
+
+    private CodeBlock literal(String text, Class<?> type, String pointer) throws TemplateException {
+        if (type == String.class || type == Object.class) {
+            return CodeBlock.of("$S", text);
+        } else if (type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (constant.toString().equals(text) || ((Enum<?>) constant).name().equals(text)) {
+                    return CodeBlock.of("$T.$L", type, ((Enum<?>) constant).name());
+                }
+            }
+            throw new TemplateException(pointer, String.format("'%s' is not a value of %s", text, type.getName()));
+        }
+        try {
+            type.getMethod("parse", CharSequence.class);
+            return CodeBlock.of("$T.parse($S)", type, text);
+        } catch (NoSuchMethodException ex) {
+            throw mismatch(pointer, "a string", type);
+        }
+    }
+
+    private CodeBlock number(JsonNode node, Class<?> type, String pointer) throws TemplateException {
+        if (type == Object.class) {
+            if (node.isInt()) {
+                return CodeBlock.of("$L", node.intValue());
+            } else if (node.isLong()) {
+                return CodeBlock.of("$LL", node.longValue());
+            } else if (node.isBigInteger()) {
+                return CodeBlock.of("new $T($S)", BigInteger.class, node.asText());
+            }
+            return CodeBlock.of("$Ld", node.asText());
+        } else if ((type == Integer.class || type == int.class) && node.canConvertToInt()) {
+            return CodeBlock.of("$L", node.intValue());
+        } else if ((type == Long.class || type == long.class) && node.canConvertToLong()) {
+            return CodeBlock.of("$LL", node.longValue());
+        } else if (type == Double.class || type == double.class) {
+            return CodeBlock.of("$Ld", node.asText());
+        } else if (type == Float.class || type == float.class) {
+            return CodeBlock.of("$Lf", node.asText());
+        } else if (type == BigDecimal.class || type == BigInteger.class) {
+            return CodeBlock.of("new $T($S)", type, node.asText());
+        }
+        throw mismatch(pointer, "the number " + node.asText(), type);
+    }
+
+    private CodeBlock condition(JsonNode node, String pointer, CodeBlock.Builder body) throws TemplateException {
+        if (!node.isTextual()) {
+            throw new TemplateException(pointer, "condition must be a path");
+        }
+        String path = node.textValue().trim();
+        boolean negated = path.startsWith("!");
+        if (negated) {
+            path = path.substring(1).trim();
+        }
+        List<Object> parts = Placeholders.parse(path, pointer);
+        if (parts.size() == 1 && parts.get(0) instanceof Placeholders.Path) {
+            path = ((Placeholders.Path) parts.get(0)).getValue();
+        }
+
+        Expression expression = scope.resolve(path, body, pointer);
+        CodeBlock test = scope.isBoolean(expression.getType())
+            ? CodeBlock.of("$T.TRUE.equals($L)", Boolean.class, expression.getCode())
+            : CodeBlock.of("truthy($L)", expression.getCode());
+        return negated ? CodeBlock.of("!$L", test) : test;
+    }
+
+    /**
+     * Resolves the sub type of a polymorphic class named by the type property of an object.
+     */
+    private static Class<?> concreteType(JsonNode node, Class<?> type, String pointer) throws TemplateException {
+        JsonSubTypes subTypes = type.getAnnotation(JsonSubTypes.class);
+        String typeProperty = typeProperty(type);
+        if (subTypes == null || typeProperty == null) {
+            return type;
+        }
+        JsonNode name = node.get(typeProperty);
+        if (name == null || !name.isTextual()) {
+            throw new TemplateException(pointer, String.format("'%s' is required to build a %s", typeProperty, type.getName()));
+        }
+        for (JsonSubTypes.Type subType : subTypes.value()) {
+            if (subType.name().equals(name.textValue())) {
+                return concreteType(node, subType.value(), pointer);
+            }
+        }
+        throw new TemplateException(pointer + "/" + typeProperty, String.format("unknown %s type '%s'", type.getName(), name.textValue()));
+    }
+
+    private static String typeProperty(Class<?> type) {
+        JsonTypeInfo typeInfo = type.getAnnotation(JsonTypeInfo.class);
+        if (typeInfo == null) {
+            return null;
+        }
+        return typeInfo.property().isEmpty() ? typeInfo.use().getDefaultPropertyName() : typeInfo.property();
+    }
+
+    private static Class<?> builderType(Class<?> type, String pointer) throws TemplateException {
+        JsonDeserialize deserialize = type.getAnnotation(JsonDeserialize.class);
+        if (deserialize == null || deserialize.builder() == Void.class) {
+            throw new TemplateException(pointer, String.format("%s can not be built from a template", type.getName()));
+        }
+        return deserialize.builder();
+    }
+
+    /**
+     * @return builder methods by the name of the property they set
+     */
+    private static Map<String, Method> setters(Class<?> builderType) {
+        Map<String, Method> setters = new HashMap<>();
+        for (Method method : builderType.getMethods()) {
+            if (method.getParameterCount() != 1 || method.getReturnType() != builderType) {
+                continue;
+            }
+            JsonProperty property = method.getAnnotation(JsonProperty.class);
+            if (property != null) {
+                setters.put(property.value(), method);
+            } else if (method.getName().startsWith("with") && method.getName().length() > 4) {
+                String name = method.getName().substring(4);
+                setters.putIfAbsent(Character.toLowerCase(name.charAt(0)) + name.substring(1), method);
+            }
+        }
+        return setters;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[index];
+            if (argument instanceof WildcardType) {
+                return ((WildcardType) argument).getUpperBounds()[0];
+            }
+            return argument;
+        }
+        return Object.class;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return Object.class;
+    }
+
+    private static TypeName typeName(Type type) {
+        return TypeName.get(type instanceof Class || type instanceof ParameterizedType ? type : Object.class).box();
+    }
+
+    private static TemplateException mismatch(String pointer, String value, Class<?> type) {
+        return new TemplateException(pointer, String.format("%s can not be assigned to %s", value, type.getName()));
+    }
+
+    private String variable(String prefix) {
+        return prefix + variables++;
+    }
+}
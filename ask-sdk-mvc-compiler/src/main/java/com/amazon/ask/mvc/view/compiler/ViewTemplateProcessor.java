@@ -0,0 +1,194 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import com.amazon.ask.mvc.annotation.view.ViewAttribute;
+import com.amazon.ask.mvc.annotation.view.ViewTemplate;
+import com.amazon.ask.mvc.annotation.view.ViewTemplates;
+import com.amazon.ask.mvc.view.generated.GeneratedView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compiles the response templates declared with {@link ViewTemplate} into {@link GeneratedView}s, and registers them
+ * as services so they are discovered by {@link com.amazon.ask.mvc.view.generated.GeneratedViewResolver}.
+ *
+ * Templates are read from the class output, where build tools copy resources before compiling, or else from the
+ * source and class paths. Invalid templates are reported as errors on the annotated element.
+ */
+@SupportedAnnotationTypes({
+    "com.amazon.ask.mvc.annotation.view.ViewTemplate",
+    "com.amazon.ask.mvc.annotation.view.ViewTemplates"
+})
+public class ViewTemplateProcessor extends AbstractProcessor {
+    private static final String SERVICES = "META-INF/services/" + GeneratedView.class.getName();
+    private static final StandardLocation[] TEMPLATE_LOCATIONS = {
+        StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH
+    };
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, String> views = new HashMap<>();
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<Element> elements = new LinkedHashSet<>(roundEnv.getElementsAnnotatedWith(ViewTemplate.class));
+        elements.addAll(roundEnv.getElementsAnnotatedWith(ViewTemplates.class));
+        for (Element element : elements) {
+            for (ViewTemplate template : element.getAnnotationsByType(ViewTemplate.class)) {
+                compile(element, template);
+            }
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServices();
+        }
+        return true;
+    }
+
+    private void compile(Element element, ViewTemplate template) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        String className = template.className().isEmpty() ? className(template.name()) : template.className();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        String existing = views.putIfAbsent(template.name(), qualifiedName);
+        if (existing != null) {
+            error(element, "View '%s' is already generated as %s", template.name(), existing);
+            return;
+        }
+
+        try {
+            JsonNode node = mapper.readTree(read(template.template()));
+            ModelScope scope = new ModelScope(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), attributes(template));
+            TypeSpec type = new ViewCompiler(scope)
+                .compile(className, template.name(), node)
+                .addJavadoc("Generated from $S, do not edit.\n", template.template())
+                .addOriginatingElement(element)
+                .build();
+            JavaFile.builder(packageName, type).build().writeTo(processingEnv.getFiler());
+            generated.add(qualifiedName);
+        } catch (TemplateException ex) {
+            error(element, "Invalid template %s at %s", template.template(), ex.getMessage());
+        } catch (IOException ex) {
+            error(element, "Could not read template %s: %s", template.template(), ex.getMessage());
+        }
+    }
+
+    private Map<String, TypeMirror> attributes(ViewTemplate template) {
+        Map<String, TypeMirror> attributes = new HashMap<>();
+        for (ViewAttribute attribute : template.attributes()) {
+            attributes.put(attribute.name(), typeOf(attribute));
+        }
+        return attributes;
+    }
+
+    private TypeMirror typeOf(ViewAttribute attribute) {
+        try {
+            // class values of annotations are only available as mirrors during compilation
+            Class<?> type = attribute.type();
+            return processingEnv.getElementUtils().getTypeElement(type.getCanonicalName()).asType();
+        } catch (MirroredTypeException ex) {
+            return ex.getTypeMirror();
+        }
+    }
+
+    private String read(String location) throws IOException {
+        String relativeName = location.startsWith("/") ? location.substring(1) : location;
+        IOException failure = null;
+        for (StandardLocation templateLocation : TEMPLATE_LOCATIONS) {
+            try {
+                return processingEnv.getFiler().getResource(templateLocation, "", relativeName).getCharContent(true).toString();
+            } catch (IOException ex) {
+                failure = ex;
+            } catch (IllegalArgumentException ex) {
+                // location is not supported by this compiler
+            }
+        }
+        throw failure == null ? new IOException("not found") : failure;
+    }
+
+    /**
+     * Registers the generated views, keeping views registered by an earlier, incremental compilation.
+     */
+    private void writeServices() {
+        Set<String> services = new TreeSet<>(generated);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                reader.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(services::add);
+            }
+        } catch (IOException ex) {
+            // no views registered yet
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Writer writer = file.openWriter()) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not register generated views: " + ex.getMessage());
+        }
+    }
+
+    private void error(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+
+    /**
+     * Derives a class name from a view name, e.g. <code>HelloEnUSView</code> from <code>hello_en_US</code>.
+     */
+    static String className(String viewName) {
+        StringBuilder builder = new StringBuilder();
+        for (String part : viewName.split("[^A-Za-z0-9]+")) {
+            if (!part.isEmpty()) {
+                builder.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        if (builder.length() == 0 || !Character.isJavaIdentifierStart(builder.charAt(0))) {
+            builder.insert(0, "Generated");
+        }
+        return builder.append("View").toString();
+    }
+}
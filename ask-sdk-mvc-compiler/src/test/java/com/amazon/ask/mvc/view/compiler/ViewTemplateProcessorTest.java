@@ -0,0 +1,168 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.compiler;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.dialog.DelegateDirective;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.model.ui.SimpleCard;
+import com.amazon.ask.model.ui.SsmlOutputSpeech;
+import com.amazon.ask.mvc.view.ModelAndView;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.generated.GeneratedView;
+import com.amazon.ask.mvc.view.generated.GeneratedViewResolver;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ViewTemplateProcessorTest {
+    private static final String PACKAGE = "com.amazon.ask.mvc.view.compiler.views";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final RequestEnvelope envelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder().withLocale("en-US").build())
+        .build();
+
+    @Test
+    public void testRenderActive() throws Exception {
+        Response response = render(new Hero("Deadpool", true, Arrays.asList("healing", "humor")));
+
+        assertEquals("<speak>Hello Deadpool, you have 2 powers</speak>", ((SsmlOutputSpeech) response.getOutputSpeech()).getSsml());
+        assertEquals("What now, Deadpool?", ((PlainTextOutputSpeech) response.getReprompt().getOutputSpeech()).getText());
+        assertEquals("en-US", ((SimpleCard) response.getCard()).getTitle());
+        assertEquals("[healing, humor]", ((SimpleCard) response.getCard()).getContent());
+        assertTrue(response.getDirectives() == null || response.getDirectives().isEmpty());
+        assertEquals(true, response.getShouldEndSession());
+    }
+
+    @Test
+    public void testRenderInactive() throws Exception {
+        Response response = render(new Hero("Deadpool", false, Collections.emptyList()));
+
+        assertNull(response.getReprompt());
+        assertEquals(1, response.getDirectives().size());
+        assertTrue(response.getDirectives().get(0) instanceof DelegateDirective);
+        assertEquals(false, response.getShouldEndSession());
+    }
+
+    @Test
+    public void testUnknownResponseProperty() throws Exception {
+        assertCompileError("unknown_property", "PlainTextOutputSpeech has no property 'ssml'");
+    }
+
+    @Test
+    public void testRuntimeOnlyDirective() throws Exception {
+        assertCompileError("each", "'#each' is not supported by compiled views");
+    }
+
+    @Test
+    public void testUndeclaredAttribute() throws Exception {
+        assertCompileError("unknown_attribute", "attribute 'villain' is not declared");
+    }
+
+    @Test
+    public void testUnknownModelProperty() throws Exception {
+        assertCompileError("unknown_getter", "Hero has no property 'age'");
+    }
+
+    @Test
+    public void testClassName() {
+        assertEquals("HelloEnUSView", ViewTemplateProcessor.className("hello_en_US"));
+        assertEquals("GamePlayingView", ViewTemplateProcessor.className("game/playing"));
+    }
+
+    private Response render(Hero hero) throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("greeting");
+        assertEquals(Collections.emptyList(), errors);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {folder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            GeneratedViewResolver resolver = GeneratedViewResolver.builder()
+                .withClassLoader(loader)
+                .build();
+            ModelAndView mav = new ModelAndView("greeting", Collections.singletonMap("hero", hero));
+            Optional<View> view = resolver.resolve(mav, envelope);
+            assertTrue(view.isPresent());
+            assertEquals(PACKAGE + ".GreetingView", view.get().getClass().getName());
+            assertTrue(view.get() instanceof GeneratedView);
+            return view.get().render(mav, envelope);
+        }
+    }
+
+    private void assertCompileError(String template, String message) throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(template);
+        assertFalse(errors.isEmpty());
+        String messages = errors.stream().map(error -> error.getMessage(null)).collect(Collectors.joining("\n"));
+        assertTrue(messages, messages.contains(message));
+    }
+
+    /**
+     * Compiles a class declaring a template, and returns the errors.
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(String template) {
+        String source = String.format("package %s;\n"
+            + "@com.amazon.ask.mvc.annotation.view.ViewTemplate(name = \"%s\", template = \"templates/%s.json\",\n"
+            + "    attributes = @com.amazon.ask.mvc.annotation.view.ViewAttribute(name = \"hero\", type = com.amazon.ask.mvc.view.compiler.Hero.class))\n"
+            + "public class Views {}\n", PACKAGE, template, template);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+            Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", folder.getRoot().getPath()),
+            null, Collections.singletonList(new Source(PACKAGE.replace('.', File.separatorChar) + File.separator + "Views.java", source)));
+        task.setProcessors(Collections.singletonList(new ViewTemplateProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String path, String content) {
+            super(URI.create("string:///" + path.replace(File.separatorChar, '/')), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
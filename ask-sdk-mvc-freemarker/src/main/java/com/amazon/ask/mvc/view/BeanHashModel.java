@@ -0,0 +1,78 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import freemarker.template.AdapterTemplateModel;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Exposes a bean's properties to FreeMarker templates through getters introspected once per class. Anything else,
+ * such as a method call, is delegated to the model built by the template's {@link ObjectWrapper}, which is only
+ * created when needed.
+ */
+public class BeanHashModel implements TemplateHashModel, TemplateScalarModel, AdapterTemplateModel {
+    private final Object bean;
+    private final ObjectWrapper wrapper;
+    private TemplateModel wrapped;
+
+    public BeanHashModel(Object bean, ObjectWrapper wrapper) {
+        this.bean = assertNotNull(bean, "bean");
+        this.wrapper = assertNotNull(wrapper, "wrapper");
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        Method getter = ModelValues.getters(bean.getClass()).get(key);
+        if (getter != null) {
+            try {
+                return ModelHashModel.wrap(getter.invoke(bean), wrapper);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new TemplateModelException(String.format("Failed to read property '%s' of %s", key, bean.getClass().getName()), ex);
+            }
+        }
+        TemplateModel model = wrapped();
+        return model instanceof TemplateHashModel ? ((TemplateHashModel) model).get(key) : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public String getAsString() {
+        return bean.toString();
+    }
+
+    @Override
+    public Object getAdaptedObject(Class<?> hint) {
+        return bean;
+    }
+
+    private TemplateModel wrapped() throws TemplateModelException {
+        if (wrapped == null) {
+            wrapped = wrapper.wrap(bean);
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.mvc.view.resolver.FileSystemViewResolver;
+import com.amazon.ask.mvc.view.resolver.ViewFileWatcher;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freemarker.cache.NullCacheStorage;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateExceptionHandler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Renders FreeMarker templates read from a directory on the file system. Edits to the templates are picked up
+ * without restarting the skill, see {@link FileSystemViewResolver}.
+ *
+ * If {@link Configuration} is not specified, a default one will be built which loads templates from the root
+ * directory with UTF-8 encoding. A {@link TemplateCache} can be configured to share parsed templates with identical
+ * content; since it is keyed by content, an edited template is parsed again rather than served stale.
+ */
+public class FileSystemFreeMarkerViewResolver extends FileSystemViewResolver {
+    protected final Configuration configuration;
+    protected final TemplateCache templateCache;
+
+    protected FileSystemFreeMarkerViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                               Collection<Pattern> viewNamePatterns, String prefix, String suffix, Path rootDirectory,
+                                               ViewFileWatcher watcher, Configuration configuration) {
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, rootDirectory, watcher, configuration, null);
+    }
+
+    protected FileSystemFreeMarkerViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                               Collection<Pattern> viewNamePatterns, String prefix, String suffix, Path rootDirectory,
+                                               ViewFileWatcher watcher, Configuration configuration, TemplateCache templateCache) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, rootDirectory, watcher);
+        this.configuration = buildDefaultConfig(configuration);
+        this.templateCache = templateCache;
+    }
+
+    /**
+     * Builds a default config for FreeMarker which reads templates from the root directory.
+     *
+     * FreeMarker's own template cache is disabled, since this resolver's {@link ViewCache} holds the parsed templates
+     * and is the one invalidated when a file changes.
+     *
+     * @param configuration free marker config
+     * @return supplied configuration if not null, otherwise a default one
+     */
+    protected Configuration buildDefaultConfig(Configuration configuration) {
+        if (configuration != null) {
+            return configuration;
+        }
+        Configuration cfg = new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
+        try {
+            cfg.setDirectoryForTemplateLoading(rootDirectory.toFile());
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to load templates from: " + rootDirectory, ex);
+        }
+        cfg.setDefaultEncoding("UTF-8");
+        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+        cfg.setLogTemplateExceptions(true);
+        cfg.setCacheStorage(NullCacheStorage.INSTANCE);
+        return cfg;
+    }
+
+    @Override
+    protected View loadView(String viewName, Path viewPath) throws Exception {
+        String templateName = rootDirectory.relativize(viewPath).toString().replace(viewPath.getFileSystem().getSeparator(), "/");
+        return new FreeMarkerView(mapper, templateCache != null
+            ? templateCache.getTemplate(configuration, templateName)
+            : configuration.getTemplate(templateName));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder extends FileSystemViewResolver.Builder<Builder> {
+        protected Configuration configuration;
+        protected TemplateCache templateCache;
+
+        public Builder() {
+            this.suffix = ".ftl";
+        }
+
+        public Builder withConfiguration(Configuration configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+
+        /**
+         * @param templateCache cache sharing parsed templates with identical content, may be shared across resolvers
+         * @return this
+         */
+        public Builder withTemplateCache(TemplateCache templateCache) {
+            this.templateCache = templateCache;
+            return this;
+        }
+
+        public FileSystemFreeMarkerViewResolver build() {
+            return new FileSystemFreeMarkerViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix,
+                rootDirectory, buildWatcher(), configuration, templateCache);
+        }
+    }
+}
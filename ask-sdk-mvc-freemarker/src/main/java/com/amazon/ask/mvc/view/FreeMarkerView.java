@@ -13,18 +13,21 @@
 
 package com.amazon.ask.mvc.view;
 
+import com.amazon.ask.model.Response;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import freemarker.template.Template;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 
 /**
  * Renders the JSON response from a FreeMarker template.
+ *
+ * Templates are rendered into a character buffer reused by each thread, and the response is parsed straight
+ * from that buffer without copying it into an intermediate string. The model is exposed through a
+ * {@link ModelHashModel} instead of being copied into a FreeMarker hash.
  */
 public class FreeMarkerView extends BaseView {
     private final Template template;
@@ -34,16 +37,27 @@ public class FreeMarkerView extends BaseView {
         this.template = assertNotNull(template, "template");
     }
 
+    @Override
+    protected Response render(Map<String, Object> model) throws Exception {
+        ReusableCharBuffer buffer = ReusableCharBuffer.acquire();
+        try {
+            template.process(new ModelHashModel(model, template.getObjectWrapper()), buffer);
+            try (JsonParser parser = mapper.getFactory().createParser(buffer.chars(), 0, buffer.length())) {
+                return mapper.readValue(parser, Response.class);
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+
     @Override
     protected String renderInternal(Map<String, Object> model) throws Exception {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream(1024);
-        OutputStreamWriter writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        ReusableCharBuffer buffer = ReusableCharBuffer.acquire();
         try {
-            template.process(model, writer);
-            writer.close();
-            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+            template.process(new ModelHashModel(model, template.getObjectWrapper()), buffer);
+            return buffer.toString();
         } finally {
-            writer.close();
+            buffer.release();
         }
     }
 }
@@ -38,15 +38,26 @@ import java.util.regex.Pattern;
  * If if the prefix is set to "/views/" and the suffix to ".ftl" and ModelAndView is used with a view value of "foo/my-template", there must be a template at
  * "/views/foo/my-template.ftl" in the classpath, or one for the locale of the request like
  * "/views/foo/my-template_en_US.ftl".
+ * <p>
+ * For high throughput, a {@link TemplateCache} can be configured so that templates with identical content, such as
+ * locale variants which are not translated yet, are parsed once and share a single {@link freemarker.template.Template}.
  */
 public class FreeMarkerViewResolver extends ClassPathViewResolver {
     protected final Configuration configuration;
+    protected final TemplateCache templateCache;
 
     protected FreeMarkerViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
                                      Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
                                      Configuration configuration) {
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, configuration, null);
+    }
+
+    protected FreeMarkerViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                     Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                     Configuration configuration, TemplateCache templateCache) {
         super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
         this.configuration = buildDefaultConfig(configuration, resourceClass);
+        this.templateCache = templateCache;
     }
 
     /**
@@ -76,11 +87,14 @@ public class FreeMarkerViewResolver extends ClassPathViewResolver {
 
     @Override
     protected View loadView(String viewName, URL viewResource) throws Exception {
-        return new FreeMarkerView(mapper, configuration.getTemplate(viewName));
+        return new FreeMarkerView(mapper, templateCache != null
+            ? templateCache.getTemplate(configuration, viewName)
+            : configuration.getTemplate(viewName));
     }
 
     public static final class Builder extends ClassPathViewResolver.Builder<Builder> {
         protected Configuration configuration;
+        protected TemplateCache templateCache;
 
         public Builder() {
             this.suffix = ".ftl";
@@ -91,8 +105,18 @@ public class FreeMarkerViewResolver extends ClassPathViewResolver {
             return this;
         }
 
+        /**
+         * @param templateCache cache sharing parsed templates with identical content, may be shared across resolvers
+         * @return this
+         */
+        public Builder withTemplateCache(TemplateCache templateCache) {
+            this.templateCache = templateCache;
+            return this;
+        }
+
         public FreeMarkerViewResolver build() {
-            return new FreeMarkerViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, configuration);
+            return new FreeMarkerViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass,
+                configuration, templateCache);
         }
     }
 }
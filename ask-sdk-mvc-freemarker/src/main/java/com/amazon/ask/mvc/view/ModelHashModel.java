@@ -0,0 +1,95 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.SimpleCollection;
+import freemarker.template.SimpleNumber;
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Exposes a view model to FreeMarker templates without copying it into a {@link freemarker.template.SimpleHash}.
+ *
+ * Values are wrapped on access: strings, numbers and booleans directly, beans such as the request and session by a
+ * {@link BeanHashModel} reading properties through accessors cached per class, and anything else, like maps and
+ * collections, by the template's {@link ObjectWrapper}.
+ */
+public class ModelHashModel implements TemplateHashModelEx {
+    private final Map<String, Object> model;
+    private final ObjectWrapper wrapper;
+
+    public ModelHashModel(Map<String, Object> model, ObjectWrapper wrapper) {
+        this.model = assertNotNull(model, "model");
+        this.wrapper = assertNotNull(wrapper, "wrapper");
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        return wrap(model.get(key), wrapper);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return model.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return model.size();
+    }
+
+    @Override
+    public TemplateCollectionModel keys() {
+        return new SimpleCollection(model.keySet(), wrapper);
+    }
+
+    @Override
+    public TemplateCollectionModel values() {
+        return new SimpleCollection(model.values(), wrapper);
+    }
+
+    static TemplateModel wrap(Object value, ObjectWrapper wrapper) throws TemplateModelException {
+        if (value == null) {
+            return null;
+        } else if (value instanceof TemplateModel) {
+            return (TemplateModel) value;
+        } else if (value instanceof String) {
+            return new SimpleScalar((String) value);
+        } else if (value instanceof Number) {
+            return new SimpleNumber((Number) value);
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? TemplateBooleanModel.TRUE : TemplateBooleanModel.FALSE;
+        } else if (isBean(value)) {
+            return new BeanHashModel(value, wrapper);
+        }
+        return wrapper.wrap(value);
+    }
+
+    private static boolean isBean(Object value) {
+        return !(value instanceof Map || value instanceof Collection || value instanceof CharSequence
+            || value instanceof Enum || value instanceof Date || value.getClass().isArray())
+            && !ModelValues.getters(value.getClass()).isEmpty();
+    }
+}
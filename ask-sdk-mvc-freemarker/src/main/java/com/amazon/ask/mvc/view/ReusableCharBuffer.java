@@ -0,0 +1,109 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Unsynchronized, growable character buffer which is kept per thread and reused across renders, so rendering a
+ * template does not allocate a new stream, writer and byte array each time.
+ *
+ * A buffer which grew beyond the retained capacity is dropped after use, so one large response does not pin
+ * memory on its thread forever.
+ */
+final class ReusableCharBuffer extends Writer {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<ReusableCharBuffer> BUFFERS = ThreadLocal.withInitial(ReusableCharBuffer::new);
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+    private boolean inUse;
+
+    private ReusableCharBuffer() {
+    }
+
+    /**
+     * Acquires the current thread's buffer, or a new one if it is already in use by an enclosing render.
+     *
+     * @return an empty buffer
+     */
+    static ReusableCharBuffer acquire() {
+        ReusableCharBuffer buffer = BUFFERS.get();
+        if (buffer.inUse) {
+            buffer = new ReusableCharBuffer();
+        }
+        buffer.inUse = true;
+        buffer.length = 0;
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer for the next render on this thread.
+     */
+    void release() {
+        inUse = false;
+        if (chars.length > MAX_RETAINED_CAPACITY) {
+            chars = new char[INITIAL_CAPACITY];
+        }
+    }
+
+    char[] chars() {
+        return chars;
+    }
+
+    int length() {
+        return length;
+    }
+
+    @Override
+    public void write(int c) {
+        ensureCapacity(length + 1);
+        chars[length++] = (char) c;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(buffer, offset, chars, length, count);
+        length += count;
+    }
+
+    @Override
+    public void write(String string, int offset, int count) {
+        ensureCapacity(length + count);
+        string.getChars(offset, offset + count, chars, length);
+        length += count;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+}
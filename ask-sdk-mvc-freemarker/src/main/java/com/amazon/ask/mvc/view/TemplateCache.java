@@ -0,0 +1,140 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateNotFoundException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Bounded, thread-safe cache of parsed FreeMarker templates keyed by the template's directory and a hash of its
+ * content, so templates with identical content, such as locale variants which were not translated, share one
+ * parsed {@link Template}. Keeping the directory in the key preserves relative includes and imports.
+ *
+ * The least recently used template is evicted when the capacity is exceeded. Like the view caches, reads are
+ * lock-free and a lock is only taken to parse and store a template.
+ */
+public class TemplateCache {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Map<List<Object>, Template> accessCache;
+    private final Map<List<Object>, Template> creationCache;
+
+    public TemplateCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TemplateCache(int capacity) {
+        assertIsPositive(capacity, "capacity");
+        this.accessCache = new ConcurrentHashMap<>(capacity);
+        this.creationCache = new LinkedHashMap<List<Object>, Template>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Template> eldest) {
+                if (size() > capacity) {
+                    accessCache.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the parsed template for a template name, parsing it only if no template with the same content was cached.
+     *
+     * @param configuration configuration to load and parse the template with
+     * @param name template name
+     * @return parsed template
+     * @throws IOException if the template could not be read or parsed
+     */
+    public Template getTemplate(Configuration configuration, String name) throws IOException {
+        assertNotNull(configuration, "configuration");
+        assertNotNull(name, "name");
+        // template loaders expect names relative to their root, like Configuration#getTemplate normalizes them
+        while (name.startsWith("/")) {
+            name = name.substring(1);
+        }
+        String content = read(configuration, name);
+        List<Object> key = Arrays.asList(configuration, directory(name), hash(content));
+        Template template = accessCache.get(key);
+        if (template == null) {
+            synchronized (creationCache) {
+                template = creationCache.get(key);
+                if (template == null) {
+                    template = new Template(name, content, configuration);
+                    creationCache.put(key, template);
+                    accessCache.put(key, template);
+                }
+            }
+        }
+        return template;
+    }
+
+    /**
+     * @return number of parsed templates currently cached
+     */
+    public int size() {
+        return accessCache.size();
+    }
+
+    private static String read(Configuration configuration, String name) throws IOException {
+        TemplateLoader loader = configuration.getTemplateLoader();
+        Object source = loader.findTemplateSource(name);
+        if (source == null) {
+            throw new TemplateNotFoundException(name, null, "Template not found: " + name);
+        }
+        try (Reader reader = loader.getReader(source, configuration.getDefaultEncoding())) {
+            StringBuilder content = new StringBuilder();
+            char[] buffer = new char[4096];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+            return content.toString();
+        } finally {
+            loader.closeTemplateSource(source);
+        }
+    }
+
+    private static String directory(String name) {
+        int separator = name.lastIndexOf('/');
+        return separator == -1 ? "" : name.substring(0, separator);
+    }
+
+    private static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.mvc.view.resolver.ManualViewFileWatcher;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FileSystemFreeMarkerViewResolverTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private RequestEnvelope envelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder()
+            .withLocale("en-US")
+            .build())
+        .build();
+
+    private Map<String, ?> model = Collections.singletonMap("hero", Collections.singletonMap("name", "Deadpool"));
+
+    private ManualViewFileWatcher watcher = new ManualViewFileWatcher();
+
+    private FileSystemFreeMarkerViewResolver resolver;
+
+    @Before
+    public void setup() throws Exception {
+        resolver = FileSystemFreeMarkerViewResolver.builder()
+            .withRootDirectory(folder.getRoot().toPath())
+            .withPrefix("/views/")
+            .withObjectMapper(objectMapper)
+            .withWatcher(watcher)
+            .build();
+    }
+
+    @After
+    public void teardown() throws Exception {
+        resolver.close();
+    }
+
+    @Test
+    public void testRenderView() throws Exception {
+        writeView("views/simple.ftl", "hello");
+
+        assertEquals("hello Deadpool", render("simple"));
+    }
+
+    @Test
+    public void testModifiedViewIsReloaded() throws Exception {
+        writeView("views/simple.ftl", "hello");
+        assertEquals("hello Deadpool", render("simple"));
+
+        Path view = writeView("views/simple.ftl", "goodbye");
+        assertEquals("hello Deadpool", render("simple"));
+
+        watcher.changed(view);
+        assertEquals("goodbye Deadpool", render("simple"));
+    }
+
+    @Test
+    public void testCreatedLocaleViewIsResolved() throws Exception {
+        writeView("views/simple.ftl", "hello");
+        assertEquals("hello Deadpool", render("simple"));
+
+        watcher.changed(writeView("views/simple_en_US.ftl", "howdy"), StandardWatchEventKinds.ENTRY_CREATE);
+        assertEquals("howdy Deadpool", render("simple"));
+    }
+
+    @Test
+    public void testViewInCreatedDirectoryIsResolved() throws Exception {
+        assertFalse(resolver.resolve(mav("nested/simple"), envelope).isPresent());
+
+        Path view = writeView("views/nested/simple.ftl", "hello");
+        watcher.changed(view.getParent(), StandardWatchEventKinds.ENTRY_CREATE);
+        assertEquals("hello Deadpool", render("nested/simple"));
+    }
+
+    @Test
+    public void testDeletedViewIsNotResolved() throws Exception {
+        Path view = writeView("views/simple.ftl", "hello");
+        assertTrue(resolver.resolve(mav("simple"), envelope).isPresent());
+
+        Files.delete(view);
+        watcher.changed(view, StandardWatchEventKinds.ENTRY_DELETE);
+        assertFalse(resolver.resolve(mav("simple"), envelope).isPresent());
+    }
+
+    @Test
+    public void testDeletedDirectoryIsNotResolved() throws Exception {
+        Path view = writeView("views/nested/simple.ftl", "hello");
+        assertTrue(resolver.resolve(mav("nested/simple"), envelope).isPresent());
+
+        Files.delete(view);
+        Files.delete(view.getParent());
+        watcher.changed(view.getParent(), StandardWatchEventKinds.ENTRY_DELETE);
+        assertFalse(resolver.resolve(mav("nested/simple"), envelope).isPresent());
+    }
+
+    @Test
+    public void testFileSystemWatcherByDefault() throws Exception {
+        resolver.close();
+        resolver = FileSystemFreeMarkerViewResolver.builder()
+            .withRootDirectory(folder.getRoot().toPath())
+            .withPrefix("/views/")
+            .withObjectMapper(objectMapper)
+            .build();
+
+        writeView("views/simple.ftl", "hello");
+        assertEquals("hello Deadpool", render("simple"));
+    }
+
+    @Test
+    public void testWithoutWatching() throws Exception {
+        resolver.close();
+        resolver = FileSystemFreeMarkerViewResolver.builder()
+            .withRootDirectory(folder.getRoot().toPath())
+            .withPrefix("/views/")
+            .withObjectMapper(objectMapper)
+            .withWatcher(watcher)
+            .withWatchForChanges(false)
+            .build();
+
+        writeView("views/simple.ftl", "hello");
+        assertEquals("hello Deadpool", render("simple"));
+
+        watcher.changed(writeView("views/simple.ftl", "goodbye"));
+        assertEquals("hello Deadpool", render("simple"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingRootDirectory() {
+        FileSystemFreeMarkerViewResolver.builder()
+            .withRootDirectory(folder.getRoot().toPath().resolve("missing"))
+            .build();
+    }
+
+    private String render(String viewName) throws Exception {
+        Optional<View> view = resolver.resolve(mav(viewName), envelope);
+        assertTrue(view.isPresent());
+        Response response = view.get().render(mav(viewName), envelope);
+        return ((PlainTextOutputSpeech) response.getOutputSpeech()).getText();
+    }
+
+    private Path writeView(String name, String greeting) throws Exception {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.createDirectories(path.getParent());
+        String template = "{\"outputSpeech\": {\"type\": \"PlainText\", \"text\": \"" + greeting + " ${hero.name}\"}}";
+        return Files.write(path, template.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ModelAndView mav(String viewName) {
+        return new ModelAndView(viewName, model);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freemarker.template.Template;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures renders per second of a FreeMarker view, with and without a {@link TemplateCache}, against a baseline
+ * which renders like views did before the reusable character buffer: into a byte stream, decoded to a string
+ * and then parsed. Run with the GC profiler to report bytes allocated per render (gc.alloc.rate.norm):
+ * <code>mvn -Pbenchmark test-compile exec:exec</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FreeMarkerViewBenchmark {
+    @Param({"baseline", "default", "templateCache"})
+    public String mode;
+
+    @Param({"en-US", "de-DE"})
+    public String locale;
+
+    private View view;
+    private ModelAndView mav;
+    private RequestEnvelope requestEnvelope;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FreeMarkerViewResolver.Builder builder = FreeMarkerViewResolver.builder()
+            .withPrefix("/views/");
+        if ("templateCache".equals(mode)) {
+            builder.withTemplateCache(new TemplateCache());
+        }
+        FreeMarkerViewResolver resolver = "baseline".equals(mode) ? baselineResolver() : builder.build();
+
+        mav = new ModelAndView("simple", Collections.singletonMap("hero", Collections.singletonMap("name", "Deadpool")));
+        requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale(locale)
+                .build())
+            .build();
+        view = resolver.resolve(mav, requestEnvelope)
+            .orElseThrow(() -> new IllegalStateException("simple view not found"));
+    }
+
+    @Benchmark
+    public Response render() throws Exception {
+        return view.render(mav, requestEnvelope);
+    }
+
+    private static FreeMarkerViewResolver baselineResolver() {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return new FreeMarkerViewResolver(mapper, null, null, null, "/views/", ".ftl", FreeMarkerViewResolver.class, null) {
+            @Override
+            protected View loadView(String viewName, URL viewResource) throws Exception {
+                return new ByteStreamView(mapper, configuration.getTemplate(viewName));
+            }
+        };
+    }
+
+    /**
+     * Renders into a new byte stream per render and copies it into a string before parsing the response.
+     */
+    private static final class ByteStreamView extends BaseView {
+        private final Template template;
+
+        private ByteStreamView(ObjectMapper mapper, Template template) {
+            super(mapper);
+            this.template = template;
+        }
+
+        @Override
+        protected String renderInternal(Map<String, Object> model) throws Exception {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream(1024);
+            try (OutputStreamWriter writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+                template.process(model, writer);
+            }
+            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapperBuilder;
+import freemarker.template.TemplateScalarModel;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ModelHashModelTest {
+    private final RequestEnvelope envelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder()
+            .withLocale("en-US")
+            .build())
+        .build();
+
+    @Test
+    public void testWrapsValuesOnAccess() throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("name", "value");
+        ModelHashModel model = new ModelHashModel(new ViewModel(attributes, envelope),
+            new DefaultObjectWrapperBuilder(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS).build());
+
+        assertEquals("value", ((TemplateScalarModel) model.get("name")).getAsString());
+        assertTrue(model.get("request") instanceof BeanHashModel);
+        assertEquals("en-US", ((TemplateScalarModel) ((BeanHashModel) model.get("request")).get("locale")).getAsString());
+        assertNull(model.get("session"));
+        assertEquals(4, model.size());
+    }
+
+    @Test
+    public void testRenderTemplate() throws Exception {
+        FreeMarkerViewResolver resolver = FreeMarkerViewResolver.builder()
+            .withPrefix("/views/")
+            .build();
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("hero", Collections.singletonMap("name", "Deadpool"));
+        attributes.put("count", 3);
+        ModelAndView mav = new ModelAndView("request", attributes);
+
+        Response response = resolver.resolve(mav, envelope).get().render(mav, envelope);
+
+        assertEquals("en-US en-US Deadpool 3 no session", ((PlainTextOutputSpeech) response.getOutputSpeech()).getText());
+    }
+}
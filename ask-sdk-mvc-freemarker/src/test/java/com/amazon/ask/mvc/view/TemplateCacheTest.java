@@ -0,0 +1,86 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateNotFoundException;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TemplateCacheTest {
+    private final Configuration configuration = new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
+
+    {
+        configuration.setClassForTemplateLoading(getClass(), "/");
+        configuration.setDefaultEncoding("UTF-8");
+    }
+
+    @Test
+    public void testIdenticalContentSharesTemplate() throws Exception {
+        TemplateCache cache = new TemplateCache(10);
+
+        assertSame(cache.getTemplate(configuration, "/views/shared.ftl"), cache.getTemplate(configuration, "/views/shared_fr_FR.ftl"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testDifferentContentIsNotShared() throws Exception {
+        TemplateCache cache = new TemplateCache(10);
+
+        assertNotSame(cache.getTemplate(configuration, "views/simple.ftl"), cache.getTemplate(configuration, "views/simple_de_DE.ftl"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCapacity() throws Exception {
+        TemplateCache cache = new TemplateCache(1);
+
+        cache.getTemplate(configuration, "views/simple.ftl");
+        cache.getTemplate(configuration, "views/simple_de_DE.ftl");
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = TemplateNotFoundException.class)
+    public void testMissingTemplate() throws Exception {
+        new TemplateCache().getTemplate(configuration, "views/missing.ftl");
+    }
+
+    @Test
+    public void testRenderWithTemplateCache() throws Exception {
+        FreeMarkerViewResolver resolver = FreeMarkerViewResolver.builder()
+            .withPrefix("/views/")
+            .withTemplateCache(new TemplateCache())
+            .build();
+
+        ModelAndView mav = new ModelAndView("shared", Collections.singletonMap("hero", Collections.singletonMap("name", "Deadpool")));
+        RequestEnvelope envelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("fr-FR")
+                .build())
+            .build();
+
+        Response response = resolver.resolve(mav, envelope).get().render(mav, envelope);
+
+        assertEquals("hello Deadpool", ((PlainTextOutputSpeech) response.getOutputSpeech()).getText());
+    }
+}
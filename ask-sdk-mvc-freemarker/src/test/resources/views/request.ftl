@@ -0,0 +1,6 @@
+{
+    "outputSpeech": {
+        "type": "PlainText",
+        "text": "${request.locale} ${request.getLocale()} ${hero.name} ${count} <#if envelope.session??>session<#else>no session</#if>"
+    }
+}
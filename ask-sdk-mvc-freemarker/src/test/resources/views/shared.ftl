@@ -0,0 +1,7 @@
+{
+    "outputSpeech": {
+        "type": "PlainText",
+        "text": "hello ${hero.name}",
+        "ssml": "<speak>SSML text string to speak</speak>"
+    }
+}
\ No newline at end of file
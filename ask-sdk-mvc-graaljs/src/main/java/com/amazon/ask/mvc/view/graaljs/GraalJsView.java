@@ -0,0 +1,235 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.graaljs;
+
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.view.BaseView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Renders a response by passing the model to a JavaScript script, using the same three styles of script as
+ * the Nashorn view: a global function, a function of a global object, or a script whose final expression is
+ * the response and which reads the model attributes as globals.
+ *
+ * A polyglot {@link Context} may only be used by one thread at a time, so each render of a render function borrows
+ * one from a pool of at most poolSize contexts, which are created on demand. A script without a render function is
+ * evaluated in a new context on every render, so its globals are not shared between renders. All contexts are bound
+ * to the resolver's shared {@link Engine}, so the script is parsed and compiled once and its code is shared between
+ * them.
+ *
+ * The pool is filled lazily, so sub-classes are fully constructed before {@link #createInstance()} is first called.
+ * Call {@link #prepare()} to surface script errors up front.
+ */
+public class GraalJsView extends BaseView {
+    protected static final String LANGUAGE = "js";
+
+    protected final Engine engine;
+    protected final HostAccess hostAccess;
+    protected final Source source;
+    protected final String renderObject;
+    protected final String renderFunction;
+    protected final int poolSize;
+
+    private final BlockingQueue<ContextInstance> idleInstances;
+    private final AtomicInteger instanceCount = new AtomicInteger();
+
+    public GraalJsView(Engine engine, HostAccess hostAccess, int poolSize, Source source, String renderObject,
+                       String renderFunction, ObjectMapper mapper) {
+        super(mapper);
+        this.engine = assertNotNull(engine, "engine");
+        this.hostAccess = assertNotNull(hostAccess, "hostAccess");
+        assertIsPositive(poolSize, "poolSize");
+        this.poolSize = poolSize;
+        this.source = assertNotNull(source, "source");
+        this.renderObject = renderObject;
+        this.renderFunction = renderFunction;
+        this.idleInstances = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Creates the first context, if none has been created yet, so script errors surface when the view is loaded
+     * rather than on its first render. A script without a render function is only parsed, as it can not run without
+     * its model.
+     */
+    public void prepare() {
+        if (renderFunction == null) {
+            try (Context context = createContext()) {
+                context.parse(source);
+            }
+        } else if (instanceCount.compareAndSet(0, 1)) {
+            try {
+                idleInstances.add(createInstance());
+            } catch (RuntimeException ex) {
+                instanceCount.decrementAndGet();
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    protected Response render(Map<String, Object> model) throws Exception {
+        ContextInstance instance = borrow();
+        try {
+            Value result = evaluate(instance, model);
+            if (result.isString()) {
+                return mapper.readValue(result.asString(), Response.class);
+            }
+            // convert while the context is still owned by this thread, then bind the tokens without re-parsing
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            ValueWriter.write(result, buffer);
+            return mapper.readValue(buffer.asParser(), Response.class);
+        } finally {
+            release(instance);
+        }
+    }
+
+    @Override
+    protected String renderInternal(Map<String, Object> model) throws Exception {
+        ContextInstance instance = borrow();
+        try {
+            Value result = evaluate(instance, model);
+            if (result.isString()) {
+                return result.asString();
+            }
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            ValueWriter.write(result, buffer);
+            return mapper.writeValueAsString(buffer);
+        } finally {
+            release(instance);
+        }
+    }
+
+    /**
+     * Runs the script, or its render function, against the model.
+     *
+     * @param instance the borrowed context
+     * @param model the model attributes
+     * @return result of the script
+     */
+    protected Value evaluate(ContextInstance instance, Map<String, Object> model) {
+        if (renderFunction == null) {
+            // result of script is the response, no method is invoked and the model attributes are bound globally
+            Value bindings = instance.context.getBindings(LANGUAGE);
+            model.forEach(bindings::putMember);
+            return instance.context.eval(source);
+        } else if (renderObject != null) {
+            return instance.target.invokeMember(renderFunction, model);
+        } else {
+            return instance.target.execute(model);
+        }
+    }
+
+    /**
+     * Creates a new context bound to the shared engine, with the script evaluated if it declares a render function.
+     *
+     * @return the context instance
+     */
+    protected ContextInstance createInstance() {
+        Context context = createContext();
+        Value target = null;
+        if (renderFunction != null) {
+            // render logic is attached to a global function or object
+            // script needs to be eval'ed once so its functions and objects are available for invocation
+            context.eval(source);
+            target = renderObject != null
+                ? context.eval(LANGUAGE, renderObject)
+                : context.getBindings(LANGUAGE).getMember(renderFunction);
+            if (target == null || target.isNull()) {
+                context.close();
+                throw new IllegalArgumentException(String.format("Script '%s' does not define '%s'", source.getName(),
+                    renderObject != null ? renderObject : renderFunction));
+            }
+        }
+        return new ContextInstance(context, target);
+    }
+
+    /**
+     * @return a new context bound to the shared engine
+     */
+    protected Context createContext() {
+        return Context.newBuilder(LANGUAGE)
+            .engine(engine)
+            .allowHostAccess(hostAccess)
+            .build();
+    }
+
+    private ContextInstance borrow() throws InterruptedException {
+        if (renderFunction == null) {
+            // evaluated with fresh globals on every render
+            return createInstance();
+        }
+        ContextInstance instance = idleInstances.poll();
+        if (instance != null) {
+            return instance;
+        }
+        int count;
+        while ((count = instanceCount.get()) < poolSize) {
+            if (instanceCount.compareAndSet(count, count + 1)) {
+                try {
+                    return createInstance();
+                } catch (RuntimeException ex) {
+                    instanceCount.decrementAndGet();
+                    throw ex;
+                }
+            }
+        }
+        return idleInstances.take();
+    }
+
+    private void release(ContextInstance instance) {
+        if (renderFunction == null) {
+            instance.context.close();
+        } else {
+            idleInstances.offer(instance);
+        }
+    }
+
+    /**
+     * A context and its render target, used by one render at a time.
+     */
+    protected static class ContextInstance {
+        protected final Context context;
+        protected final Value target;
+
+        protected ContextInstance(Context context, Value target) {
+            this.context = assertNotNull(context, "context");
+            this.target = target;
+        }
+
+        public Context getContext() {
+            return context;
+        }
+
+        /**
+         * @return the render object or function, or null if the script is evaluated on each render
+         */
+        public Value getTarget() {
+            return target;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.graaljs;
+
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.resolver.ClassPathViewResolver;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.IOUtils;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves JavaScript views executed by GraalJS through the polyglot API. It follows the contract of the
+ * {@link com.amazon.ask.mvc.view.resolver.ScriptEngineViewResolver}: scripts are rendered either by evaluating
+ * them with the model attributes bound globally, or by invoking a render function, optionally of a render object.
+ *
+ * Every view is bound to a single {@link Engine}, so parsed sources and compiled code are shared across all of
+ * their contexts. Each view renders with a pool of at most contextPoolSize contexts, defaulting to the number of
+ * available processors. Runs on a stock JDK with the GraalJS jars on the classpath, in which case scripts are
+ * interpreted instead of compiled.
+ */
+public class GraalJsViewResolver extends ClassPathViewResolver implements Closeable {
+    protected final Engine engine;
+    protected final boolean closeEngine;
+    protected final HostAccess hostAccess;
+    protected final String renderObject;
+    protected final String renderFunction;
+    protected final int contextPoolSize;
+
+    protected GraalJsViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                  Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                  Engine engine, HostAccess hostAccess, String renderObject, String renderFunction, Integer contextPoolSize) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
+        if (renderObject != null && renderFunction == null) {
+            throw new IllegalArgumentException("renderFunction must be non-null if renderObject is set");
+        }
+        this.closeEngine = engine == null;
+        this.engine = engine == null ? createEngine() : engine;
+        this.hostAccess = hostAccess == null ? HostAccess.ALL : hostAccess;
+        this.renderObject = renderObject;
+        this.renderFunction = renderFunction;
+        this.contextPoolSize = contextPoolSize == null ? Runtime.getRuntime().availableProcessors() : contextPoolSize;
+        if (this.contextPoolSize < 1) {
+            throw new IllegalArgumentException("contextPoolSize must be positive");
+        }
+    }
+
+    @Override
+    protected View loadView(String viewName, URL viewResource) throws Exception {
+        try (InputStream stream = viewResource.openStream()) {
+            Source source = Source.newBuilder(GraalJsView.LANGUAGE, IOUtils.toString(stream, StandardCharsets.UTF_8), viewName)
+                .cached(true)
+                .buildLiteral();
+            GraalJsView view = new GraalJsView(engine, hostAccess, contextPoolSize, source, renderObject, renderFunction, mapper);
+            view.prepare();
+            return view;
+        } catch (Exception ex) {
+            logger.error("Failed to read GraalJS View", ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Closes the engine if it was created by this resolver, along with the contexts of every view.
+     */
+    @Override
+    public void close() {
+        if (closeEngine) {
+            engine.close();
+        }
+    }
+
+    private static Engine createEngine() {
+        return Engine.newBuilder()
+            // running without the Graal compiler is supported, don't warn on every start
+            .option("engine.WarnInterpreterOnly", "false")
+            .build();
+    }
+
+    public static Builder builder() {
+        return new Builder()
+            .withSuffix(".js");
+    }
+
+    public static class Builder extends ClassPathViewResolver.Builder<Builder> {
+        protected Engine engine;
+        protected HostAccess hostAccess;
+        protected String renderObject;
+        protected String renderFunction;
+        protected Integer contextPoolSize;
+
+        /**
+         * @param engine engine shared by the contexts of every view, closed by its owner instead of the resolver
+         * @return this
+         */
+        public Builder withEngine(Engine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * @param hostAccess access granted to scripts to the model's Java objects, defaults to {@link HostAccess#ALL}
+         * @return this
+         */
+        public Builder withHostAccess(HostAccess hostAccess) {
+            this.hostAccess = hostAccess;
+            return this;
+        }
+
+        public Builder withRenderObject(String renderObject, String renderFunction) {
+            this.renderObject = renderObject;
+            return withRenderFunction(renderFunction);
+        }
+
+        public Builder withRenderFunction(String renderFunction) {
+            this.renderFunction = renderFunction;
+            return this;
+        }
+
+        /**
+         * @param contextPoolSize maximum number of concurrent renders of a single view
+         * @return this
+         */
+        public Builder withContextPoolSize(int contextPoolSize) {
+            this.contextPoolSize = contextPoolSize;
+            return this;
+        }
+
+        public GraalJsViewResolver build() {
+            return new GraalJsViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix,
+                resourceClass, engine, hostAccess, renderObject, renderFunction, contextPoolSize);
+        }
+    }
+}
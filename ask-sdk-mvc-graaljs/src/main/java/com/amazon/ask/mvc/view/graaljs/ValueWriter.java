@@ -0,0 +1,95 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.graaljs;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.graalvm.polyglot.Value;
+
+import java.io.IOException;
+
+/**
+ * Writes polyglot values returned by GraalJS as JSON tokens, following the rules of <code>JSON.stringify</code>:
+ * <ul>
+ * <li>functions are omitted from objects, and written as null in arrays</li>
+ * <li>values with a <code>toJSON</code> function, such as dates, are replaced by its result</li>
+ * <li>NaN and infinite numbers are written as null</li>
+ * </ul>
+ * The polyglot API does not distinguish undefined from null, so both are omitted from objects.
+ * Host objects are serialized with the generator's codec.
+ */
+public final class ValueWriter {
+    private static final String TO_JSON = "toJSON";
+
+    private ValueWriter() {
+    }
+
+    /**
+     * Write a value returned by a script. Must be called on the thread that owns the value's context.
+     *
+     * @param value script value
+     * @param generator destination of the JSON tokens
+     * @throws IOException if the value could not be written
+     */
+    public static void write(Value value, JsonGenerator generator) throws IOException {
+        if (value.isNull() || value.canExecute()) {
+            generator.writeNull();
+        } else if (value.isHostObject()) {
+            generator.writeObject(value.asHostObject());
+        } else if (value.isString()) {
+            generator.writeString(value.asString());
+        } else if (value.isBoolean()) {
+            generator.writeBoolean(value.asBoolean());
+        } else if (value.isNumber()) {
+            writeNumber(value, generator);
+        } else if (isFunction(value.getMember(TO_JSON))) {
+            write(value.invokeMember(TO_JSON), generator);
+        } else if (value.hasArrayElements()) {
+            generator.writeStartArray();
+            long size = value.getArraySize();
+            for (long i = 0; i < size; i++) {
+                write(value.getArrayElement(i), generator);
+            }
+            generator.writeEndArray();
+        } else if (value.hasMembers()) {
+            generator.writeStartObject();
+            for (String key : value.getMemberKeys()) {
+                Value member = value.getMember(key);
+                if (!member.isNull() && !member.canExecute()) {
+                    generator.writeFieldName(key);
+                    write(member, generator);
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeNumber(Value value, JsonGenerator generator) throws IOException {
+        if (value.fitsInLong()) {
+            generator.writeNumber(value.asLong());
+        } else {
+            double number = value.asDouble();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(number);
+            }
+        }
+    }
+
+    private static boolean isFunction(Value value) {
+        return value != null && value.canExecute();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.dialog.DelegateDirective;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.mvc.view.graaljs.GraalJsViewResolver;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class GraalJsViewResolverTest {
+    private GraalJsViewResolver resolver;
+
+    @After
+    public void closeResolver() {
+        if (resolver != null) {
+            resolver.close();
+        }
+    }
+
+    @Test
+    public void testGlobalScript() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .build();
+
+        ModelAndView mav = new ModelAndView("global", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test
+    public void testGlobalScriptStateIsNotShared() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .withContextPoolSize(1)
+            .build();
+
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        View view = resolver.resolve(new ModelAndView("global_state"), requestEnvelope).get();
+        ModelAndView first = new ModelAndView("global_state", Collections.singletonMap("attribute", "first"));
+        ModelAndView second = new ModelAndView("global_state", Collections.singletonMap("attribute", "second"));
+
+        assertEquals("hello first", ((PlainTextOutputSpeech) view.render(first, requestEnvelope).getOutputSpeech()).getText());
+        assertEquals("hello second", ((PlainTextOutputSpeech) view.render(second, requestEnvelope).getOutputSpeech()).getText());
+    }
+
+    @Test
+    public void testInvokeFunction() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_function", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test
+    public void testInvokeMethod() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderObject("renderer", "render")
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_method", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test
+    public void testObjectConvertedToResponse() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_object", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .withDirectives(Collections.singletonList(DelegateDirective.builder().build()))
+            .withShouldEndSession(false)
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test
+    public void testConcurrentRenders() throws Exception {
+        resolver = GraalJsViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .withContextPoolSize(4)
+            .build();
+
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        View view = resolver.resolve(new ModelAndView("invoke_function"), requestEnvelope).get();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> renders = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                ModelAndView mav = new ModelAndView("invoke_function", Collections.singletonMap("attribute", "test" + i));
+                renders.add(executor.submit(() -> view.render(mav, requestEnvelope)));
+            }
+            for (int i = 0; i < renders.size(); i++) {
+                assertEquals("hello test" + i, ((PlainTextOutputSpeech) renders.get(i).get().getOutputSpeech()).getText());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
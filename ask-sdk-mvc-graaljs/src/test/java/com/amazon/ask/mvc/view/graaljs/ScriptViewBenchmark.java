@@ -0,0 +1,101 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.graaljs;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.plugin.ViewResolver;
+import com.amazon.ask.mvc.view.ModelAndView;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering the same JavaScript view with {@link GraalJsViewResolver} and {@link NashornViewResolver}.
+ *
+ * The Nashorn runs require a JDK that still ships Nashorn, and GraalJS requires Java 11, so run it on 11 to 14 with:
+ * <code>mvn -Pbenchmark test-compile exec:exec</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ScriptViewBenchmark {
+    private static final int POOL_SIZE = 4;
+
+    @Param({"graaljs", "nashorn"})
+    public String engine;
+
+    private ViewResolver resolver;
+    private View view;
+    private ModelAndView mav;
+    private RequestEnvelope requestEnvelope;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("graaljs".equals(engine)) {
+            resolver = GraalJsViewResolver.builder()
+                .withResourceClass(View.class)
+                .withRenderFunction("render")
+                .withContextPoolSize(POOL_SIZE)
+                .build();
+        } else {
+            resolver = NashornViewResolver.builder()
+                .withResourceClass(View.class)
+                .withRenderFunction("render")
+                .withEnginePoolSize(POOL_SIZE)
+                .build();
+        }
+        mav = new ModelAndView("invoke_object", Collections.singletonMap("attribute", "benchmark"));
+        requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+        view = resolver.resolve(mav, requestEnvelope)
+            .orElseThrow(() -> new IllegalStateException("invoke_object view not found"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (resolver instanceof GraalJsViewResolver) {
+            ((GraalJsViewResolver) resolver).close();
+        }
+    }
+
+    @Benchmark
+    public Response render() throws Exception {
+        return view.render(mav, requestEnvelope);
+    }
+}
@@ -0,0 +1,10 @@
+var text = "hello";
+
+var result = {
+    outputSpeech: {
+        type: 'PlainText',
+        text: text + " " + attribute
+    }
+};
+
+result;
\ No newline at end of file
@@ -0,0 +1,11 @@
+var text = "hello";
+
+// entry point taking model attributes
+function render(model) {
+    return {
+        outputSpeech: {
+            type: 'PlainText',
+            text: text + " " + model.attribute
+        }
+    };
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.amazon.ask.mvc.annotation.plugin.*;
 import com.amazon.ask.mvc.annotation.mapping.IntentMapping;
 import com.amazon.ask.mvc.argument.*;
 import com.amazon.ask.mvc.mapper.ControllerRequestMapper;
+import com.amazon.ask.mvc.mapper.cache.ResponseCacheRegistry;
 import com.amazon.ask.mvc.annotation.mapping.RequestMapping;
 import com.amazon.ask.mvc.plugin.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -118,9 +119,11 @@ public class MvcSdkModule implements SdkModule {
         protected Set<ResponseInterceptorResolver> responseInterceptorResolvers;
         protected Set<PredicateResolver> predicateResolvers;
         protected Set<ViewResolver> viewResolvers;
+        protected ResponseCacheRegistry responseCacheRegistry;
 
         protected Set<Object> controllers;
         protected Model model;
+        protected Set<Locale> locales;
         protected ObjectMapper objectMapper;
 
         public Builder withControllers(Set<Object> controllers) {
@@ -287,12 +290,34 @@ public class MvcSdkModule implements SdkModule {
             return this;
         }
 
+        /**
+         * @param locales locales whose slot type data is indexed to resolve enum slots from their synonyms
+         * @return this
+         */
+        public Builder withLocales(Collection<Locale> locales) {
+            this.locales = new LinkedHashSet<>(locales);
+            return this;
+        }
+
+        /**
+         * @param responseCacheRegistry registry holding the response caches of methods annotated with
+         *                              {@link com.amazon.ask.mvc.annotation.cache.CacheableResponse}
+         * @return this
+         */
+        public Builder withResponseCacheRegistry(ResponseCacheRegistry responseCacheRegistry) {
+            this.responseCacheRegistry = responseCacheRegistry;
+            return this;
+        }
+
         public MvcSdkModule build() {
             Set<ArgumentResolver> argumentResolvers = this.argumentResolvers != null
                 ? this.argumentResolvers : new LinkedHashSet<>(DEFAULT_ARGUMENT_RESOLVERS);
 
             if (model != null && !model.equals(Model.empty())) {
-                IntentMapper intentMapper = IntentMapper.fromModel(model);
+                IntentMapper intentMapper = IntentMapper.builder()
+                    .withModel(model)
+                    .withLocales(locales == null ? Collections.emptySet() : locales)
+                    .build();
                 argumentResolvers.add(new IntentModelArgumentResolver(intentMapper));
                 argumentResolvers.add(new SlotModelArgumentResolver(intentMapper));
             }
@@ -311,6 +336,7 @@ public class MvcSdkModule implements SdkModule {
                 .withRequestInterceptorResolvers(requestInterceptorResolvers)
                 .withResponseInterceptorResolvers(responseInterceptorResolvers)
                 .withViewResolvers(viewResolvers)
+                .withResponseCacheRegistry(responseCacheRegistry)
                 .build());
         }
     }
@@ -41,7 +41,11 @@ public abstract class MvcSkillApplication implements SkillModelSupplier {
         }
 
         // Accumulate all models from the modules and build the whole SkillModel
-        builder.withModel(buildSkillModel(modules).getModel());
+        SkillModel skillModel = buildSkillModel(modules);
+        builder.withModel(skillModel.getModel());
+        if (skillModel.getInvocationNames() != null) {
+            builder.withLocales(skillModel.getInvocationNames().keySet());
+        }
 
         MvcSdkModule sdkModule = builder.build();
         return getSkillBuilder()
@@ -15,6 +15,7 @@ package com.amazon.ask.mvc;
 
 import com.amazon.ask.interaction.definition.Model;
 import com.amazon.ask.mvc.mapper.ControllerMethodContext;
+import com.amazon.ask.mvc.mapper.cache.ResponseCacheRegistry;
 import com.amazon.ask.mvc.plugin.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -42,6 +43,7 @@ public class SkillContext {
     private final Set<ResponseInterceptorResolver> responseInterceptorResolvers;
     private final Set<ExceptionHandlerResolver> exceptionHandlerResolvers;
     private final Set<ViewResolver> viewResolvers;
+    private final ResponseCacheRegistry responseCacheRegistry;
 
     private SkillContext(Set<Object> controllers,
                          Model model,
@@ -52,7 +54,8 @@ public class SkillContext {
                          Set<RequestInterceptorResolver> requestInterceptorResolvers,
                          Set<ResponseInterceptorResolver> responseInterceptorResolvers,
                          Set<ExceptionHandlerResolver> exceptionHandlerResolvers,
-                         Set<ViewResolver> viewResolvers) {
+                         Set<ViewResolver> viewResolvers,
+                         ResponseCacheRegistry responseCacheRegistry) {
         this.controllers = Collections.unmodifiableSet(assertNotNull(controllers, "controllers"));
         this.model = model == null ? Model.empty() : model;
         this.objectMapper = objectMapper == null ? DEFAULT_MAPPER : objectMapper;
@@ -64,6 +67,7 @@ public class SkillContext {
         this.responseInterceptorResolvers = emptyOrImmutable(responseInterceptorResolvers);
         this.exceptionHandlerResolvers = emptyOrImmutable(exceptionHandlerResolvers);
         this.viewResolvers = emptyOrImmutable(viewResolvers);
+        this.responseCacheRegistry = responseCacheRegistry == null ? new ResponseCacheRegistry() : responseCacheRegistry;
     }
 
     private static <T> Set<T> emptyOrImmutable(Set<T> set) {
@@ -110,6 +114,10 @@ public class SkillContext {
         return viewResolvers;
     }
 
+    public ResponseCacheRegistry getResponseCacheRegistry() {
+        return responseCacheRegistry;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -126,6 +134,7 @@ public class SkillContext {
         private Set<ResponseInterceptorResolver> responseInterceptorResolvers;
         private Set<PredicateResolver> predicateResolvers;
         private Set<ViewResolver> viewResolvers;
+        private ResponseCacheRegistry responseCacheRegistry;
 
         private Builder() {
         }
@@ -165,6 +174,11 @@ public class SkillContext {
             return this;
         }
 
+        public Builder withResponseCacheRegistry(ResponseCacheRegistry responseCacheRegistry) {
+            this.responseCacheRegistry = responseCacheRegistry;
+            return this;
+        }
+
         public Builder withModel(Model model) {
             this.model = model;
             return this;
@@ -183,7 +197,7 @@ public class SkillContext {
         public SkillContext build() {
             return new SkillContext(controllers, model, objectMapper, requestHandlerResolvers, argumentResolvers,
                 predicateResolvers, requestInterceptorResolvers, responseInterceptorResolvers, exceptionHandlerResolvers,
-                viewResolvers);
+                viewResolvers, responseCacheRegistry);
         }
     }
 }
@@ -0,0 +1,67 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.annotation.cache;
+
+import com.amazon.ask.mvc.mapper.cache.ResponseCache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * When added to a request handler method, the response it renders is cached and re-used for later requests
+ * with the same key. Cached responses are returned before any arguments are resolved or the method is invoked.
+ *
+ * The key is always scoped to the request type, and is built from the following expressions:
+ * <ul>
+ *     <li><code>locale</code>: locale of the request</li>
+ *     <li><code>intentName</code>: name of the intent, for intent requests</li>
+ *     <li><code>slot:NAME</code>: value of the slot NAME, for intent requests</li>
+ *     <li><code>session:PATH</code>: value of the session attribute at a dot-separated PATH, e.g. <code>session:game.state</code></li>
+ * </ul>
+ *
+ * Only annotate methods whose response is fully determined by the key, and do not mutate cached responses
+ * in response interceptors. A hit skips the method entirely, so none of its side effects, such as writing
+ * session attributes, happen for requests served from the cache.
+ *
+ * @see ResponseCache for the cache implementation
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface CacheableResponse {
+    /**
+     * @return expressions the cache key is built from
+     */
+    String[] key() default {"locale", "intentName"};
+
+    /**
+     * @return time a response is cached for, or zero to cache it until it is evicted
+     */
+    long ttl() default 0;
+
+    /**
+     * @return unit of {@link #ttl()}
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * @return maximum number of responses cached for the method
+     */
+    int capacity() default 256;
+}
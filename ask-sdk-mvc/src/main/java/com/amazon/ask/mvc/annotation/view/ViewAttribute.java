@@ -0,0 +1,40 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.annotation.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Declares the type of a model attribute referenced by a {@link ViewTemplate}. Properties of typed attributes are
+ * read through their getters, and checked when the template is compiled. Attributes declared as {@link Object} are
+ * read reflectively.
+ */
+@Documented
+@Target({})
+@Retention(CLASS)
+public @interface ViewAttribute {
+    /**
+     * @return name of the attribute in the model
+     */
+    String name();
+
+    /**
+     * @return type of the attribute
+     */
+    Class<?> type() default Object.class;
+}
@@ -0,0 +1,65 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.annotation.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.PACKAGE;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Compiles a response template into a {@link com.amazon.ask.mvc.view.generated.GeneratedView} when the annotated
+ * type or package is compiled. Requires the <code>ask-sdk-mvc-compiler</code> annotation processor.
+ *
+ * A template is the JSON of a {@link com.amazon.ask.model.Response}, in the format of the
+ * {@link com.amazon.ask.mvc.view.json.JsonTemplateViewResolver} without its <code>#each</code>, <code>#as</code> and
+ * <code>#value</code> directives:
+ * <ul>
+ *     <li>strings may contain <code>${path}</code> placeholders, where the path is a dot-separated chain of
+ *     properties starting at a model attribute, <code>envelope</code>, <code>request</code> or <code>session</code></li>
+ *     <li>objects may contain an <code>"#if": "path"</code> (or <code>"!path"</code>) entry, omitting the object when
+ *     the path is null, false or empty</li>
+ * </ul>
+ *
+ * Unknown response properties, undeclared attributes and unknown properties of typed attributes are compile errors.
+ */
+@Documented
+@Target({TYPE, PACKAGE})
+@Retention(CLASS)
+@Repeatable(ViewTemplates.class)
+public @interface ViewTemplate {
+    /**
+     * @return name of the view, as returned by controllers
+     */
+    String name();
+
+    /**
+     * @return class path location of the template, e.g. <code>views/hello.json</code>
+     */
+    String template();
+
+    /**
+     * @return simple name of the generated class, derived from the view name by default
+     */
+    String className() default "";
+
+    /**
+     * @return model attributes referenced by the template
+     */
+    ViewAttribute[] attributes() default {};
+}
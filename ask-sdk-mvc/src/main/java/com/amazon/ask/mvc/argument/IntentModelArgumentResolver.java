@@ -15,7 +15,6 @@ package com.amazon.ask.mvc.argument;
 
 import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.interaction.mapper.IntentMapper;
-import com.amazon.ask.interaction.mapper.IntentParseException;
 import com.amazon.ask.mvc.mapper.ArgumentResolverContext;
 import com.amazon.ask.mvc.plugin.ArgumentResolver;
 import com.amazon.ask.util.ValidationUtils;
@@ -34,14 +33,10 @@ public class IntentModelArgumentResolver implements ArgumentResolver {
 
     @Override
     public Optional<Object> resolve(ArgumentResolverContext input) {
-        try {
-            if (input.requestTypeEquals(IntentRequest.class)) {
-                Object model = intentMapper.parseIntent((IntentRequest) input.unwrapRequest());
-                if (input.getMethodParameter().getType().isInstance(model)) {
-                    return Optional.of(model);
-                }
-            }
-        } catch (IntentParseException e) {
+        if (input.requestTypeEquals(IntentRequest.class)) {
+            return intentMapper.tryParseIntent((IntentRequest) input.unwrapRequest())
+                .getValue()
+                .filter(input.getMethodParameter().getType()::isInstance);
         }
         return Optional.empty();
     }
@@ -15,7 +15,6 @@ package com.amazon.ask.mvc.argument;
 
 import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.interaction.mapper.IntentMapper;
-import com.amazon.ask.interaction.mapper.IntentParseException;
 import com.amazon.ask.mvc.annotation.argument.Slot;
 import com.amazon.ask.mvc.mapper.ArgumentResolverContext;
 import com.amazon.ask.mvc.plugin.ArgumentResolver;
@@ -35,14 +34,11 @@ public class SlotModelArgumentResolver implements ArgumentResolver {
 
     @Override
     public Optional<Object> resolve(ArgumentResolverContext input) {
-        try {
-            if (input.requestTypeEquals(IntentRequest.class)) {
-                Optional<Slot> annotation = input.getMethodParameter().findAnnotation(Slot.class);
-                if (annotation.isPresent()) {
-                    return Optional.of(intentMapper.parseIntentSlot((IntentRequest) input.unwrapRequest(), annotation.get().value()));
-                }
+        if (input.requestTypeEquals(IntentRequest.class)) {
+            Optional<Slot> annotation = input.getMethodParameter().findAnnotation(Slot.class);
+            if (annotation.isPresent()) {
+                return intentMapper.tryParseIntentSlot((IntentRequest) input.unwrapRequest(), annotation.get().value()).getValue();
             }
-        } catch (IntentParseException e) {
         }
         return Optional.empty();
     }
@@ -0,0 +1,285 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.mapper.cache;
+
+import com.amazon.ask.dispatcher.request.handler.HandlerInput;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.Session;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.annotation.cache.CacheableResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Bounded, thread-safe cache of the responses rendered by a single request handler method.
+ *
+ * Keys are computed by a list of extractors compiled once from the {@link CacheableResponse} expressions.
+ * Misses are lock-free; a lock is taken briefly on a hit to record the access, so the least recently used
+ * response is evicted when the cache is full. Expired responses are evicted when they are read, and at most once
+ * per time to live when a response is stored.
+ *
+ * The rendered {@link Response} itself is stored and returned on every hit, so a hit costs no rendering or
+ * deserialization. SDK model objects are immutable, so the same instance is safely shared by concurrent requests.
+ */
+public class ResponseCache {
+    private static final String LOCALE = "locale";
+    private static final String INTENT_NAME = "intentName";
+    private static final String SLOT_PREFIX = "slot:";
+    private static final String SESSION_PREFIX = "session:";
+    private static final Pattern PATH_SEPARATOR = Pattern.compile("\\.");
+
+    private final List<Function<HandlerInput, Object>> keyExtractors;
+    private final long ttlNanos;
+
+    private final Map<List<Object>, CachedResponse> accessCache;
+    private final Map<List<Object>, CachedResponse> creationCache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    /** time after which {@link #put} next purges expired responses, guarded by the creation cache **/
+    private long nextPurgeAt;
+
+    public ResponseCache(CacheableResponse annotation) {
+        this(Arrays.asList(assertNotNull(annotation, "annotation").key()), annotation.unit().toNanos(annotation.ttl()), annotation.capacity());
+    }
+
+    public ResponseCache(List<String> keyExpressions, long ttlNanos, int capacity) {
+        assertIsPositive(capacity, "capacity");
+        this.keyExtractors = compile(assertNotNull(keyExpressions, "keyExpressions"));
+        this.ttlNanos = ttlNanos;
+        this.nextPurgeAt = System.nanoTime() + ttlNanos;
+        this.accessCache = new ConcurrentHashMap<>(capacity);
+        this.creationCache = new LinkedHashMap<List<Object>, CachedResponse>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResponse> eldest) {
+                if (size() > capacity) {
+                    accessCache.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Compute the cache key of a request.
+     *
+     * @param input input for the current request
+     * @return cache key
+     */
+    public List<Object> key(HandlerInput input) {
+        Object[] key = new Object[keyExtractors.size() + 1];
+        key[0] = input.getRequestEnvelope().getRequest().getType();
+        for (int i = 0; i < keyExtractors.size(); i++) {
+            key[i + 1] = keyExtractors.get(i).apply(input);
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Get a cached response.
+     *
+     * @param key cache key
+     * @return the cached response if there is one and it has not expired
+     */
+    public Optional<Response> get(List<Object> key) {
+        CachedResponse entry = accessCache.get(key);
+        if (entry != null) {
+            synchronized (creationCache) {
+                if (entry.isExpired()) {
+                    if (creationCache.get(key) == entry) {
+                        creationCache.remove(key);
+                        accessCache.remove(key);
+                    }
+                    entry = null;
+                } else {
+                    // records the access, unless the entry was evicted or replaced since it was read
+                    creationCache.get(key);
+                }
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            return Optional.of(entry.response);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Cache a response.
+     *
+     * @param key cache key
+     * @param response rendered response
+     */
+    public void put(List<Object> key, Response response) {
+        long now = System.nanoTime();
+        CachedResponse entry = new CachedResponse(assertNotNull(response, "response"), ttlNanos > 0 ? now + ttlNanos : 0);
+        synchronized (creationCache) {
+            if (ttlNanos > 0 && now - nextPurgeAt > 0) {
+                purgeExpired();
+                nextPurgeAt = now + ttlNanos;
+            }
+            creationCache.put(key, entry);
+            accessCache.put(key, entry);
+        }
+    }
+
+    /**
+     * Evict all cached responses.
+     */
+    public void clear() {
+        synchronized (creationCache) {
+            creationCache.clear();
+            accessCache.clear();
+        }
+    }
+
+    /**
+     * @return hit and miss counts of this cache
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), accessCache.size());
+    }
+
+    private void purgeExpired() {
+        Iterator<Map.Entry<List<Object>, CachedResponse>> entries = creationCache.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<List<Object>, CachedResponse> entry = entries.next();
+            if (entry.getValue().isExpired()) {
+                entries.remove();
+                accessCache.remove(entry.getKey());
+            }
+        }
+    }
+
+    private static List<Function<HandlerInput, Object>> compile(List<String> expressions) {
+        List<Function<HandlerInput, Object>> extractors = new ArrayList<>(expressions.size());
+        for (String expression : expressions) {
+            if (LOCALE.equals(expression)) {
+                extractors.add(input -> input.getRequestEnvelope().getRequest().getLocale());
+            } else if (INTENT_NAME.equals(expression)) {
+                extractors.add(input -> {
+                    Request request = input.getRequestEnvelope().getRequest();
+                    return request instanceof IntentRequest ? ((IntentRequest) request).getIntent().getName() : null;
+                });
+            } else if (expression.startsWith(SLOT_PREFIX) && expression.length() > SLOT_PREFIX.length()) {
+                String slotName = expression.substring(SLOT_PREFIX.length());
+                extractors.add(input -> readSlot(input, slotName));
+            } else if (expression.startsWith(SESSION_PREFIX) && expression.length() > SESSION_PREFIX.length()) {
+                String[] path = PATH_SEPARATOR.split(expression.substring(SESSION_PREFIX.length()));
+                extractors.add(input -> readSessionAttribute(input, path));
+            } else {
+                throw new IllegalArgumentException(String.format("Unsupported response cache key expression: '%s'", expression));
+            }
+        }
+        return extractors;
+    }
+
+    private static Object readSlot(HandlerInput input, String slotName) {
+        Request request = input.getRequestEnvelope().getRequest();
+        if (request instanceof IntentRequest) {
+            Map<String, Slot> slots = ((IntentRequest) request).getIntent().getSlots();
+            if (slots != null) {
+                Slot slot = slots.get(slotName);
+                return slot == null ? null : slot.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Object readSessionAttribute(HandlerInput input, String[] path) {
+        Session session = input.getRequestEnvelope().getSession();
+        Object value = session == null ? null : session.getAttributes();
+        for (String name : path) {
+            if (!(value instanceof Map)) {
+                return null;
+            }
+            value = ((Map) value).get(name);
+        }
+        return value;
+    }
+
+    private static final class CachedResponse {
+        private final Response response;
+        private final long expiresAt;
+
+        private CachedResponse(Response response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    /**
+     * Point-in-time statistics of a {@link ResponseCache}.
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+
+        public Statistics(long hitCount, long missCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return number of responses currently cached
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return ratio of requests served from the cache, or zero if there were no requests
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Statistics{hitCount=%d, missCount=%d, size=%d, hitRate=%.3f}", hitCount, missCount, size, getHitRate());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.mapper.cache;
+
+import com.amazon.ask.mvc.annotation.cache.CacheableResponse;
+import com.amazon.ask.mvc.mapper.ControllerMethodContext;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link ResponseCache} of every controller method annotated with {@link CacheableResponse},
+ * so their statistics can be inspected and their responses evicted.
+ */
+public class ResponseCacheRegistry {
+    private final Map<Method, ResponseCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Get or create the response cache for a controller method.
+     *
+     * @param context controller method context
+     * @return the method's cache, or empty if the method is not annotated with {@link CacheableResponse}
+     */
+    public Optional<ResponseCache> getOrCreate(ControllerMethodContext context) {
+        CacheableResponse annotation = context.getMethod().getAnnotation(CacheableResponse.class);
+        if (annotation == null) {
+            return Optional.empty();
+        }
+        return Optional.of(caches.computeIfAbsent(context.getMethod(), method -> new ResponseCache(annotation)));
+    }
+
+    /**
+     * @param method controller method
+     * @return the method's cache, if it has one
+     */
+    public Optional<ResponseCache> get(Method method) {
+        return Optional.ofNullable(caches.get(method));
+    }
+
+    /**
+     * @return statistics of each cached controller method
+     */
+    public Map<Method, ResponseCache.Statistics> getStatistics() {
+        Map<Method, ResponseCache.Statistics> statistics = new LinkedHashMap<>();
+        caches.forEach((method, cache) -> statistics.put(method, cache.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Evict the responses of every controller method.
+     */
+    public void clear() {
+        caches.values().forEach(ResponseCache::clear);
+    }
+}
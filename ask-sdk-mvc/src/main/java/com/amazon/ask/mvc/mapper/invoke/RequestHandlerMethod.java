@@ -16,11 +16,14 @@ package com.amazon.ask.mvc.mapper.invoke;
 import com.amazon.ask.dispatcher.request.handler.HandlerInput;
 import com.amazon.ask.dispatcher.request.handler.RequestHandler;
 import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.annotation.cache.CacheableResponse;
 import com.amazon.ask.mvc.mapper.ControllerMethodContext;
+import com.amazon.ask.mvc.mapper.cache.ResponseCache;
 import com.amazon.ask.mvc.view.ViewRenderer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
@@ -33,16 +36,22 @@ public abstract class RequestHandlerMethod implements RequestHandler {
     protected final ControllerMethodContext context;
     protected final MethodInvoker invoker;
     protected final ViewRenderer renderer;
+    /** cache of rendered responses if the method is annotated with {@link CacheableResponse}, otherwise null **/
+    protected final ResponseCache responseCache;
 
     public RequestHandlerMethod(ControllerMethodContext context, MethodInvoker invoker, ViewRenderer renderer) {
         this.context = assertNotNull(context, "context");
         this.invoker = invoker == null ? MethodInvoker.getInstance() : invoker;
         this.renderer = renderer == null ? ViewRenderer.getInstance() : renderer;
+        this.responseCache = context.getSkillContext().getResponseCacheRegistry().getOrCreate(context).orElse(null);
     }
 
     /**
      * Handles a request by invoking a method using reflection.
      *
+     * If the method is annotated with {@link CacheableResponse}, a cached response is returned when there is one
+     * for the request's key, without invoking the method.
+     *
      * @param input request envelope containing request, context and state
      * @return response if exists, otherwise empty
      * @see MethodInvoker for invocation and argument resolution logic.
@@ -50,6 +59,22 @@ public abstract class RequestHandlerMethod implements RequestHandler {
     @Override
     public Optional<Response> handle(HandlerInput input) {
         logger.trace("[{}] Invoking '{}:{}'", input.getRequestEnvelope().getRequest().getRequestId(), context.getMethod().getDeclaringClass().getName(), context.getMethod().getName());
+        if (responseCache == null) {
+            return invokeAndRender(input);
+        }
+
+        List<Object> key = responseCache.key(input);
+        Optional<Response> cached = responseCache.get(key);
+        if (cached.isPresent()) {
+            logger.trace("[{}] Returning cached response for key {}", input.getRequestEnvelope().getRequest().getRequestId(), key);
+            return cached;
+        }
+        Optional<Response> response = invokeAndRender(input);
+        response.ifPresent(r -> responseCache.put(key, r));
+        return response;
+    }
+
+    protected Optional<Response> invokeAndRender(HandlerInput input) {
         Object output = invoker.invoke(input, context);
         return renderer.render(context, output, input.getRequestEnvelope());
     }
@@ -0,0 +1,103 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.message;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A message pattern compiled once when the catalog is loaded.
+ *
+ * Patterns made only of text and plain <code>{n}</code> arguments are formatted by concatenating their segments.
+ * Other patterns, and arguments formatted by locale such as numbers and dates, are formatted by a copy of the
+ * compiled {@link MessageFormat}, as message formats can not be shared between threads.
+ */
+final class Message {
+    private final String pattern;
+    private final MessageFormat format;
+    private final Object[] segments;
+
+    Message(String pattern, Locale locale) {
+        this.pattern = pattern;
+        this.format = new MessageFormat(pattern, locale);
+        this.segments = segments(pattern);
+    }
+
+    String getPattern() {
+        return pattern;
+    }
+
+    String format(Object... args) {
+        if (segments == null || !isPlain(args)) {
+            return ((MessageFormat) format.clone()).format(args);
+        }
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * args.length);
+        for (Object segment : segments) {
+            if (segment instanceof Integer) {
+                int index = (Integer) segment;
+                if (index < args.length) {
+                    builder.append(args[index]);
+                } else {
+                    builder.append('{').append(index).append('}');
+                }
+            } else {
+                builder.append((String) segment);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isPlain(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Number || arg instanceof Date) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return text and argument indexes of the pattern, or null if it uses quotes or format types
+     */
+    private static Object[] segments(String pattern) {
+        if (pattern.indexOf('\'') >= 0) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = pattern.indexOf('{', start)) >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                return null;
+            }
+            String argument = pattern.substring(open + 1, close);
+            if (argument.isEmpty() || !argument.chars().allMatch(Character::isDigit) || argument.length() > 9) {
+                return null;
+            }
+            if (open > start) {
+                segments.add(pattern.substring(start, open));
+            }
+            segments.add(Integer.valueOf(argument));
+            start = close + 1;
+        }
+        if (start < pattern.length()) {
+            segments.add(pattern.substring(start));
+        }
+        return segments.toArray();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Messages of a skill, loaded from resource bundles for all of its locales when the catalog is built.
+ *
+ * Each locale's messages are flattened with those of its parent bundles into an immutable map of compiled patterns,
+ * so looking up or formatting a message never goes through {@link ResourceBundle}. Locales that were not loaded fall
+ * back to their language, and then to the base bundle.
+ */
+public final class MessageCatalog {
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private final String baseName;
+    private final Map<Locale, Messages> messages;
+    private final Map<String, Messages> messagesByTag;
+    private final Messages root;
+
+    private MessageCatalog(String baseName, Map<Locale, Messages> messages) {
+        this.baseName = baseName;
+        this.messages = messages;
+        this.root = messages.getOrDefault(Locale.ROOT, new Messages(Locale.ROOT, Collections.emptyMap()));
+        Map<String, Messages> messagesByTag = new HashMap<>();
+        messages.forEach((locale, localized) -> messagesByTag.put(locale.toLanguageTag(), localized));
+        this.messagesByTag = messagesByTag;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return base name of the bundles
+     */
+    public String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * @param locale locale of the request
+     * @return messages for the locale, its language or the base bundle
+     */
+    public Messages getMessages(Locale locale) {
+        Messages localized = messages.get(locale);
+        if (localized == null && !locale.getCountry().isEmpty()) {
+            localized = messages.get(new Locale(locale.getLanguage()));
+        }
+        return localized == null ? root : localized;
+    }
+
+    /**
+     * @param languageTag locale of the request, e.g. <code>en-US</code>, may be null
+     * @return messages for the locale, its language or the base bundle
+     */
+    public Messages getMessages(String languageTag) {
+        if (languageTag == null) {
+            return root;
+        }
+        Messages localized = messagesByTag.get(languageTag);
+        return localized == null ? getMessages(Locale.forLanguageTag(languageTag)) : localized;
+    }
+
+    private static Messages load(String baseName, Locale locale, ClassLoader classLoader) {
+        ResourceBundle bundle;
+        try {
+            bundle = ResourceBundle.getBundle(baseName, locale, classLoader, CONTROL);
+        } catch (MissingResourceException ex) {
+            return null;
+        }
+        Map<String, Message> messages = new HashMap<>();
+        for (String key : bundle.keySet()) {
+            Object value = bundle.getObject(key);
+            if (value instanceof String) {
+                try {
+                    messages.put(key, new Message((String) value, locale));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(String.format("Invalid message '%s' in bundle %s for locale %s", key, baseName, locale), ex);
+                }
+            }
+        }
+        return new Messages(locale, Collections.unmodifiableMap(messages));
+    }
+
+    public static final class Builder {
+        private String baseName;
+        private final List<Locale> locales = new ArrayList<>();
+        private ClassLoader classLoader;
+
+        private Builder() {
+        }
+
+        /**
+         * @param baseName base name of the bundles, e.g. <code>com.example.Messages</code>
+         * @return this
+         */
+        public Builder withBaseName(String baseName) {
+            this.baseName = baseName;
+            return this;
+        }
+
+        public Builder addLocale(Locale locale) {
+            this.locales.add(assertNotNull(locale, "locale"));
+            return this;
+        }
+
+        public Builder withLocales(Collection<Locale> locales) {
+            this.locales.clear();
+            locales.forEach(this::addLocale);
+            return this;
+        }
+
+        /**
+         * @param classLoader class loader the bundles are loaded with, defaults to the context class loader
+         * @return this
+         */
+        public Builder withClassLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        public MessageCatalog build() {
+            assertNotNull(baseName, "baseName");
+            ClassLoader loader = classLoader == null ? Thread.currentThread().getContextClassLoader() : classLoader;
+
+            Set<Locale> candidates = new LinkedHashSet<>();
+            for (Locale locale : locales) {
+                candidates.add(locale);
+                candidates.add(new Locale(locale.getLanguage()));
+            }
+            candidates.add(Locale.ROOT);
+
+            Map<Locale, Messages> messages = new HashMap<>();
+            for (Locale locale : candidates) {
+                Messages localized = load(baseName, locale, loader);
+                if (localized != null) {
+                    messages.put(locale, localized);
+                }
+            }
+            if (messages.isEmpty()) {
+                throw new IllegalArgumentException(String.format("No bundles found for %s", baseName));
+            }
+            return new MessageCatalog(baseName, Collections.unmodifiableMap(messages));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.message;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Messages of a {@link MessageCatalog} for one locale.
+ *
+ * As a map, it holds the message patterns by key like a {@link java.util.ResourceBundle}, so views can read them as
+ * properties, e.g. <code>model.messages.WELCOME</code>. Messages with arguments are formatted with
+ * {@link #format(String, Object...)}.
+ */
+public final class Messages extends AbstractMap<String, String> {
+    private final Locale locale;
+    private final Map<String, Message> messages;
+    private final Map<String, String> patterns;
+
+    Messages(Locale locale, Map<String, Message> messages) {
+        this.locale = assertNotNull(locale, "locale");
+        this.messages = assertNotNull(messages, "messages");
+        Map<String, String> patterns = new HashMap<>();
+        messages.forEach((key, message) -> patterns.put(key, message.getPattern()));
+        this.patterns = Collections.unmodifiableMap(patterns);
+    }
+
+    /**
+     * @return locale the messages were loaded for
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @param key message key
+     * @return message pattern
+     * @throws MissingResourceException if there is no message for the key
+     */
+    public String getString(String key) {
+        return message(key).getPattern();
+    }
+
+    /**
+     * Formats a message like {@link java.text.MessageFormat#format(String, Object...)}.
+     *
+     * @param key message key
+     * @param args message arguments
+     * @return formatted message
+     * @throws MissingResourceException if there is no message for the key
+     */
+    public String format(String key, Object... args) {
+        return message(key).format(args);
+    }
+
+    @Override
+    public String get(Object key) {
+        return patterns.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return patterns.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return patterns.size();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return patterns.entrySet();
+    }
+
+    private Message message(String key) {
+        Message message = messages.get(key);
+        if (message == null) {
+            throw new MissingResourceException(String.format("No message for key '%s' and locale %s", key, locale),
+                Messages.class.getName(), key);
+        }
+        return message;
+    }
+}
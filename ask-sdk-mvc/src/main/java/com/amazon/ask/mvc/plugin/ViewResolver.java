@@ -33,4 +33,18 @@ public interface ViewResolver {
      * @throws Exception if there was an error loading/resolving the view
      */
     Optional<View> resolve(Object handlerOutput, RequestEnvelope requestEnvelope) throws Exception;
+
+    /**
+     * Whether this resolver resolves a {@link com.amazon.ask.mvc.view.ModelAndView} based only on its view name and
+     * the request's locale, ignoring the model and the rest of the request.
+     *
+     * The view renderer remembers which resolver rendered a view name for a locale, and skips the resolvers ahead of
+     * it on later renders only if all of them declare this. Resolvers that inspect the model, the device or any other
+     * part of the request must keep the default.
+     *
+     * @return true if resolution depends only on the view name and locale, false by default
+     */
+    default boolean resolvesByViewName() {
+        return false;
+    }
 }
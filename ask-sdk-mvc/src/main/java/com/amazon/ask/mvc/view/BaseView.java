@@ -19,13 +19,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 
 /**
- * Appends the request envelope to the mode, renders the response to a JSON string and parses the result.
+ * Layers the request envelope under the model, renders the response to a JSON string and parses the result.
  */
 public abstract class BaseView implements View {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
@@ -46,12 +45,15 @@ public abstract class BaseView implements View {
 
     protected abstract String renderInternal(Map<String, Object> model) throws Exception;
 
+    /**
+     * Creates the read-only model for a render, see {@link ViewModel}.
+     *
+     * @param mav model and view returned by the controller
+     * @param requestEnvelope the envelope for the current request
+     * @return model exposed to the view
+     */
     protected Map<String, Object> prepareModel(ModelAndView mav, RequestEnvelope requestEnvelope) {
-        Map<String, Object> model = new HashMap<>(mav.getModel());
-        model.put("envelope", requestEnvelope);
-        model.put("request", requestEnvelope.getRequest());
-        model.put("session", requestEnvelope.getSession());
-        return model;
+        return new ViewModel(mav.getModel(), requestEnvelope);
     }
 
 }
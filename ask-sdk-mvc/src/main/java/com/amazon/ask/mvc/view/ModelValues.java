@@ -0,0 +1,107 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and tests model values for views that evaluate paths without a template engine.
+ *
+ * Bean getters are introspected once per class, and shared with template engine integrations through
+ * {@link #getters(Class)}.
+ */
+public final class ModelValues {
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            try {
+                Map<String, Method> getters = new HashMap<>();
+                for (PropertyDescriptor property : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                    Method getter = property.getReadMethod();
+                    // getters of non-public classes can only be called through reflection if made accessible
+                    if (getter != null && Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                        getters.put(property.getName(), getter);
+                    }
+                }
+                return Collections.unmodifiableMap(getters);
+            } catch (IntrospectionException ex) {
+                return Collections.emptyMap();
+            }
+        }
+    };
+
+    private ModelValues() {
+    }
+
+    /**
+     * @param type bean class
+     * @return public getter of each property by name
+     */
+    public static Map<String, Method> getters(Class<?> type) {
+        return GETTERS.get(type);
+    }
+
+    /**
+     * Reads a property of a value.
+     *
+     * @param target map or bean, may be null
+     * @param name name of the entry or property
+     * @return value of the property, or null if the target is null or has no such property
+     * @throws Exception if the getter threw an exception
+     */
+    public static Object property(Object target, String name) throws Exception {
+        if (target == null) {
+            return null;
+        } else if (target instanceof Map) {
+            return ((Map<?, ?>) target).get(name);
+        }
+        Method getter = GETTERS.get(target.getClass()).get(name);
+        return getter == null ? null : getter.invoke(target);
+    }
+
+    /**
+     * @param value value of a condition
+     * @return false for null, false, empty strings, collections and maps, otherwise true
+     */
+    public static boolean truthy(Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() > 0;
+        } else if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * @param value value of a placeholder interpolated into a string
+     * @return string value, or an empty string for null
+     */
+    public static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
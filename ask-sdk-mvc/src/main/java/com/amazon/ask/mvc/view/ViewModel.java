@@ -0,0 +1,152 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.RequestEnvelope;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Read-only model passed to views, layering the controller's model attributes over the entries derived from the
+ * request: <code>envelope</code>, <code>request</code> and <code>session</code>.
+ *
+ * Nothing is copied: attributes are read from the controller's model, and the request entries are computed on
+ * access, so creating the model for a render costs the same whatever its size.
+ */
+public final class ViewModel extends AbstractMap<String, Object> {
+    public static final String ENVELOPE = "envelope";
+    public static final String REQUEST = "request";
+    public static final String SESSION = "session";
+
+    private static final List<String> REQUEST_KEYS = Arrays.asList(ENVELOPE, REQUEST, SESSION);
+
+    private final Map<String, Object> attributes;
+    private final RequestEnvelope requestEnvelope;
+    private Set<Entry<String, Object>> entrySet;
+
+    public ViewModel(Map<String, Object> attributes, RequestEnvelope requestEnvelope) {
+        this.attributes = assertNotNull(attributes, "attributes");
+        this.requestEnvelope = assertNotNull(requestEnvelope, "requestEnvelope");
+    }
+
+    /**
+     * @return the request envelope the model was created for
+     */
+    public RequestEnvelope getRequestEnvelope() {
+        return requestEnvelope;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = attributes.get(key);
+        if (value != null || attributes.containsKey(key)) {
+            return value;
+        }
+        return requestValue(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return attributes.containsKey(key) || REQUEST_KEYS.contains(key);
+    }
+
+    @Override
+    public int size() {
+        int size = attributes.size();
+        for (String key : REQUEST_KEYS) {
+            if (!attributes.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Object requestValue(Object key) {
+        if (ENVELOPE.equals(key)) {
+            return requestEnvelope;
+        } else if (REQUEST.equals(key)) {
+            return requestEnvelope.getRequest();
+        } else if (SESSION.equals(key)) {
+            return requestEnvelope.getSession();
+        }
+        return null;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Iterator<Entry<String, Object>> attributeEntries = attributes.entrySet().iterator();
+            Iterator<String> requestKeys = REQUEST_KEYS.iterator();
+            return new Iterator<Entry<String, Object>>() {
+                private Entry<String, Object> next = advance();
+
+                private Entry<String, Object> advance() {
+                    if (attributeEntries.hasNext()) {
+                        Entry<String, Object> entry = attributeEntries.next();
+                        return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                    }
+                    while (requestKeys.hasNext()) {
+                        String key = requestKeys.next();
+                        if (!attributes.containsKey(key)) {
+                            return new SimpleImmutableEntry<>(key, requestValue(key));
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, Object> entry = next;
+                    next = advance();
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ViewModel.this.size();
+        }
+    }
+}
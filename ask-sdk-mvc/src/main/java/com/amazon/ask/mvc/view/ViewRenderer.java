@@ -20,20 +20,56 @@ import com.amazon.ask.mvc.plugin.ViewResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
 
 /**
  * Encapsulates logic for rendering the output of a controller.
+ *
+ * The resolver that resolved a view name for a locale is remembered in a bounded LRU index, so later renders of
+ * the view go straight to it instead of querying every resolver in turn. A resolver is only remembered if every
+ * resolver ahead of it declares {@link ViewResolver#resolvesByViewName()}, since skipping a resolver that inspects
+ * the model or request could change which view is rendered. If the remembered resolver no longer resolves the view,
+ * all resolvers are queried again.
  */
 public class ViewRenderer {
+    private static final int DEFAULT_ROUTE_CAPACITY = 1024;
     private static final ViewRenderer INSTANCE = new ViewRenderer();
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private final Map<Route, ViewResolver> routes;
+    private final Map<Route, ViewResolver> routeIndex;
+
     public static ViewRenderer getInstance() {
         return INSTANCE;
     }
 
     protected ViewRenderer() {
+        this(DEFAULT_ROUTE_CAPACITY);
+    }
+
+    /**
+     * @param routeCapacity maximum number of view names, per locale and skill, whose resolver is remembered
+     */
+    protected ViewRenderer(int routeCapacity) {
+        assertIsPositive(routeCapacity, "routeCapacity");
+        this.routes = new ConcurrentHashMap<>();
+        this.routeIndex = new LinkedHashMap<Route, ViewResolver>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Route, ViewResolver> eldest) {
+                boolean evict = size() > routeCapacity;
+                if (evict) {
+                    routes.remove(eldest.getKey());
+                }
+                return evict;
+            }
+        };
     }
 
     /**
@@ -70,11 +106,33 @@ public class ViewRenderer {
     protected Optional<Response> renderInternal(ControllerMethodContext context, Object output, RequestEnvelope requestEnvelope) {
         //see if there is a view renderer that can handle the output and build a response
         try {
-            for (ViewResolver viewResolver : context.getSkillContext().getViewResolvers()) {
+            Collection<ViewResolver> viewResolvers = context.getSkillContext().getViewResolvers();
+            Route route = output instanceof ModelAndView
+                ? new Route(viewResolvers, ((ModelAndView) output).getViewName(), requestEnvelope.getRequest().getLocale())
+                : null;
+
+            if (route != null) {
+                ViewResolver owner = routes.get(route);
+                if (owner != null) {
+                    Optional<View> view = owner.resolve(output, requestEnvelope);
+                    if (view.isPresent()) {
+                        touch(route);
+                        return Optional.of(view.get().render(output, requestEnvelope));
+                    }
+                    forget(route);
+                }
+            }
+
+            boolean routable = route != null;
+            for (ViewResolver viewResolver : viewResolvers) {
                 Optional<View> view = viewResolver.resolve(output, requestEnvelope);
                 if (view.isPresent()) {
+                    if (routable) {
+                        remember(route, viewResolver);
+                    }
                     return Optional.of(view.get().render(output, requestEnvelope));
                 }
+                routable = routable && viewResolver.resolvesByViewName();
             }
 
         } catch (Exception e) {
@@ -89,4 +147,55 @@ public class ViewRenderer {
         logger.error(String.format("[%s] Found no views that could handle output: %s", requestEnvelope.getRequest().getRequestId(), output.getClass().getName()));
         throw new RuntimeException("Found no views that could handle output: " + output.getClass().getName());
     }
+
+    private void remember(Route route, ViewResolver viewResolver) {
+        synchronized (routeIndex) {
+            routeIndex.put(route, viewResolver);
+            routes.put(route, viewResolver);
+        }
+    }
+
+    private void touch(Route route) {
+        // records the access, so the least recently used route is evicted
+        synchronized (routeIndex) {
+            routeIndex.get(route);
+        }
+    }
+
+    private void forget(Route route) {
+        synchronized (routeIndex) {
+            routeIndex.remove(route);
+            routes.remove(route);
+        }
+    }
+
+    /**
+     * Key of a view name's resolver: the skill's resolvers, compared by identity, the view name and the locale.
+     */
+    private static final class Route {
+        private final Collection<ViewResolver> viewResolvers;
+        private final String viewName;
+        private final String locale;
+        private final int hashCode;
+
+        Route(Collection<ViewResolver> viewResolvers, String viewName, String locale) {
+            this.viewResolvers = viewResolvers;
+            this.viewName = viewName;
+            this.locale = locale;
+            this.hashCode = 31 * (31 * System.identityHashCode(viewResolvers) + Objects.hashCode(viewName)) + Objects.hashCode(locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Route)) return false;
+            Route that = (Route) o;
+            return viewResolvers == that.viewResolvers && Objects.equals(viewName, that.viewName) && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.apl;
+
+import com.amazon.ask.model.Directive;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Directive rendering an APL document on devices with a screen.
+ *
+ * The document is shared by every directive of a view and must not be modified.
+ */
+@JsonTypeName(AplDocumentDirective.TYPE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AplDocumentDirective extends Directive {
+    public static final String TYPE = "Alexa.Presentation.APL.RenderDocument";
+
+    private final String token;
+    private final Map<String, Object> document;
+    private final Map<String, Object> datasources;
+
+    public AplDocumentDirective(String token, Map<String, Object> document, Map<String, Object> datasources) {
+        this.type = TYPE;
+        this.token = token;
+        this.document = document;
+        this.datasources = datasources;
+    }
+
+    @JsonProperty("token")
+    public String getToken() {
+        return token;
+    }
+
+    @JsonProperty("document")
+    public Map<String, Object> getDocument() {
+        return document;
+    }
+
+    @JsonProperty("datasources")
+    public Map<String, Object> getDatasources() {
+        return datasources;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AplDocumentDirective that = (AplDocumentDirective) o;
+        return Objects.equals(token, that.token)
+            && Objects.equals(document, that.document)
+            && Objects.equals(datasources, that.datasources);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(token, document, datasources);
+    }
+}
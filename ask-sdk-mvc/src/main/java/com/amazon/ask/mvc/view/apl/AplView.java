@@ -0,0 +1,100 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.apl;
+
+import com.amazon.ask.model.Directive;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.plugin.ViewResolver;
+import com.amazon.ask.mvc.view.ModelAndView;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.ViewModel;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Renders an APL document, parsed once when the view is loaded, with datasources read from the model.
+ *
+ * Only the datasources are converted on each render, the cached document is added to the response as is. The rest
+ * of the response, such as speech, is rendered by the view of the same name from the response resolver, if any.
+ */
+public class AplView implements View {
+    private static final TypeReference<Map<String, Object>> DATASOURCES_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    protected final ObjectMapper mapper;
+    protected final Map<String, Object> document;
+    protected final String datasourcesAttribute;
+    protected final ViewResolver responseResolver;
+
+    public AplView(ObjectMapper mapper, Map<String, Object> document, String datasourcesAttribute, ViewResolver responseResolver) {
+        this.mapper = assertNotNull(mapper, "mapper");
+        this.document = assertNotNull(document, "document");
+        this.datasourcesAttribute = assertNotNull(datasourcesAttribute, "datasourcesAttribute");
+        this.responseResolver = responseResolver;
+    }
+
+    @Override
+    public Response render(Object output, RequestEnvelope requestEnvelope) throws Exception {
+        ModelAndView mav = (ModelAndView) output;
+        Response response = renderResponse(mav, requestEnvelope);
+        Map<String, Object> datasources = datasources(new ViewModel(mav.getModel(), requestEnvelope).get(datasourcesAttribute));
+
+        List<Directive> directives = new ArrayList<>();
+        if (response.getDirectives() != null) {
+            directives.addAll(response.getDirectives());
+        }
+        directives.add(new AplDocumentDirective(mav.getViewName(), document, datasources));
+
+        return Response.builder()
+            .withOutputSpeech(response.getOutputSpeech())
+            .withCard(response.getCard())
+            .withReprompt(response.getReprompt())
+            .withDirectives(directives)
+            .withShouldEndSession(response.getShouldEndSession())
+            .withCanFulfillIntent(response.getCanFulfillIntent())
+            .build();
+    }
+
+    /**
+     * @return the static APL document, shared by all renders
+     */
+    public Map<String, Object> getDocument() {
+        return document;
+    }
+
+    private Response renderResponse(ModelAndView mav, RequestEnvelope requestEnvelope) throws Exception {
+        if (responseResolver != null) {
+            Optional<View> view = responseResolver.resolve(mav, requestEnvelope);
+            if (view.isPresent()) {
+                return view.get().render(mav, requestEnvelope);
+            }
+        }
+        return Response.builder().build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> datasources(Object value) {
+        if (value == null || value instanceof Map) {
+            return (Map<String, Object>) value;
+        }
+        return mapper.convertValue(value, DATASOURCES_TYPE);
+    }
+}
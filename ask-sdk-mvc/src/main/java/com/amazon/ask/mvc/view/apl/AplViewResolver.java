@@ -0,0 +1,112 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.apl;
+
+import com.amazon.ask.mvc.plugin.ViewResolver;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.resolver.ClassPathViewResolver;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Loads APL documents from resource files as {@link AplView}s.
+ *
+ * Each document is parsed once into an immutable tree, cached with its view and shared by every response rendering
+ * it. Datasources are read from a model attribute, <code>datasources</code> by default, and the rest of the response
+ * is rendered by the optional response resolver for the same view name.
+ */
+public class AplViewResolver extends ClassPathViewResolver {
+    private static final TypeReference<Map<String, Object>> DOCUMENT_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    protected final String datasourcesAttribute;
+    protected final ViewResolver responseResolver;
+
+    protected AplViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                              Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                              String datasourcesAttribute, ViewResolver responseResolver) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
+        this.datasourcesAttribute = datasourcesAttribute == null ? "datasources" : datasourcesAttribute;
+        this.responseResolver = responseResolver;
+    }
+
+    @Override
+    protected View loadView(String viewName, URL viewResource) throws Exception {
+        try (InputStream stream = viewResource.openStream()) {
+            Map<String, Object> document = mapper.readValue(stream, DOCUMENT_TYPE);
+            return new AplView(mapper, freeze(document), datasourcesAttribute, responseResolver);
+        }
+    }
+
+    /**
+     * Makes a parsed JSON tree immutable, so it can be shared between responses.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T freeze(T value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((key, child) -> map.put(key, freeze(child)));
+            return (T) Collections.unmodifiableMap(map);
+        } else if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            ((List<Object>) value).forEach(child -> list.add(freeze(child)));
+            return (T) Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    public static Builder builder() {
+        return new Builder()
+            .withSuffix(".json");
+    }
+
+    public static class Builder extends ClassPathViewResolver.Builder<Builder> {
+        protected String datasourcesAttribute;
+        protected ViewResolver responseResolver;
+
+        /**
+         * @param datasourcesAttribute name of the model attribute holding the document's datasources
+         * @return this
+         */
+        public Builder withDatasourcesAttribute(String datasourcesAttribute) {
+            this.datasourcesAttribute = datasourcesAttribute;
+            return this;
+        }
+
+        /**
+         * @param responseResolver resolves the views rendering the rest of the response, such as speech
+         * @return this
+         */
+        public Builder withResponseResolver(ViewResolver responseResolver) {
+            this.responseResolver = responseResolver;
+            return this;
+        }
+
+        public AplViewResolver build() {
+            return new AplViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix,
+                resourceClass, datasourcesAttribute, responseResolver);
+        }
+    }
+}
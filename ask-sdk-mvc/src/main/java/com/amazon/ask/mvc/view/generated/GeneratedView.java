@@ -0,0 +1,95 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.generated;
+
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.view.ModelAndView;
+import com.amazon.ask.mvc.view.ModelValues;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.ViewModel;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Base class of the views generated from response templates at compile time, see
+ * {@link com.amazon.ask.mvc.annotation.view.ViewTemplate}.
+ *
+ * Generated views build the {@link Response} directly from the model with the SDK's model builders, so no template
+ * engine or JSON parser is involved when rendering.
+ */
+public abstract class GeneratedView implements View {
+    private final String name;
+
+    protected GeneratedView(String name) {
+        this.name = assertNotNull(name, "name");
+    }
+
+    /**
+     * @return name of the view, as returned by controllers in a {@link ModelAndView}
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Response render(Object mav, RequestEnvelope requestEnvelope) throws Exception {
+        return render(new ViewModel(((ModelAndView) mav).getModel(), requestEnvelope));
+    }
+
+    /**
+     * Builds the response.
+     *
+     * @param model model exposed to the template
+     * @return rendered response
+     * @throws Exception if there was an error rendering the response
+     */
+    protected abstract Response render(ViewModel model) throws Exception;
+
+    /**
+     * Reads a property of a value whose type was not known when the template was compiled.
+     *
+     * @param target map or bean, may be null
+     * @param name name of the entry or property
+     * @return value of the property, or null if the target is null or has no such property
+     * @throws Exception if the getter threw an exception
+     */
+    protected static Object property(Object target, String name) throws Exception {
+        return ModelValues.property(target, name);
+    }
+
+    /**
+     * @param value value of a condition
+     * @return false for null, false, empty strings, collections and maps, otherwise true
+     */
+    protected static boolean truthy(Object value) {
+        return ModelValues.truthy(value);
+    }
+
+    /**
+     * @param value value of a placeholder interpolated into a string
+     * @return string value, or an empty string for null
+     */
+    protected static String text(Object value) {
+        return ModelValues.text(value);
+    }
+
+    /**
+     * @param value value of a placeholder bound to a string property
+     * @return string value, or null for null
+     */
+    protected static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.generated;
+
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.resolver.BaseViewResolver;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves views generated from response templates at compile time.
+ *
+ * Generated views are registered as services of {@link GeneratedView} by the template compiler and discovered with a
+ * {@link ServiceLoader} when the resolver is built. Views can also be added explicitly. Views are registered by their
+ * own name, so a configured prefix and suffix are stripped from each candidate before it is looked up.
+ */
+public class GeneratedViewResolver extends BaseViewResolver {
+    protected final Map<String, GeneratedView> views;
+
+    public GeneratedViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                 Collection<Pattern> viewNamePatterns, String prefix, String suffix, Collection<GeneratedView> views) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix);
+        Map<String, GeneratedView> byName = new HashMap<>();
+        for (GeneratedView view : views) {
+            GeneratedView existing = byName.putIfAbsent(view.getName(), view);
+            if (existing != null && existing.getClass() != view.getClass()) {
+                throw new IllegalArgumentException(String.format("View '%s' is generated by both %s and %s",
+                    view.getName(), existing.getClass().getName(), view.getClass().getName()));
+            }
+        }
+        this.views = Collections.unmodifiableMap(byName);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    protected boolean candidateExists(String candidate) {
+        String name = viewName(candidate);
+        return name != null && views.containsKey(name);
+    }
+
+    @Override
+    protected View resolveCandidate(String candidate) {
+        return views.get(viewName(candidate));
+    }
+
+    /**
+     * Reverses {@link #buildCompleteViewName(String)}.
+     *
+     * @param candidate complete view name
+     * @return name of the generated view, or null if the candidate lacks the prefix or suffix
+     */
+    protected String viewName(String candidate) {
+        if (candidate.length() < prefix.length() + suffix.length() || !candidate.startsWith(prefix) || !candidate.endsWith(suffix)) {
+            return null;
+        }
+        return candidate.substring(prefix.length(), candidate.length() - suffix.length());
+    }
+
+    public static final class Builder extends BaseViewResolver.Builder<Builder> {
+        private ClassLoader classLoader;
+        private boolean discover = true;
+        private final List<GeneratedView> views = new ArrayList<>();
+
+        /**
+         * @param classLoader class loader generated views are discovered with, defaults to the context class loader
+         * @return this
+         */
+        public Builder withClassLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        /**
+         * @param discover whether to discover generated views with a {@link ServiceLoader}, defaults to true
+         * @return this
+         */
+        public Builder withDiscovery(boolean discover) {
+            this.discover = discover;
+            return this;
+        }
+
+        public Builder addView(GeneratedView view) {
+            this.views.add(view);
+            return this;
+        }
+
+        public GeneratedViewResolver build() {
+            List<GeneratedView> resolved = new ArrayList<>(views);
+            if (discover) {
+                ClassLoader loader = classLoader == null ? Thread.currentThread().getContextClassLoader() : classLoader;
+                ServiceLoader.load(GeneratedView.class, loader).forEach(resolved::add);
+            }
+            return new GeneratedViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resolved);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Step of a compiled JSON template, writing tokens to a generator.
+ */
+interface Instruction {
+    /**
+     * @param generator generator the response is written to
+     * @param scope model and loop variables
+     * @throws Exception if a model value could not be read or written
+     */
+    void execute(JsonGenerator generator, Scope scope) throws Exception;
+}
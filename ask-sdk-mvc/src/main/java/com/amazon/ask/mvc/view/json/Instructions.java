@@ -0,0 +1,220 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.amazon.ask.mvc.view.ModelValues;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Instructions of compiled JSON templates.
+ */
+final class Instructions {
+    private Instructions() {
+    }
+
+    /**
+     * Writes a run of tokens that do not depend on the model.
+     */
+    static final class Literal implements Instruction {
+        private final JsonToken[] tokens;
+        private final Object[] values;
+
+        Literal(JsonToken[] tokens, Object[] values) {
+            this.tokens = tokens;
+            this.values = values;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws IOException {
+            for (int i = 0; i < tokens.length; i++) {
+                switch (tokens[i]) {
+                    case START_OBJECT:
+                        generator.writeStartObject();
+                        break;
+                    case END_OBJECT:
+                        generator.writeEndObject();
+                        break;
+                    case START_ARRAY:
+                        generator.writeStartArray();
+                        break;
+                    case END_ARRAY:
+                        generator.writeEndArray();
+                        break;
+                    case FIELD_NAME:
+                        generator.writeFieldName((SerializableString) values[i]);
+                        break;
+                    case VALUE_STRING:
+                        generator.writeString((SerializableString) values[i]);
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        writeNumber(generator, (Number) values[i]);
+                        break;
+                    case VALUE_TRUE:
+                        generator.writeBoolean(true);
+                        break;
+                    case VALUE_FALSE:
+                        generator.writeBoolean(false);
+                        break;
+                    default:
+                        generator.writeNull();
+                }
+            }
+        }
+
+        private static void writeNumber(JsonGenerator generator, Number number) throws IOException {
+            if (number instanceof Integer) {
+                generator.writeNumber(number.intValue());
+            } else if (number instanceof Long) {
+                generator.writeNumber(number.longValue());
+            } else if (number instanceof BigInteger) {
+                generator.writeNumber((BigInteger) number);
+            } else if (number instanceof BigDecimal) {
+                generator.writeNumber((BigDecimal) number);
+            } else {
+                generator.writeNumber(number.doubleValue());
+            }
+        }
+    }
+
+    /**
+     * Writes the value of a path as JSON, for strings consisting of a single placeholder.
+     */
+    static final class Value implements Instruction {
+        private final String[] path;
+
+        Value(String[] path) {
+            this.path = path;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws Exception {
+            Object value = scope.evaluate(path);
+            if (value instanceof String) {
+                generator.writeString((String) value);
+            } else {
+                generator.writeObject(value);
+            }
+        }
+    }
+
+    /**
+     * Writes a string interpolating literal text and the values of paths.
+     */
+    static final class Text implements Instruction {
+        private final Object[] parts;
+
+        /**
+         * @param parts literal strings and paths
+         */
+        Text(Object[] parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws Exception {
+            StringBuilder builder = new StringBuilder();
+            for (Object part : parts) {
+                builder.append(part instanceof String ? (String) part : ModelValues.text(scope.evaluate((String[]) part)));
+            }
+            generator.writeString(builder.toString());
+        }
+    }
+
+    /**
+     * Executes its body if the value of a path is truthy, see {@link ModelValues#truthy(Object)}.
+     */
+    static final class If implements Instruction {
+        private final String[] path;
+        private final boolean negated;
+        private final Instruction body;
+
+        If(String[] path, boolean negated, Instruction body) {
+            this.path = path;
+            this.negated = negated;
+            this.body = body;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws Exception {
+            if (ModelValues.truthy(scope.evaluate(path)) != negated) {
+                body.execute(generator, scope);
+            }
+        }
+    }
+
+    /**
+     * Executes its body for each element of the iterable, array or map values at a path.
+     */
+    static final class Each implements Instruction {
+        private final String[] path;
+        private final String variable;
+        private final Instruction body;
+
+        Each(String[] path, String variable, Instruction body) {
+            this.path = path;
+            this.variable = variable;
+            this.body = body;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws Exception {
+            Object value = scope.evaluate(path);
+            if (value == null) {
+                return;
+            } else if (value instanceof Map) {
+                value = ((Map<?, ?>) value).values();
+            }
+
+            if (value instanceof Iterable) {
+                for (Object item : (Iterable<?>) value) {
+                    body.execute(generator, scope.bind(variable, item));
+                }
+            } else if (value.getClass().isArray()) {
+                for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                    body.execute(generator, scope.bind(variable, Array.get(value, i)));
+                }
+            } else {
+                throw new IllegalArgumentException(String.format("Can not iterate over '%s' of type %s",
+                    String.join(".", path), value.getClass().getName()));
+            }
+        }
+    }
+
+    /**
+     * Executes instructions in order.
+     */
+    static final class Sequence implements Instruction {
+        private final Instruction[] instructions;
+
+        Sequence(Instruction[] instructions) {
+            this.instructions = instructions;
+        }
+
+        @Override
+        public void execute(JsonGenerator generator, Scope scope) throws Exception {
+            for (Instruction instruction : instructions) {
+                instruction.execute(generator, scope);
+            }
+        }
+    }
+}
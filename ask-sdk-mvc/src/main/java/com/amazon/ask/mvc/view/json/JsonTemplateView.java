@@ -0,0 +1,59 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.view.BaseView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.StringWriter;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Renders a JSON template compiled by {@link JsonTemplateViewResolver}.
+ *
+ * The response is written as tokens to a {@link TokenBuffer} and bound from it, so no JSON text is produced or
+ * parsed when rendering.
+ */
+public class JsonTemplateView extends BaseView {
+    private final Instruction program;
+
+    JsonTemplateView(ObjectMapper mapper, Instruction program) {
+        super(mapper);
+        this.program = assertNotNull(program, "program");
+    }
+
+    @Override
+    protected Response render(Map<String, Object> model) throws Exception {
+        TokenBuffer buffer = new TokenBuffer(mapper, false);
+        program.execute(buffer, new Scope(model));
+        try (JsonParser parser = buffer.asParser()) {
+            return mapper.readValue(parser, Response.class);
+        }
+    }
+
+    @Override
+    protected String renderInternal(Map<String, Object> model) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            program.execute(generator, new Scope(model));
+        }
+        return writer.toString();
+    }
+}
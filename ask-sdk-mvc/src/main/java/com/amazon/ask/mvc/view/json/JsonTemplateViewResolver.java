@@ -0,0 +1,60 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.resolver.ClassPathViewResolver;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Loads views from JSON response files, compiling each into a program of literal token runs and model lookups.
+ *
+ * Templates are the JSON of a response, where strings may contain <code>${path}</code> placeholders. A string
+ * consisting of a single placeholder is replaced by the value as JSON, otherwise values are interpolated as text.
+ * Objects with an <code>#if</code> path are only written if the value is truthy, or falsy for paths starting with
+ * <code>!</code>, and array elements with an <code>#each</code> path are written for each item, bound to the
+ * <code>#as</code> name or <code>item</code>. Their <code>#value</code>, if any, is written instead of the object.
+ */
+public class JsonTemplateViewResolver extends ClassPathViewResolver {
+    protected JsonTemplateViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                       Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
+    }
+
+    @Override
+    protected View loadView(String viewName, URL viewResource) throws Exception {
+        try (InputStream stream = viewResource.openStream()) {
+            return new JsonTemplateView(mapper, new TemplateCompiler(viewName).compile(mapper.readTree(stream)));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder()
+            .withSuffix(".json");
+    }
+
+    public static class Builder extends ClassPathViewResolver.Builder<Builder> {
+        public JsonTemplateViewResolver build() {
+            return new JsonTemplateViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.amazon.ask.mvc.view.ModelValues;
+
+import java.util.Map;
+
+/**
+ * Model of a render, with the loop variables bound by enclosing <code>#each</code> blocks.
+ */
+final class Scope {
+    private final Map<String, Object> model;
+    private final Scope parent;
+    private final String name;
+    private final Object value;
+
+    Scope(Map<String, Object> model) {
+        this(model, null, null, null);
+    }
+
+    private Scope(Map<String, Object> model, Scope parent, String name, Object value) {
+        this.model = model;
+        this.parent = parent;
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * @param name name of a loop variable
+     * @param value value of the variable
+     * @return nested scope in which the variable hides any attribute of the same name
+     */
+    Scope bind(String name, Object value) {
+        return new Scope(model, this, name, value);
+    }
+
+    /**
+     * @param path segments of a dot-separated path
+     * @return value of the path, or null if any segment is null
+     * @throws Exception if a getter threw an exception
+     */
+    Object evaluate(String[] path) throws Exception {
+        Object current = lookup(path[0]);
+        for (int i = 1; i < path.length && current != null; i++) {
+            current = ModelValues.property(current, path[i]);
+        }
+        return current;
+    }
+
+    private Object lookup(String root) {
+        for (Scope scope = this; scope.parent != null; scope = scope.parent) {
+            if (scope.name.equals(root)) {
+                return scope.value;
+            }
+        }
+        return model.get(root);
+    }
+}
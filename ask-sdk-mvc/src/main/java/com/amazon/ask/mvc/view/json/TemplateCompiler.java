@@ -0,0 +1,228 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.json;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Compiles a JSON template into instructions.
+ *
+ * Runs of tokens that do not depend on the model are merged into a single literal instruction, and placeholder
+ * paths are split once, so rendering only evaluates paths and replays tokens.
+ */
+final class TemplateCompiler {
+    static final String IF = "#if";
+    static final String EACH = "#each";
+    static final String AS = "#as";
+    static final String VALUE = "#value";
+
+    private static final String DEFAULT_VARIABLE = "item";
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final String viewName;
+
+    TemplateCompiler(String viewName) {
+        this.viewName = assertNotNull(viewName, "viewName");
+    }
+
+    /**
+     * @param template parsed template
+     * @return instruction writing the response
+     * @throws IllegalArgumentException if the template is invalid
+     */
+    Instruction compile(JsonNode template) {
+        if (!template.isObject() || template.has(IF) || template.has(EACH)) {
+            throw error("", "a template must be an unconditional object");
+        }
+        Block block = new Block();
+        value(template, block, "");
+        return block.build();
+    }
+
+    private void value(JsonNode node, Block block, String pointer) {
+        if (node.isObject()) {
+            if (node.has(EACH)) {
+                throw error(pointer, EACH + " is only supported in arrays");
+            }
+            block.token(JsonToken.START_OBJECT, null);
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                member(field.getKey(), field.getValue(), block, pointer + "/" + field.getKey());
+            }
+            block.token(JsonToken.END_OBJECT, null);
+        } else if (node.isArray()) {
+            block.token(JsonToken.START_ARRAY, null);
+            for (int i = 0; i < node.size(); i++) {
+                element(node.get(i), block, pointer + "/" + i);
+            }
+            block.token(JsonToken.END_ARRAY, null);
+        } else if (node.isTextual()) {
+            text(node.textValue(), block, pointer);
+        } else if (node.isNumber()) {
+            block.token(node.isIntegralNumber() ? JsonToken.VALUE_NUMBER_INT : JsonToken.VALUE_NUMBER_FLOAT, node.numberValue());
+        } else if (node.isBoolean()) {
+            block.token(node.booleanValue() ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE, null);
+        } else {
+            block.token(JsonToken.VALUE_NULL, null);
+        }
+    }
+
+    private void member(String name, JsonNode value, Block block, String pointer) {
+        if (value.isObject() && value.has(IF)) {
+            Block body = new Block();
+            body.token(JsonToken.FIELD_NAME, new SerializedString(name));
+            value(template(value, IF), body, pointer);
+            block.add(condition(value.get(IF), body.build(), pointer));
+        } else {
+            block.token(JsonToken.FIELD_NAME, new SerializedString(name));
+            value(value, block, pointer);
+        }
+    }
+
+    private void element(JsonNode node, Block block, String pointer) {
+        if (node.isObject() && node.has(EACH)) {
+            JsonNode variable = node.get(AS);
+            if (variable != null && !(variable.isTextual() && IDENTIFIER.matcher(variable.textValue()).matches())) {
+                throw error(pointer, "invalid " + AS + " variable " + variable);
+            }
+            Block body = new Block();
+            element(template(node, EACH, AS), body, pointer);
+            block.add(new Instructions.Each(path(node.get(EACH), pointer),
+                variable == null ? DEFAULT_VARIABLE : variable.textValue(), body.build()));
+        } else if (node.isObject() && node.has(IF)) {
+            Block body = new Block();
+            value(template(node, IF), body, pointer);
+            block.add(condition(node.get(IF), body.build(), pointer));
+        } else {
+            value(node, block, pointer);
+        }
+    }
+
+    /**
+     * @return the <code>#value</code> of a block, or the block without its directives
+     */
+    private static JsonNode template(JsonNode node, String... directives) {
+        if (node.has(VALUE)) {
+            return node.get(VALUE);
+        }
+        ObjectNode template = ((ObjectNode) node).deepCopy();
+        template.remove(Arrays.asList(directives));
+        return template;
+    }
+
+    private Instruction condition(JsonNode condition, Instruction body, String pointer) {
+        boolean negated = condition.isTextual() && condition.textValue().startsWith("!");
+        String path = negated ? condition.textValue().substring(1) : condition.asText();
+        return new Instructions.If(path(path, pointer), negated, body);
+    }
+
+    private void text(String text, Block block, String pointer) {
+        List<Object> parts = new ArrayList<>();
+        int position = 0;
+        while (position < text.length()) {
+            int start = text.indexOf("${", position);
+            if (start < 0) {
+                break;
+            }
+            int end = text.indexOf('}', start);
+            if (end < 0) {
+                throw error(pointer, "unterminated placeholder in '" + text + "'");
+            }
+            if (start > position) {
+                parts.add(text.substring(position, start));
+            }
+            parts.add(path(text.substring(start + 2, end), pointer));
+            position = end + 1;
+        }
+        if (position < text.length()) {
+            parts.add(text.substring(position));
+        }
+
+        if (parts.size() == 1 && parts.get(0) instanceof String[]) {
+            block.add(new Instructions.Value((String[]) parts.get(0)));
+        } else if (parts.stream().anyMatch(part -> part instanceof String[])) {
+            block.add(new Instructions.Text(parts.toArray()));
+        } else {
+            block.token(JsonToken.VALUE_STRING, new SerializedString(text));
+        }
+    }
+
+    private String[] path(JsonNode node, String pointer) {
+        if (!node.isTextual()) {
+            throw error(pointer, "expected a path but found " + node);
+        }
+        return path(node.textValue(), pointer);
+    }
+
+    private String[] path(String path, String pointer) {
+        String[] segments = path.trim().split("\\.", -1);
+        for (String segment : segments) {
+            if (!IDENTIFIER.matcher(segment).matches()) {
+                throw error(pointer, "invalid path '" + path + "'");
+            }
+        }
+        return segments;
+    }
+
+    private IllegalArgumentException error(String pointer, String message) {
+        return new IllegalArgumentException(String.format("Invalid template %s at '%s': %s", viewName, pointer, message));
+    }
+
+    /**
+     * Collects the instructions of a block, merging consecutive literal tokens.
+     */
+    private static final class Block {
+        private final List<Instruction> instructions = new ArrayList<>();
+        private final List<JsonToken> tokens = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+
+        void token(JsonToken token, Object value) {
+            tokens.add(token);
+            values.add(value);
+        }
+
+        void add(Instruction instruction) {
+            flush();
+            instructions.add(instruction);
+        }
+
+        Instruction build() {
+            flush();
+            return instructions.size() == 1
+                ? instructions.get(0)
+                : new Instructions.Sequence(instructions.toArray(new Instruction[0]));
+        }
+
+        private void flush() {
+            if (!tokens.isEmpty()) {
+                instructions.add(new Instructions.Literal(tokens.toArray(new JsonToken[0]), values.toArray()));
+                tokens.clear();
+                values.clear();
+            }
+        }
+    }
+}
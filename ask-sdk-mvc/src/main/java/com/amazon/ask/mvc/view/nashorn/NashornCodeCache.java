@@ -0,0 +1,164 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.nashorn;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.script.Compilable;
+import javax.script.ScriptEngine;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Creates Nashorn engines backed by a persistent code cache, which stores the classes compiled from scripts in a
+ * directory so they are loaded instead of re-compiled by later processes.
+ *
+ * Nashorn reads the cache directory from the <code>nashorn.persistent.code.cache</code> system property when an
+ * engine is created. The property is JVM-wide, so all cached engines of a process must share the same directory:
+ * the first directory used is kept, and requesting a different one fails. The property is overwritten before each
+ * cached engine is created, so it must not be set to another directory elsewhere. A read-only directory, such as
+ * a cache shipped inside a deployment package, is copied to a temporary directory first because Nashorn requires
+ * it to be writable.
+ *
+ * The cache can be primed at build time by running {@link #main(String[])}, which compiles every script in a
+ * directory of views.
+ */
+public final class NashornCodeCache {
+    private static final Logger logger = LoggerFactory.getLogger(NashornCodeCache.class);
+    private static final String CACHE_DIRECTORY_PROPERTY = "nashorn.persistent.code.cache";
+    private static final String SCRIPT_SUFFIX = ".js";
+    /** directory requested by the first cached engine, and its writable copy, guarded by the class **/
+    private static Path sharedDirectory;
+    private static Path sharedWritableDirectory;
+
+    private NashornCodeCache() {
+    }
+
+    /**
+     * Creates a Nashorn engine.
+     *
+     * @param cacheDirectory directory of the persistent code cache, or null to disable it
+     * @param optimisticTypes enables or disables optimistic types, or null for the engine's default
+     * @param classLoader class loader for the engine
+     * @return the script engine
+     * @throws IllegalStateException if another cache directory is already used by this process
+     */
+    public static ScriptEngine newScriptEngine(Path cacheDirectory, Boolean optimisticTypes, ClassLoader classLoader) {
+        List<String> arguments = new ArrayList<>();
+        if (optimisticTypes != null) {
+            arguments.add("--optimistic-types=" + optimisticTypes);
+        }
+        NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+        if (cacheDirectory == null) {
+            return factory.getScriptEngine(arguments.toArray(new String[0]), classLoader);
+        }
+        arguments.add("--persistent-code-cache=true");
+        Path requested = cacheDirectory.toAbsolutePath().normalize();
+        synchronized (NashornCodeCache.class) {
+            if (sharedDirectory == null) {
+                sharedWritableDirectory = writableDirectory(requested);
+                sharedDirectory = requested;
+            } else if (!sharedDirectory.equals(requested)) {
+                throw new IllegalStateException(String.format("Nashorn code cache directory is JVM-wide and already set to %s, cannot use %s",
+                    sharedDirectory, requested));
+            }
+            System.setProperty(CACHE_DIRECTORY_PROPERTY, sharedWritableDirectory.toString());
+            return factory.getScriptEngine(arguments.toArray(new String[0]), classLoader);
+        }
+    }
+
+    /**
+     * Compiles scripts into a persistent code cache.
+     *
+     * @param cacheDirectory directory of the persistent code cache
+     * @param optimisticTypes optimistic types setting of the engines which will use the cache
+     * @param viewsDirectory directory containing the view scripts, searched recursively
+     * @return number of scripts compiled
+     * @throws Exception if a script could not be read or compiled
+     */
+    public static int prime(Path cacheDirectory, Boolean optimisticTypes, Path viewsDirectory) throws Exception {
+        assertNotNull(cacheDirectory, "cacheDirectory");
+        assertNotNull(viewsDirectory, "viewsDirectory");
+        Files.createDirectories(cacheDirectory);
+        ScriptEngine engine = newScriptEngine(cacheDirectory, optimisticTypes, NashornCodeCache.class.getClassLoader());
+        List<Path> scripts;
+        try (Stream<Path> paths = Files.walk(viewsDirectory)) {
+            scripts = paths
+                .filter(path -> path.toString().endsWith(SCRIPT_SUFFIX) && Files.isRegularFile(path))
+                .collect(Collectors.toList());
+        }
+        for (Path script : scripts) {
+            // compile the same source as NashornView, so the cache keys match at runtime
+            ((Compilable) engine).compile(new String(Files.readAllBytes(script), StandardCharsets.UTF_8));
+            logger.info("Cached compiled script {}", script);
+        }
+        return scripts.size();
+    }
+
+    /**
+     * Primes a persistent code cache, usually from the build.
+     *
+     * Usage: <code>NashornCodeCache &lt;cacheDirectory&gt; &lt;viewsDirectory&gt; [optimisticTypes]</code>
+     *
+     * @param args command line arguments
+     * @throws Exception if a script could not be read or compiled
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException("Usage: NashornCodeCache <cacheDirectory> <viewsDirectory> [optimisticTypes]");
+        }
+        Boolean optimisticTypes = args.length == 3 ? Boolean.valueOf(args[2]) : null;
+        prime(Paths.get(args[0]), optimisticTypes, Paths.get(args[1]));
+    }
+
+    private static Path writableDirectory(Path cacheDirectory) {
+        try {
+            if (!Files.exists(cacheDirectory)) {
+                return Files.createDirectories(cacheDirectory);
+            }
+            if (Files.isWritable(cacheDirectory)) {
+                return cacheDirectory;
+            }
+            Path copy = Files.createTempDirectory("nashorn-code-cache");
+            // the cache may be nested in a directory per runtime version
+            try (Stream<Path> files = Files.walk(cacheDirectory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Path target = copy.resolve(cacheDirectory.relativize(file).toString());
+                    if (Files.isDirectory(file)) {
+                        Files.createDirectories(target);
+                    } else {
+                        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+            }
+            logger.debug("Copied read-only code cache {} to {}", cacheDirectory, copy);
+            return copy;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not prepare Nashorn code cache directory " + cacheDirectory, ex);
+        }
+    }
+}
@@ -13,12 +13,18 @@
 
 package com.amazon.ask.mvc.view.nashorn;
 
+import com.amazon.ask.model.Response;
 import com.amazon.ask.mvc.view.resolver.ScriptEngineView;
+import com.amazon.ask.mvc.view.resolver.ScriptLibrary;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
 
+import javax.script.Bindings;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
-import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+import java.util.function.Supplier;
 
 /**
  * Renders a response by passing the model to a JavaScript script. There are three distinct ways to
@@ -53,18 +59,91 @@ import javax.script.ScriptException;
  *
  *     result; // final expression is the result
  * </code>
+ *
+ * Pooled instances of a view share a single engine, and with it the compiled script, but each instance
+ * has its own global scope so they can render concurrently. A script without a render function is evaluated in a
+ * fresh global scope for each render, so the variables it declares do not leak into later renders. A JS object returned by the script is converted to
+ * the response directly, without being stringified and parsed again.
  */
 public class NashornView extends ScriptEngineView {
     public NashornView(ScriptEngine scriptEngine, String script, String renderObject, String renderFunction, ObjectMapper mapper) throws Exception {
         super(scriptEngine, script, renderObject, renderFunction, mapper);
     }
 
+    public NashornView(Supplier<ScriptEngine> scriptEngineSupplier, int poolSize, String script, String renderObject,
+                       String renderFunction, ObjectMapper mapper) throws Exception {
+        super(scriptEngineSupplier, poolSize, script, renderObject, renderFunction, mapper);
+    }
+
+    public NashornView(Supplier<ScriptEngine> scriptEngineSupplier, int poolSize, ScriptLibrary library, String script,
+                       String renderObject, String renderFunction, ObjectMapper mapper) throws Exception {
+        super(scriptEngineSupplier, poolSize, library, script, renderObject, renderFunction, mapper);
+    }
+
+    /**
+     * Looks up the global <code>JSON</code> object once per instance rather than once per render.
+     */
+    @Override
+    protected ScriptInstance createInstance() throws Exception {
+        return new NashornInstance(super.createInstance());
+    }
+
+    /**
+     * Creates a new global scope, so instances can share an engine.
+     */
+    @Override
+    protected ScriptContext createContext(ScriptEngine engine) {
+        ScriptContext context = new SimpleScriptContext();
+        context.setBindings(engine.getContext().getBindings(ScriptContext.GLOBAL_SCOPE), ScriptContext.GLOBAL_SCOPE);
+        context.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+        return context;
+    }
+
+    /**
+     * Invokes the render function through the instance's global scope rather than the engine's default one.
+     */
+    @Override
+    protected Object invoke(ScriptInstance instance, Bindings model) {
+        ScriptObjectMirror target = renderObject != null
+            ? (ScriptObjectMirror) instance.getThiz()
+            : (ScriptObjectMirror) instance.getContext().getBindings(ScriptContext.ENGINE_SCOPE);
+        return target.callMember(renderFunction, model);
+    }
+
+    /**
+     * Writes a returned JS object straight into the response's JSON tokens.
+     */
+    @Override
+    protected Response toResponse(ScriptInstance instance, Object result) throws Exception {
+        if (result instanceof String) {
+            return super.toResponse(instance, result);
+        }
+        TokenBuffer buffer = new TokenBuffer(mapper, false);
+        ScriptObjectMirrorWriter.write(result, buffer);
+        return mapper.readValue(buffer.asParser(), Response.class);
+    }
+
     /**
      * Support returning a JS object instead of JSON string.
      */
     @Override
-    protected String toJson(Object result) throws ScriptException {
-        ScriptObjectMirror json = (ScriptObjectMirror) scriptEngine.eval("JSON");
-        return (String) json.callMember("stringify", result);
+    protected String toJson(ScriptInstance instance, Object result) {
+        if (result instanceof String) {
+            return (String) result;
+        }
+        return (String) ((NashornInstance) instance).json.callMember("stringify", result);
+    }
+
+    /**
+     * Instance holding a reference to its global's <code>JSON</code> object.
+     */
+    private static class NashornInstance extends ScriptInstance {
+        private final ScriptObjectMirror json;
+
+        private NashornInstance(ScriptInstance instance) {
+            super(instance);
+            ScriptObjectMirror global = (ScriptObjectMirror) instance.getContext().getBindings(ScriptContext.ENGINE_SCOPE);
+            this.json = (ScriptObjectMirror) global.getMember("JSON");
+        }
     }
 }
@@ -24,18 +24,57 @@ import org.apache.commons.io.IOUtils;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import java.io.Reader;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 /**
  * Compiles a script using the {@link NashornScriptEngine} and constructs a {@link NashornView} to execute it.
+ *
+ * All views are compiled by a single engine, which their pooled instances share along with the compiled library.
+ *
+ * Engines can be configured with a persistent code cache directory and the optimistic types setting, see
+ * {@link NashornCodeCache}. Either option replaces the engine from the {@link ScriptEngineManager}.
  */
 public class NashornViewResolver extends ScriptEngineViewResolver {
+    protected final Path codeCacheDirectory;
+    protected final Boolean optimisticTypes;
+
+    private volatile ScriptEngine engine;
+
     protected NashornViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
                                   Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
                                   ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction) {
-        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName, renderObject, renderFunction);
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName,
+            renderObject, renderFunction, null);
+    }
+
+    protected NashornViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                  Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                  ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction,
+                                  Integer enginePoolSize) {
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName,
+            renderObject, renderFunction, enginePoolSize, null, null, null);
+    }
+
+    protected NashornViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                  Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                  ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction,
+                                  Integer enginePoolSize, Path codeCacheDirectory, Boolean optimisticTypes, List<String> libraries) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName,
+            renderObject, renderFunction, enginePoolSize, libraries);
+        this.codeCacheDirectory = codeCacheDirectory;
+        this.optimisticTypes = optimisticTypes;
+    }
+
+    @Override
+    protected ScriptEngine getScriptEngine() {
+        if (codeCacheDirectory == null && optimisticTypes == null) {
+            return super.getScriptEngine();
+        }
+        return NashornCodeCache.newScriptEngine(codeCacheDirectory, optimisticTypes, resourceClass.getClassLoader());
     }
 
     @Override
@@ -43,6 +82,26 @@ public class NashornViewResolver extends ScriptEngineViewResolver {
         return new NashornView(scriptEngine, IOUtils.toString(scriptReader), renderObject, renderFunction, mapper);
     }
 
+    @Override
+    protected View createView(Supplier<ScriptEngine> scriptEngineSupplier, Reader scriptReader) throws Exception {
+        ScriptEngine scriptEngine = sharedEngine(scriptEngineSupplier);
+        return new NashornView(() -> scriptEngine, enginePoolSize, library, IOUtils.toString(scriptReader), renderObject, renderFunction, mapper);
+    }
+
+    private ScriptEngine sharedEngine(Supplier<ScriptEngine> scriptEngineSupplier) {
+        ScriptEngine engine = this.engine;
+        if (engine == null) {
+            synchronized (this) {
+                engine = this.engine;
+                if (engine == null) {
+                    engine = scriptEngineSupplier.get();
+                    this.engine = engine;
+                }
+            }
+        }
+        return engine;
+    }
+
     public static Builder builder() {
         return new Builder()
             .withScriptEngineName("nashorn")
@@ -50,9 +109,32 @@ public class NashornViewResolver extends ScriptEngineViewResolver {
     }
 
     public static class Builder extends ScriptEngineViewResolver.Builder<Builder> {
+        protected Path codeCacheDirectory;
+        protected Boolean optimisticTypes;
+
+        /**
+         * @param codeCacheDirectory directory where compiled scripts are persisted and re-used across processes
+         * @return this
+         */
+        public Builder withCodeCacheDirectory(Path codeCacheDirectory) {
+            this.codeCacheDirectory = codeCacheDirectory;
+            return this;
+        }
+
+        /**
+         * @param optimisticTypes enables optimistic types, which speed up long running scripts at the cost of
+         *                        slower compilation, disabling them favours cold starts
+         * @return this
+         */
+        public Builder withOptimisticTypes(boolean optimisticTypes) {
+            this.optimisticTypes = optimisticTypes;
+            return this;
+        }
+
         public NashornViewResolver build() {
             return new NashornViewResolver(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix,
-                resourceClass, scriptEngineManager, scriptEngineName, renderObject, renderFunction);
+                resourceClass, scriptEngineManager, scriptEngineName, renderObject, renderFunction, enginePoolSize,
+                codeCacheDirectory, optimisticTypes, libraries);
         }
     }
 }
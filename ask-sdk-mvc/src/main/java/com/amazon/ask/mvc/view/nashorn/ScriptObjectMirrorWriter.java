@@ -0,0 +1,101 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.nashorn;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import java.io.IOException;
+
+/**
+ * Writes JavaScript values returned by Nashorn as JSON tokens, following the rules of <code>JSON.stringify</code>:
+ * <ul>
+ * <li>functions and undefined values are omitted from objects, and written as null in arrays</li>
+ * <li>values with a <code>toJSON</code> function, such as dates, are replaced by its result</li>
+ * <li>NaN and infinite numbers are written as null</li>
+ * </ul>
+ * Java objects are serialized with the generator's codec.
+ *
+ * This lets a view build its response directly from the script's result, without a stringify and parse round trip.
+ */
+public final class ScriptObjectMirrorWriter {
+    private static final String TO_JSON = "toJSON";
+
+    private ScriptObjectMirrorWriter() {
+    }
+
+    /**
+     * Write a value returned by a script.
+     *
+     * @param value script value
+     * @param generator destination of the JSON tokens
+     * @throws IOException if the value could not be written
+     */
+    public static void write(Object value, JsonGenerator generator) throws IOException {
+        if (value == null || ScriptObjectMirror.isUndefined(value) || isFunction(value)) {
+            generator.writeNull();
+        } else if (value instanceof ScriptObjectMirror) {
+            writeObject((ScriptObjectMirror) value, generator);
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            generator.writeString(value.toString());
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            writeNumber(((Number) value).doubleValue(), generator);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private static void writeObject(ScriptObjectMirror mirror, JsonGenerator generator) throws IOException {
+        Object toJson = mirror.getMember(TO_JSON);
+        if (isFunction(toJson)) {
+            write(mirror.callMember(TO_JSON), generator);
+        } else if (mirror.isArray()) {
+            int length = ((Number) mirror.getMember("length")).intValue();
+            generator.writeStartArray();
+            for (int i = 0; i < length; i++) {
+                write(mirror.getSlot(i), generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeStartObject();
+            for (String key : mirror.getOwnKeys(false)) {
+                Object member = mirror.getMember(key);
+                if (!ScriptObjectMirror.isUndefined(member) && !isFunction(member)) {
+                    generator.writeFieldName(key);
+                    write(member, generator);
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(double number, JsonGenerator generator) throws IOException {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            generator.writeNull();
+        } else if (number == Math.rint(number) && Math.abs(number) < 0x1p53) {
+            // JavaScript has no integer type, integral numbers are written without a fraction like JSON.stringify
+            generator.writeNumber((long) number);
+        } else {
+            generator.writeNumber(number);
+        }
+    }
+
+    private static boolean isFunction(Object value) {
+        return value instanceof ScriptObjectMirror && ((ScriptObjectMirror) value).isFunction();
+    }
+}
@@ -91,6 +91,14 @@ public abstract class BaseViewResolver implements ViewResolver {
         return Optional.empty();
     }
 
+    /**
+     * Resolution depends only on the view name and locale if every candidate enumerator enumerates by locale.
+     */
+    @Override
+    public boolean resolvesByViewName() {
+        return viewCandidateEnumerators.stream().allMatch(ViewCandidateEnumerator::enumeratesByLocale);
+    }
+
     protected abstract boolean candidateExists(String candidate);
 
     /**
@@ -0,0 +1,261 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.mvc.view.ModelAndView;
+import com.amazon.ask.mvc.view.View;
+import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
+import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Reads view candidates from a directory on the file system.
+ *
+ * Candidate names are resolved relative to the root directory. When watching is enabled, the root directory tree is
+ * registered with a {@link ViewFileWatcher} and pending changes are drained at the start of each resolution, so only
+ * the cached views and candidate lookups for the files that changed are invalidated. Changes are processed on the
+ * thread resolving the view, so any {@link ViewCache} that is safe for the request threads is safe here.
+ */
+public abstract class FileSystemViewResolver extends BaseViewResolver implements Closeable {
+    protected final Path rootDirectory;
+    protected final ViewFileWatcher watcher;
+
+    /** existence of each candidate probed so far, keyed by candidate name **/
+    private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+    /** candidate names probed so far, keyed by the file they resolve to **/
+    private final Map<Path, Set<String>> candidatesByPath = new ConcurrentHashMap<>();
+    private final ReentrantLock watchLock = new ReentrantLock();
+    private final ViewFileWatcher.Listener listener = new ViewFileWatcher.Listener() {
+        @Override
+        public void onChange(Path changed, WatchEvent.Kind<?> kind) {
+            logger.trace("View file changed: {} ({})", changed, kind.name());
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                watch(changed);
+                invalidateUnder(changed);
+            } else if (!invalidate(changed) && kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                // may have been a directory, which invalidates everything beneath it
+                invalidateUnder(changed);
+            }
+        }
+
+        @Override
+        public void onOverflow() {
+            logger.debug("Events lost while watching {}, invalidating all views", rootDirectory);
+            invalidateAll();
+        }
+    };
+
+    /**
+     * @param mapper object mapper
+     * @param cache view cache
+     * @param viewCandidateEnumerators view candidate enumerators
+     * @param viewNamePatterns view name patterns
+     * @param prefix view name prefix
+     * @param suffix view name suffix
+     * @param rootDirectory directory to load view files from
+     * @param watcher reports changes to the view files, or null to never reload them; closed with this resolver
+     */
+    protected FileSystemViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                     Collection<Pattern> viewNamePatterns, String prefix, String suffix, Path rootDirectory,
+                                     ViewFileWatcher watcher) {
+        super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix);
+        this.rootDirectory = assertNotNull(rootDirectory, "rootDirectory").toAbsolutePath().normalize();
+        if (!Files.isDirectory(this.rootDirectory)) {
+            throw new IllegalArgumentException("rootDirectory must be an existing directory: " + this.rootDirectory);
+        }
+        this.watcher = watcher;
+        if (watcher != null) {
+            try {
+                watcher.watch(this.rootDirectory);
+            } catch (IOException ex) {
+                try {
+                    watcher.close();
+                } catch (IOException closeEx) {
+                    ex.addSuppressed(closeEx);
+                }
+                throw new IllegalStateException("Failed to watch view directory: " + this.rootDirectory, ex);
+            }
+        }
+    }
+
+    @Override
+    protected Optional<View> resolve(ModelAndView modelAndView, RequestEnvelope requestEnvelope) throws Exception {
+        processChanges();
+        return super.resolve(modelAndView, requestEnvelope);
+    }
+
+    /**
+     * Views may appear while watching, so resolution is only by view name if the files are never reloaded.
+     */
+    @Override
+    public boolean resolvesByViewName() {
+        return watcher == null && super.resolvesByViewName();
+    }
+
+    @Override
+    protected boolean candidateExists(String candidate) {
+        return candidates.computeIfAbsent(candidate, c -> {
+            Path path = resolvePath(c);
+            candidatesByPath.computeIfAbsent(path, p -> ConcurrentHashMap.newKeySet()).add(c);
+            return path.startsWith(rootDirectory) && Files.isRegularFile(path);
+        });
+    }
+
+    @Override
+    protected View resolveCandidate(String candidate) throws Exception {
+        return loadView(candidate, resolvePath(candidate));
+    }
+
+    /**
+     * Load a view from a file.
+     *
+     * @param viewName complete view name, relative to the root directory
+     * @param viewPath absolute path of the view file
+     * @return the view
+     * @throws Exception if there was an error reading or parsing the view
+     */
+    protected abstract View loadView(String viewName, Path viewPath) throws Exception;
+
+    /**
+     * Resolves a candidate name against the root directory. Leading slashes are treated as the root directory.
+     *
+     * @param candidate complete view name
+     * @return absolute path of the candidate
+     */
+    protected Path resolvePath(String candidate) {
+        int start = 0;
+        while (start < candidate.length() && candidate.charAt(start) == '/') {
+            start++;
+        }
+        return rootDirectory.resolve(candidate.substring(start)).normalize();
+    }
+
+    /**
+     * Drains pending changes and invalidates the views and candidates affected by them.
+     */
+    protected void processChanges() {
+        if (watcher == null || !watchLock.tryLock()) {
+            // another thread is already applying the pending changes
+            return;
+        }
+        try {
+            watcher.poll(listener);
+        } finally {
+            watchLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    private boolean invalidate(Path path) {
+        Set<String> names = candidatesByPath.remove(path);
+        if (names == null) {
+            return false;
+        }
+        for (String name : names) {
+            candidates.remove(name);
+            cache.invalidate(name);
+        }
+        return true;
+    }
+
+    private void invalidateUnder(Path directory) {
+        for (Path path : new ArrayList<>(candidatesByPath.keySet())) {
+            if (path.startsWith(directory)) {
+                invalidate(path);
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        for (Path path : new ArrayList<>(candidatesByPath.keySet())) {
+            invalidate(path);
+        }
+    }
+
+    private void watch(Path directory) {
+        try {
+            watcher.watch(directory);
+        } catch (IOException ex) {
+            logger.error(String.format("Failed to watch view directory: %s", directory), ex);
+        }
+    }
+
+    public static class Builder<Self extends Builder<Self>> extends BaseViewResolver.Builder<Self> {
+        protected Path rootDirectory;
+        protected boolean watchForChanges = true;
+        protected ViewFileWatcher watcher;
+
+        /**
+         * @param rootDirectory the directory to load view files from
+         * @return this
+         */
+        public Self withRootDirectory(Path rootDirectory) {
+            this.rootDirectory = rootDirectory;
+            return getThis();
+        }
+
+        /**
+         * @param watchForChanges true to invalidate cached views when their files change, defaults to true
+         * @return this
+         */
+        public Self withWatchForChanges(boolean watchForChanges) {
+            this.watchForChanges = watchForChanges;
+            return getThis();
+        }
+
+        /**
+         * @param watcher reports changes to the view files, instead of the file system's {@link java.nio.file.WatchService}
+         * @return this
+         */
+        public Self withWatcher(ViewFileWatcher watcher) {
+            this.watcher = watcher;
+            return getThis();
+        }
+
+        /**
+         * @return the configured watcher, a watcher of the root directory's file system, or null if watching is disabled
+         */
+        protected ViewFileWatcher buildWatcher() {
+            if (!watchForChanges || rootDirectory == null || !Files.isDirectory(rootDirectory)) {
+                return null; // the resolver rejects a missing root directory
+            }
+            return watcher != null ? watcher : new WatchServiceViewFileWatcher(rootDirectory.getFileSystem());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Reports the changes it is told about, for example by a deployment hook or a test, instead of watching the file
+ * system. Changes are applied by the resolver on its next resolution.
+ */
+public class ManualViewFileWatcher implements ViewFileWatcher {
+    private final Queue<Map.Entry<Path, WatchEvent.Kind<?>>> changes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Reports a created, modified or deleted file.
+     *
+     * @param path path of the file
+     */
+    public void changed(Path path) {
+        changed(path, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * @param path path of the file or directory
+     * @param kind {@link StandardWatchEventKinds} kind of change
+     */
+    public void changed(Path path, WatchEvent.Kind<?> kind) {
+        changes.add(new AbstractMap.SimpleImmutableEntry<>(
+            assertNotNull(path, "path").toAbsolutePath().normalize(),
+            assertNotNull(kind, "kind")));
+    }
+
+    @Override
+    public void watch(Path directory) {
+    }
+
+    @Override
+    public void poll(Listener listener) {
+        Map.Entry<Path, WatchEvent.Kind<?>> change;
+        while ((change = changes.poll()) != null) {
+            listener.onChange(change.getKey(), change.getValue());
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,132 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import javax.script.Bindings;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Exposes a read-only view model to a script engine as {@link Bindings}. Variables assigned by the script are kept
+ * in a layer of their own, allocated on the first write, so the model is never copied or modified.
+ */
+public class ModelBindings extends AbstractMap<String, Object> implements Bindings {
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> model;
+    private Map<String, Object> overlay;
+
+    public ModelBindings(Map<String, Object> model) {
+        this.model = assertNotNull(model, "model");
+    }
+
+    @Override
+    public Object put(String name, Object value) {
+        checkKey(name);
+        Object previous = get(name);
+        overlay().put(name, value);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> toMerge) {
+        toMerge.forEach(this::put);
+    }
+
+    @Override
+    public Object get(Object key) {
+        checkKey(key);
+        if (overlay != null && overlay.containsKey(key)) {
+            Object value = overlay.get(key);
+            return value == REMOVED ? null : value;
+        }
+        return model.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        checkKey(key);
+        if (overlay != null && overlay.containsKey(key)) {
+            return overlay.get(key) != REMOVED;
+        }
+        return model.containsKey(key);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        checkKey(key);
+        if (!containsKey(key)) {
+            return null;
+        }
+        Object previous = get(key);
+        overlay().put((String) key, REMOVED);
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (overlay == null) {
+            return model.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return merged().entrySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return merged().size();
+            }
+        };
+    }
+
+    private Map<String, Object> merged() {
+        Map<String, Object> merged = new LinkedHashMap<>(model);
+        overlay.forEach((key, value) -> {
+            if (value == REMOVED) {
+                merged.remove(key);
+            } else {
+                merged.put(key, value);
+            }
+        });
+        return merged;
+    }
+
+    private Map<String, Object> overlay() {
+        if (overlay == null) {
+            overlay = new HashMap<>();
+        }
+        return overlay;
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new NullPointerException("key can not be null");
+        }
+        if (!(key instanceof String)) {
+            throw new ClassCastException("key should be a String");
+        }
+        if (((String) key).isEmpty()) {
+            throw new IllegalArgumentException("key can not be empty");
+        }
+    }
+}
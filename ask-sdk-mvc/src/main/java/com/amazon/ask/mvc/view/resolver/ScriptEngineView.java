@@ -13,59 +13,244 @@
 
 package com.amazon.ask.mvc.view.resolver;
 
+import com.amazon.ask.model.Response;
 import com.amazon.ask.mvc.view.BaseView;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.Invocable;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
-import javax.script.SimpleBindings;
+import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import static com.amazon.ask.util.ValidationUtils.assertIsPositive;
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 
 /**
  * Renders a response using a {@link ScriptEngine}
+ *
+ * Script state is not shared between concurrent renders: each render borrows a {@link ScriptInstance} from a pool
+ * of at most poolSize instances, which are created on demand. The script is compiled once per engine if the engine
+ * is {@link Compilable}, so instances sharing an engine also share its compiled code. The resolver's
+ * {@link ScriptLibrary} is evaluated into every instance before the view's script.
+ *
+ * The pool is filled lazily, so sub-classes are fully constructed before {@link #createInstance()} is first called.
+ * Call {@link #prepare()} to create the first instance up front.
  */
 public class ScriptEngineView extends BaseView {
+    /**
+     * @deprecated engines are pooled, use {@link ScriptInstance#getEngine()}. Only set by
+     * {@link #ScriptEngineView(ScriptEngine, String, String, String, ObjectMapper)}, otherwise null.
+     */
+    @Deprecated
     protected final ScriptEngine scriptEngine;
+    protected final Supplier<ScriptEngine> scriptEngineSupplier;
     protected final String script;
     protected final String renderFunction;
     protected final String renderObject;
+    protected final int poolSize;
+    protected final ScriptLibrary library;
+
+    private final BlockingQueue<ScriptInstance> idleInstances;
+    private final AtomicInteger instanceCount = new AtomicInteger();
+    private final Map<ScriptEngine, CompiledScript> compiledScripts = new IdentityHashMap<>();
 
     public ScriptEngineView(ScriptEngine scriptEngine, String script, String renderObject, String renderFunction, ObjectMapper mapper) throws Exception {
+        this(assertNotNull(scriptEngine, "scriptEngine"), singleEngine(scriptEngine), 1, ScriptLibrary.EMPTY, script, renderObject,
+            renderFunction, mapper);
+    }
+
+    public ScriptEngineView(Supplier<ScriptEngine> scriptEngineSupplier, int poolSize, String script, String renderObject,
+                            String renderFunction, ObjectMapper mapper) throws Exception {
+        this(scriptEngineSupplier, poolSize, ScriptLibrary.EMPTY, script, renderObject, renderFunction, mapper);
+    }
+
+    public ScriptEngineView(Supplier<ScriptEngine> scriptEngineSupplier, int poolSize, ScriptLibrary library, String script,
+                            String renderObject, String renderFunction, ObjectMapper mapper) throws Exception {
+        this(null, scriptEngineSupplier, poolSize, library, script, renderObject, renderFunction, mapper);
+    }
+
+    private ScriptEngineView(ScriptEngine scriptEngine, Supplier<ScriptEngine> scriptEngineSupplier, int poolSize, ScriptLibrary library,
+                             String script, String renderObject, String renderFunction, ObjectMapper mapper) {
         super(mapper);
-        this.scriptEngine = assertNotNull(scriptEngine, "scriptEngine");
+        this.scriptEngine = scriptEngine;
+        this.scriptEngineSupplier = assertNotNull(scriptEngineSupplier, "scriptEngineSupplier");
+        assertIsPositive(poolSize, "poolSize");
+        this.poolSize = poolSize;
+        this.library = assertNotNull(library, "library");
         this.script = assertNotNull(script, "script");
         this.renderObject = renderObject;
         this.renderFunction = renderFunction;
+        this.idleInstances = new ArrayBlockingQueue<>(poolSize);
+    }
 
-        if (renderFunction != null) {
-            // render logic is attached to a global function or object
-            // script needs to be eval'ed once so its functions and objects are available in the engine state for invocation
-            if (scriptEngine instanceof Invocable) {
-                this.scriptEngine.eval(script);
-            } else {
-                throw new IllegalArgumentException("ScriptEngine must be an Invocable if renderFunction or renderObject are specified");
+    /**
+     * Creates the first script instance, if none has been created yet, so script errors surface when the view is
+     * loaded rather than on its first render.
+     *
+     * @throws Exception if the script could not be compiled or evaluated
+     */
+    public void prepare() throws Exception {
+        if (instanceCount.compareAndSet(0, 1)) {
+            try {
+                idleInstances.add(createInstance());
+            } catch (Exception ex) {
+                instanceCount.decrementAndGet();
+                throw ex;
             }
         }
     }
 
+    @Override
+    protected Response render(Map<String, Object> model) throws Exception {
+        ScriptInstance instance = borrow();
+        try {
+            return toResponse(instance, evaluate(instance, model));
+        } finally {
+            idleInstances.offer(instance);
+        }
+    }
+
     @Override
     protected String renderInternal(Map<String, Object> model) throws Exception {
-        SimpleBindings bindings = new SimpleBindings(model);
-        Object result;
-        if (renderFunction == null && renderObject == null) {
+        ScriptInstance instance = borrow();
+        try {
+            return toJson(instance, evaluate(instance, model));
+        } finally {
+            idleInstances.offer(instance);
+        }
+    }
+
+    /**
+     * Runs the script, or its render function, against the model.
+     *
+     * @param instance the borrowed script instance
+     * @param model the model attributes
+     * @return result of the script
+     * @throws Exception if the script failed
+     */
+    protected Object evaluate(ScriptInstance instance, Map<String, Object> model) throws Exception {
+        Bindings bindings = new ModelBindings(model);
+        if (renderFunction == null) {
             // result of script is the response, no method is invoked and the model attributes are bounded globally
-            result = scriptEngine.eval(script, bindings);
+            ScriptContext context = createRenderContext(instance, bindings);
+            return instance.compiledScript != null
+                ? instance.compiledScript.eval(context)
+                : instance.engine.eval(script, context);
         } else {
-            if (renderObject != null) {
-                Object thiz = scriptEngine.eval(renderObject);
-                result = ((Invocable) scriptEngine).invokeMethod(thiz, renderFunction, bindings);
+            return invoke(instance, bindings);
+        }
+    }
+
+    /**
+     * Creates a new instance of the script, with its own engine state.
+     *
+     * @return the script instance
+     * @throws Exception if the script could not be compiled or evaluated
+     */
+    protected ScriptInstance createInstance() throws Exception {
+        ScriptEngine engine = scriptEngineSupplier.get();
+        ScriptContext context = createContext(engine);
+        library.eval(engine, context);
+        CompiledScript compiledScript = compile(engine);
+        Object thiz = null;
+        if (renderFunction != null) {
+            // render logic is attached to a global function or object
+            // script needs to be eval'ed once so its functions and objects are available in the engine state for invocation
+            if (!(engine instanceof Invocable)) {
+                throw new IllegalArgumentException("ScriptEngine must be an Invocable if renderFunction or renderObject are specified");
+            }
+            if (compiledScript != null) {
+                compiledScript.eval(context);
             } else {
-                result = ((Invocable) scriptEngine).invokeFunction(renderFunction, bindings);
+                engine.eval(script, context);
+            }
+            if (renderObject != null) {
+                thiz = engine.eval(renderObject, context);
             }
         }
+        return new ScriptInstance(engine, context, compiledScript, thiz);
+    }
+
+    /**
+     * Creates the context an instance's script is evaluated in. Defaults to the engine's own context, so each
+     * instance requires a distinct engine.
+     *
+     * @param engine the instance's engine
+     * @return script context for the instance
+     */
+    protected ScriptContext createContext(ScriptEngine engine) {
+        return engine.getContext();
+    }
 
+    /**
+     * Creates the context for a single render of a script without a render function. Defaults to binding the model
+     * as the engine scope, exactly like {@link ScriptEngine#eval(String, Bindings)}. If there is a library, the
+     * instance's engine scope, where it was defined, replaces the global scope.
+     *
+     * @param instance the borrowed script instance
+     * @param model the model attributes
+     * @return script context for the render
+     */
+    protected ScriptContext createRenderContext(ScriptInstance instance, Bindings model) {
+        ScriptContext context = new SimpleScriptContext();
+        context.setBindings(library.isEmpty()
+            ? instance.context.getBindings(ScriptContext.GLOBAL_SCOPE)
+            : instance.context.getBindings(ScriptContext.ENGINE_SCOPE), ScriptContext.GLOBAL_SCOPE);
+        context.setBindings(model, ScriptContext.ENGINE_SCOPE);
+        context.setReader(instance.context.getReader());
+        context.setWriter(instance.context.getWriter());
+        context.setErrorWriter(instance.context.getErrorWriter());
+        return context;
+    }
+
+    /**
+     * Invokes the render function of an instance.
+     *
+     * @param instance the borrowed script instance
+     * @param model the model attributes
+     * @return result of the render function
+     * @throws Exception if the function could not be invoked
+     */
+    protected Object invoke(ScriptInstance instance, Bindings model) throws Exception {
+        Invocable invocable = (Invocable) instance.engine;
+        if (renderObject != null) {
+            return invocable.invokeMethod(instance.thiz, renderFunction, model);
+        } else {
+            return invocable.invokeFunction(renderFunction, model);
+        }
+    }
+
+    /**
+     * Converts the result of a render to a response. Defaults to parsing the JSON from {@link #toJson(ScriptInstance, Object)}.
+     *
+     * @param instance the script instance
+     * @param result rendered by the view
+     * @return the response
+     * @throws Exception if the response is invalid
+     */
+    protected Response toResponse(ScriptInstance instance, Object result) throws Exception {
+        return mapper.readValue(toJson(instance, result), Response.class);
+    }
+
+    /**
+     * Converts the result of a render to JSON, with access to the instance that rendered it.
+     *
+     * @param instance the script instance
+     * @param result rendered by the view
+     * @return JSON string of view output
+     * @throws Exception if the response is invalid
+     */
+    protected String toJson(ScriptInstance instance, Object result) throws Exception {
         return toJson(result);
     }
 
@@ -79,4 +264,89 @@ public class ScriptEngineView extends BaseView {
     protected String toJson(Object result) throws Exception {
         return (String) result;
     }
+
+    private ScriptInstance borrow() throws Exception {
+        ScriptInstance instance = idleInstances.poll();
+        if (instance != null) {
+            return instance;
+        }
+        int count;
+        while ((count = instanceCount.get()) < poolSize) {
+            if (instanceCount.compareAndSet(count, count + 1)) {
+                try {
+                    return createInstance();
+                } catch (Exception ex) {
+                    instanceCount.decrementAndGet();
+                    throw ex;
+                }
+            }
+        }
+        return idleInstances.take();
+    }
+
+    private CompiledScript compile(ScriptEngine engine) throws ScriptException {
+        if (!(engine instanceof Compilable)) {
+            return null;
+        }
+        synchronized (compiledScripts) {
+            CompiledScript compiledScript = compiledScripts.get(engine);
+            if (compiledScript == null) {
+                compiledScript = ((Compilable) engine).compile(script);
+                compiledScripts.put(engine, compiledScript);
+            }
+            return compiledScript;
+        }
+    }
+
+    private static Supplier<ScriptEngine> singleEngine(ScriptEngine scriptEngine) {
+        return () -> scriptEngine;
+    }
+
+    /**
+     * State of a script used by one render at a time.
+     */
+    protected static class ScriptInstance {
+        protected final ScriptEngine engine;
+        protected final ScriptContext context;
+        protected final CompiledScript compiledScript;
+        protected final Object thiz;
+
+        protected ScriptInstance(ScriptEngine engine, ScriptContext context, CompiledScript compiledScript, Object thiz) {
+            this.engine = assertNotNull(engine, "engine");
+            this.context = assertNotNull(context, "context");
+            this.compiledScript = compiledScript;
+            this.thiz = thiz;
+        }
+
+        /**
+         * Copy constructor for sub-classes holding additional state.
+         *
+         * @param instance instance to copy
+         */
+        protected ScriptInstance(ScriptInstance instance) {
+            this(instance.engine, instance.context, instance.compiledScript, instance.thiz);
+        }
+
+        public ScriptEngine getEngine() {
+            return engine;
+        }
+
+        public ScriptContext getContext() {
+            return context;
+        }
+
+        /**
+         * @return compiled script, or null if the engine is not {@link Compilable}
+         */
+        public CompiledScript getCompiledScript() {
+            return compiledScript;
+        }
+
+        /**
+         * @return the render object, or null if none is configured
+         */
+        public Object getThiz() {
+            return thiz;
+        }
+    }
 }
@@ -17,31 +17,64 @@ import com.amazon.ask.mvc.view.View;
 import com.amazon.ask.mvc.view.resolver.cache.ViewCache;
 import com.amazon.ask.mvc.view.resolver.candidate.ViewCandidateEnumerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.IOUtils;
 
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
 
 /**
  * Base implementation for view which invokes javax scripts to render responses.
+ *
+ * Each view renders with a pool of at most enginePoolSize script instances, defaulting to the number of available
+ * processors, so concurrent renders of the same view do not share script state.
+ *
+ * Library scripts are loaded once from the resource class and evaluated into every view, before the view's own
+ * script, so helpers can be shared by all views instead of being copied into each of them.
  */
 public abstract class ScriptEngineViewResolver extends ClassPathViewResolver {
     protected final ScriptEngineManager scriptEngineManager;
     protected final String scriptEngineName;
     protected final String renderObject;
     protected final String renderFunction;
+    protected final int enginePoolSize;
+    protected final ScriptLibrary library;
 
     protected ScriptEngineViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
                                        Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
                                        ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction) {
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName,
+            renderObject, renderFunction, null);
+    }
+
+    protected ScriptEngineViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                       Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                       ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction,
+                                       Integer enginePoolSize) {
+        this(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass, scriptEngineManager, scriptEngineName,
+            renderObject, renderFunction, enginePoolSize, null);
+    }
+
+    protected ScriptEngineViewResolver(ObjectMapper mapper, ViewCache cache, List<ViewCandidateEnumerator> viewCandidateEnumerators,
+                                       Collection<Pattern> viewNamePatterns, String prefix, String suffix, Class<?> resourceClass,
+                                       ScriptEngineManager scriptEngineManager, String scriptEngineName, String renderObject, String renderFunction,
+                                       Integer enginePoolSize, List<String> libraries) {
         super(mapper, cache, viewCandidateEnumerators, viewNamePatterns, prefix, suffix, resourceClass);
         this.scriptEngineManager = scriptEngineManager == null ? new ScriptEngineManager(resourceClass.getClassLoader()) : scriptEngineManager;
         this.scriptEngineName = assertNotNull(scriptEngineName, "scriptEngineName");
@@ -50,24 +83,68 @@ public abstract class ScriptEngineViewResolver extends ClassPathViewResolver {
         }
         this.renderObject = renderObject;
         this.renderFunction = renderFunction;
+        this.enginePoolSize = enginePoolSize == null ? Runtime.getRuntime().availableProcessors() : enginePoolSize;
+        if (this.enginePoolSize < 1) {
+            throw new IllegalArgumentException("enginePoolSize must be positive");
+        }
+        this.library = libraries == null || libraries.isEmpty() ? ScriptLibrary.EMPTY : loadLibrary(libraries);
     }
 
     @Override
     protected View loadView(String viewName, URL viewResource) throws Exception {
         try (Reader scriptReader = new BufferedReader(new InputStreamReader(viewResource.openStream()))) {
-            return createView(getScriptEngine(), scriptReader);
+            View view = createView(this::getScriptEngine, scriptReader);
+            if (view instanceof ScriptEngineView) {
+                ((ScriptEngineView) view).prepare();
+            }
+            return view;
         } catch (Exception ex) {
             logger.error("Failed to read ScriptEngine View", ex);
             throw ex;
         }
     }
 
+    /**
+     * Reads the library scripts from the resource class.
+     *
+     * @param libraries resource names of the library scripts, in evaluation order
+     * @return the library
+     */
+    protected ScriptLibrary loadLibrary(List<String> libraries) {
+        Map<String, String> scripts = new LinkedHashMap<>();
+        for (String name : libraries) {
+            URL resource = this.resourceClass.getResource(name);
+            if (resource == null) {
+                throw new IllegalArgumentException(String.format("Library script '%s' could not be found", name));
+            }
+            try (InputStream stream = resource.openStream()) {
+                scripts.put(name, IOUtils.toString(stream, StandardCharsets.UTF_8));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(String.format("Failed to read library script '%s'", name), ex);
+            }
+        }
+        return new ScriptLibrary(scripts);
+    }
+
     protected ScriptEngine getScriptEngine() {
         return scriptEngineManager.getEngineByName(scriptEngineName);
     }
 
     /**
-     * Create a view for a script.
+     * Create a view for a script. Defaults to {@link #createView(ScriptEngine, Reader)} with a single engine;
+     * override it to create a view which pools engines.
+     *
+     * @param scriptEngineSupplier creates a new engine each time it is called
+     * @param scriptReader the script content reader
+     * @return the view, encapsulating the script
+     * @throws Exception if the script could not be read or compiled
+     */
+    protected View createView(Supplier<ScriptEngine> scriptEngineSupplier, Reader scriptReader) throws Exception {
+        return createView(scriptEngineSupplier.get(), scriptReader);
+    }
+
+    /**
+     * Create a view for a script, rendered by a single engine.
      *
      * @param scriptEngine the script's engine
      * @param scriptReader the script content reader
@@ -81,6 +158,8 @@ public abstract class ScriptEngineViewResolver extends ClassPathViewResolver {
         protected String scriptEngineName;
         protected String renderObject;
         protected String renderFunction;
+        protected Integer enginePoolSize;
+        protected List<String> libraries;
 
         public Self withScriptEngineManager(ScriptEngineManager scriptEngineManager) {
             this.scriptEngineManager = scriptEngineManager;
@@ -101,5 +180,35 @@ public abstract class ScriptEngineViewResolver extends ClassPathViewResolver {
             this.renderFunction = renderFunction;
             return getThis();
         }
+
+        /**
+         * @param enginePoolSize maximum number of concurrent renders of a single view
+         * @return this
+         */
+        public Self withEnginePoolSize(int enginePoolSize) {
+            this.enginePoolSize = enginePoolSize;
+            return getThis();
+        }
+
+        /**
+         * @param libraries resource names of scripts evaluated before every view, in order
+         * @return this
+         */
+        public Self withLibraries(List<String> libraries) {
+            this.libraries = libraries == null ? null : new ArrayList<>(libraries);
+            return getThis();
+        }
+
+        /**
+         * @param library resource name of a script evaluated before every view
+         * @return this
+         */
+        public Self addLibrary(String library) {
+            if (this.libraries == null) {
+                this.libraries = new ArrayList<>();
+            }
+            this.libraries.add(library);
+            return getThis();
+        }
     }
 }
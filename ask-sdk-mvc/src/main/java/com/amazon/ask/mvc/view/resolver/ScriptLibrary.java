@@ -0,0 +1,103 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Ordered set of helper scripts shared by all views of a resolver, evaluated into each script instance before
+ * the view's own script so their functions and variables are visible to it.
+ *
+ * Each script is compiled once per engine if the engine is {@link Compilable}, so views sharing an engine share
+ * the library's compiled code instead of each parsing their own copy.
+ */
+public class ScriptLibrary {
+    public static final ScriptLibrary EMPTY = new ScriptLibrary(Collections.emptyMap());
+
+    private final Map<String, String> scripts;
+    private final Map<ScriptEngine, List<CompiledScript>> compiledScripts = new IdentityHashMap<>();
+
+    /**
+     * @param scripts script source by name, in evaluation order
+     */
+    public ScriptLibrary(Map<String, String> scripts) {
+        this.scripts = Collections.unmodifiableMap(new LinkedHashMap<>(assertNotNull(scripts, "scripts")));
+    }
+
+    /**
+     * @return script source by name, in evaluation order
+     */
+    public Map<String, String> getScripts() {
+        return scripts;
+    }
+
+    public boolean isEmpty() {
+        return scripts.isEmpty();
+    }
+
+    /**
+     * Evaluates the library's scripts in a context.
+     *
+     * @param engine engine owning the context
+     * @param context context to define the library in
+     * @throws ScriptException if a script failed to compile or evaluate
+     */
+    public void eval(ScriptEngine engine, ScriptContext context) throws ScriptException {
+        if (scripts.isEmpty()) {
+            return;
+        }
+        if (engine instanceof Compilable) {
+            for (CompiledScript compiledScript : compile(engine)) {
+                compiledScript.eval(context);
+            }
+        } else {
+            for (String script : scripts.values()) {
+                engine.eval(script, context);
+            }
+        }
+    }
+
+    private List<CompiledScript> compile(ScriptEngine engine) throws ScriptException {
+        synchronized (compiledScripts) {
+            List<CompiledScript> compiled = compiledScripts.get(engine);
+            if (compiled == null) {
+                compiled = new ArrayList<>(scripts.size());
+                for (Map.Entry<String, String> script : scripts.entrySet()) {
+                    try {
+                        compiled.add(((Compilable) engine).compile(script.getValue()));
+                    } catch (ScriptException ex) {
+                        // compiled from a string, so report the library script's name instead
+                        ScriptException named = new ScriptException(ex.getMessage(), script.getKey(), ex.getLineNumber(), ex.getColumnNumber());
+                        named.initCause(ex);
+                        throw named;
+                    }
+                }
+                compiledScripts.put(engine, compiled);
+            }
+            return compiled;
+        }
+    }
+}
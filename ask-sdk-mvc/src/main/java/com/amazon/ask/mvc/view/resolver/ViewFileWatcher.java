@@ -0,0 +1,55 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+
+/**
+ * Reports changes to the files of a {@link FileSystemViewResolver}'s directory.
+ *
+ * @see WatchServiceViewFileWatcher
+ * @see ManualViewFileWatcher
+ */
+public interface ViewFileWatcher extends Closeable {
+    /**
+     * Starts watching a directory and its sub-directories.
+     *
+     * @param directory absolute path of the directory
+     * @throws IOException if the directory can not be watched
+     */
+    void watch(Path directory) throws IOException;
+
+    /**
+     * Reports the changes made since the last poll, without blocking.
+     *
+     * @param listener receives the changes
+     */
+    void poll(Listener listener);
+
+    interface Listener {
+        /**
+         * @param path absolute path of the file or directory that changed
+         * @param kind {@link java.nio.file.StandardWatchEventKinds} kind of change
+         */
+        void onChange(Path path, WatchEvent.Kind<?> kind);
+
+        /**
+         * Called when changes were lost, so that any file may have changed.
+         */
+        void onOverflow();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view.resolver;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static com.amazon.ask.util.ValidationUtils.assertNotNull;
+
+/**
+ * Watches view directories with the {@link WatchService} of their file system.
+ *
+ * Some platforms poll for changes, so they may only be reported several seconds after a file is written.
+ */
+public class WatchServiceViewFileWatcher implements ViewFileWatcher {
+    private final WatchService watchService;
+
+    /**
+     * @param fileSystem file system of the watched directories
+     * @throws IllegalStateException if the file system can not be watched
+     */
+    public WatchServiceViewFileWatcher(FileSystem fileSystem) {
+        try {
+            this.watchService = assertNotNull(fileSystem, "fileSystem").newWatchService();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to watch file system: " + fileSystem, ex);
+        }
+    }
+
+    @Override
+    public void watch(Path directory) throws IOException {
+        // a WatchService only reports changes to a directory's direct entries, so every sub-directory is registered
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void poll(Listener listener) {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    listener.onOverflow();
+                } else {
+                    listener.onChange(directory.resolve((Path) event.context()), event.kind());
+                }
+            }
+            key.reset();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -58,6 +58,14 @@ public class ConcurrentViewCache implements ViewCache {
         return view;
     }
 
+    @Override
+    public void invalidate(String key) {
+        synchronized (creationCache) {
+            accessCache.remove(key);
+            creationCache.remove(key);
+        }
+    }
+
     /**
      * Constructs a thread-safe view cache with default capacity and concurrency
      */
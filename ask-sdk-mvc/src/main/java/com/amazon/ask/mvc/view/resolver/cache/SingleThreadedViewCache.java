@@ -51,6 +51,11 @@ public class SingleThreadedViewCache implements ViewCache {
         return view;
     }
 
+    @Override
+    public void invalidate(String key) {
+        cache.remove(key);
+    }
+
     /**
      * @return a single threaded view cache with default capacity
      */
@@ -37,4 +37,14 @@ public interface ViewCache {
      * @throws Exception if there was an exception creating the view
      */
     View getOrCreate(String key, Callable<View> callable) throws Exception;
+
+    /**
+     * Evict a view from the cache so it is re-created on next access.
+     *
+     * Caches that do not retain views may ignore this.
+     *
+     * @param key cache key of the view
+     */
+    default void invalidate(String key) {
+    }
 }
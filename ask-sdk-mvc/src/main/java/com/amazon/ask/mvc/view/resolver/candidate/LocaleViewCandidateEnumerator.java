@@ -60,4 +60,9 @@ public class LocaleViewCandidateEnumerator implements ViewCandidateEnumerator {
             throw new IllegalArgumentException("Invalid locale: " + locale);
         }
     }
+
+    @Override
+    public boolean enumeratesByLocale() {
+        return true;
+    }
 }
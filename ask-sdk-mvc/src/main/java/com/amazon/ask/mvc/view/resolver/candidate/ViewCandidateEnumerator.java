@@ -24,4 +24,11 @@ import java.util.stream.Stream;
  */
 public interface ViewCandidateEnumerator {
     Stream<String> enumerate(String viewName, RequestEnvelope requestEnvelope);
+
+    /**
+     * @return true if the candidates depend only on the view name and the request's locale, false by default
+     */
+    default boolean enumeratesByLocale() {
+        return false;
+    }
 }
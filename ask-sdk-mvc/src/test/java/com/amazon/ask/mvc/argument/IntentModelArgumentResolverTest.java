@@ -84,4 +84,19 @@ public class IntentModelArgumentResolverTest {
 
         assertTrue(resolver.resolve(input).isPresent());
     }
+
+    @Test
+    public void testInvalidSlotValue() throws NoSuchMethodException {
+        MethodParameter methodParameter = new MethodParameter(
+                this.getClass().getMethod("testSupportAndResolve"),
+                0,
+                MappingsController.PetTypeIntent.class,
+                MethodParameter.EMPTY_ANNOTATIONS
+        );
+
+        RequestEnvelope envelope = Utils.buildSimpleEnvelope("PetTypeIntent", "pet", "UNICORN");
+        ArgumentResolverContext input = new ArgumentResolverContext(mockSkillContext, methodParameter, HandlerInput.builder().withRequestEnvelope(envelope).build());
+
+        assertFalse(resolver.resolve(input).isPresent());
+    }
 }
\ No newline at end of file
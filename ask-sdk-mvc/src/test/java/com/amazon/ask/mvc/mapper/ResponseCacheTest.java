@@ -0,0 +1,166 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.mapper;
+
+import com.amazon.ask.dispatcher.request.handler.HandlerInput;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.SkillContext;
+import com.amazon.ask.mvc.Utils;
+import com.amazon.ask.mvc.annotation.cache.CacheableResponse;
+import com.amazon.ask.mvc.annotation.mapping.IntentMapping;
+import com.amazon.ask.mvc.mapper.cache.ResponseCache;
+import com.amazon.ask.mvc.mapper.cache.ResponseCacheRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResponseCacheTest {
+    private final Response response = Response.builder().withShouldEndSession(true).build();
+    private int invocations;
+
+    @Test
+    public void test_hit_after_put() {
+        ResponseCache cache = new ResponseCache(Arrays.asList("intentName", "slot:color"), 0, 10);
+        HandlerInput input = Utils.buildSimpleSimpleIntentRequest("ColorIntent", "color", "red");
+
+        List<Object> key = cache.key(input);
+        assertFalse(cache.get(key).isPresent());
+        cache.put(key, response);
+        assertEquals(response, cache.get(cache.key(input)).get());
+
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+        assertEquals(0.5, cache.getStatistics().getHitRate(), 0.0);
+    }
+
+    @Test
+    public void test_key_includes_slot_value() {
+        ResponseCache cache = new ResponseCache(Arrays.asList("intentName", "slot:color"), 0, 10);
+
+        assertNotEquals(
+            cache.key(Utils.buildSimpleSimpleIntentRequest("ColorIntent", "color", "red")),
+            cache.key(Utils.buildSimpleSimpleIntentRequest("ColorIntent", "color", "blue")));
+    }
+
+    @Test
+    public void test_key_includes_session_attribute() {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("session:a.b"), 0, 10);
+
+        assertEquals(
+            cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh", Collections.singletonMap("a", Collections.singletonMap("b", "x")))),
+            cache.key(Utils.buildSimpleSimpleIntentRequest("B", "meh", "meh", Collections.singletonMap("a", Collections.singletonMap("b", "x")))));
+        assertNotEquals(
+            cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh", Collections.singletonMap("a", Collections.singletonMap("b", "x")))),
+            cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh", Collections.singletonMap("a", Collections.singletonMap("b", "y")))));
+    }
+
+    @Test
+    public void test_expired_response_is_not_returned() throws Exception {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("intentName"), TimeUnit.MILLISECONDS.toNanos(1), 10);
+        List<Object> key = cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh"));
+
+        cache.put(key, response);
+        Thread.sleep(10);
+        assertFalse(cache.get(key).isPresent());
+    }
+
+    @Test
+    public void test_capacity_evicts_least_recently_used() {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("intentName"), 0, 1);
+        List<Object> a = cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh"));
+        List<Object> b = cache.key(Utils.buildSimpleSimpleIntentRequest("B", "meh", "meh"));
+
+        cache.put(a, response);
+        cache.put(b, response);
+        assertFalse(cache.get(a).isPresent());
+        assertTrue(cache.get(b).isPresent());
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void test_capacity_keeps_recently_read_response() {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("intentName"), 0, 2);
+        List<Object> a = cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh"));
+        List<Object> b = cache.key(Utils.buildSimpleSimpleIntentRequest("B", "meh", "meh"));
+        List<Object> c = cache.key(Utils.buildSimpleSimpleIntentRequest("C", "meh", "meh"));
+
+        cache.put(a, response);
+        cache.put(b, response);
+        assertTrue(cache.get(a).isPresent());
+        cache.put(c, response);
+        assertTrue(cache.get(a).isPresent());
+        assertFalse(cache.get(b).isPresent());
+        assertTrue(cache.get(c).isPresent());
+    }
+
+    @Test
+    public void test_each_hit_returns_the_cached_response() {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("intentName"), 0, 10);
+        List<Object> key = cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh"));
+
+        cache.put(key, response);
+        assertSame(response, cache.get(key).get());
+        assertSame(response, cache.get(key).get());
+    }
+
+    @Test
+    public void test_put_purges_expired_responses() throws Exception {
+        ResponseCache cache = new ResponseCache(Collections.singletonList("intentName"), TimeUnit.MILLISECONDS.toNanos(1), 10);
+
+        cache.put(cache.key(Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh")), response);
+        Thread.sleep(10);
+        cache.put(cache.key(Utils.buildSimpleSimpleIntentRequest("B", "meh", "meh")), response);
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void test_handler_is_invoked_once_per_key() throws Exception {
+        SkillContext skillContext = mock(SkillContext.class);
+        when(skillContext.getResponseCacheRegistry()).thenReturn(new ResponseCacheRegistry());
+        IntentMapping.Handler handler = new IntentMapping.Handler(
+            ControllerMethodContext.builder()
+                .withSkillContext(skillContext)
+                .withController(this)
+                .withMethod(getClass().getMethod("cachedHandler"))
+                .build(),
+            "A");
+        HandlerInput input = Utils.buildSimpleSimpleIntentRequest("A", "meh", "meh");
+
+        assertEquals(response, handler.handle(input).get());
+        assertEquals(response, handler.handle(input).get());
+        assertEquals(1, invocations);
+    }
+
+    @CacheableResponse(key = "intentName")
+    public Response cachedHandler() {
+        invocations++;
+        return response;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_invalid_expression() {
+        new ResponseCache(Collections.singletonList("unknown"), 0, 10);
+    }
+}
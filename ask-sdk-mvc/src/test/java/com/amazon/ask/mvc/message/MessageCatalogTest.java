@@ -0,0 +1,73 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.message;
+
+import org.junit.Test;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MessageCatalogTest {
+    private final MessageCatalog catalog = MessageCatalog.builder()
+        .withBaseName("com.amazon.ask.mvc.message.TestMessages")
+        .withLocales(Arrays.asList(Locale.US, Locale.GERMANY))
+        .build();
+
+    @Test
+    public void testLocaleFallback() {
+        assertEquals("Howdy", catalog.getMessages("en-US").getString("WELCOME"));
+        assertEquals("Goodbye", catalog.getMessages("en-US").getString("GOODBYE"));
+        assertEquals("Willkommen", catalog.getMessages(Locale.GERMANY).getString("WELCOME"));
+        assertEquals("Willkommen", catalog.getMessages("de-AT").getString("WELCOME"));
+        assertEquals("Welcome", catalog.getMessages("fr-FR").getString("WELCOME"));
+        assertEquals("Welcome", catalog.getMessages((String) null).getString("WELCOME"));
+        assertSame(catalog.getMessages("en-US"), catalog.getMessages(Locale.US));
+    }
+
+    @Test
+    public void testFormat() {
+        Messages messages = catalog.getMessages("en-US");
+        assertEquals("Bob scored ten points", messages.format("SCORE", "Bob", "ten"));
+        assertEquals("Bob scored {1} points", messages.format("SCORE", "Bob"));
+        assertEquals("It's Bob's turn", messages.format("QUOTED", "Bob"));
+        assertEquals(new MessageFormat("{0} scored {1} points", Locale.US).format(new Object[] {"Bob", 1000}), messages.format("SCORE", "Bob", 1000));
+        assertEquals(new MessageFormat("{0} hat {1} Punkte", Locale.GERMANY).format(new Object[] {"Bob", 1000}),
+            catalog.getMessages(Locale.GERMANY).format("SCORE", "Bob", 1000));
+    }
+
+    @Test
+    public void testMapAccess() {
+        Messages messages = catalog.getMessages("en-US");
+        assertEquals("Howdy", messages.get("WELCOME"));
+        assertEquals("It''s {0}''s turn", messages.get("QUOTED"));
+        assertNull(messages.get("MISSING"));
+        assertEquals(4, messages.size());
+    }
+
+    @Test(expected = MissingResourceException.class)
+    public void testMissingKey() {
+        catalog.getMessages("en-US").format("MISSING");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingBundle() {
+        MessageCatalog.builder().withBaseName("com.amazon.ask.mvc.message.Missing").build();
+    }
+}
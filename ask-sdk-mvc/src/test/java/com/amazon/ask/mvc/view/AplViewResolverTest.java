@@ -0,0 +1,135 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.mvc.view.apl.AplDocumentDirective;
+import com.amazon.ask.mvc.view.apl.AplView;
+import com.amazon.ask.mvc.view.apl.AplViewResolver;
+import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AplViewResolverTest {
+    private final RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder()
+            .withLocale("en-US")
+            .build())
+        .build();
+
+    @Test
+    public void testRenderDatasources() throws Exception {
+        AplViewResolver resolver = AplViewResolver.builder()
+            .withPrefix("apl/")
+            .withResourceClass(getClass())
+            .build();
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("datasources", Collections.singletonMap("greeting", new Greeting("hello")));
+        ModelAndView mav = new ModelAndView("global", model);
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+        Response response = view.render(mav, requestEnvelope);
+
+        assertNull(response.getOutputSpeech());
+        assertEquals(1, response.getDirectives().size());
+        AplDocumentDirective directive = (AplDocumentDirective) response.getDirectives().get(0);
+        assertEquals("global", directive.getToken());
+        assertEquals("APL", directive.getDocument().get("type"));
+        assertEquals(Collections.singletonMap("greeting", Collections.singletonMap("text", "hello")), directive.getDatasources());
+    }
+
+    @Test
+    public void testDocumentIsShared() throws Exception {
+        AplViewResolver resolver = AplViewResolver.builder()
+            .withPrefix("apl/")
+            .withResourceClass(getClass())
+            .build();
+
+        ModelAndView mav = new ModelAndView("global", Collections.emptyMap());
+        AplView view = (AplView) resolver.resolve(mav, requestEnvelope).get();
+        Response first = view.render(mav, requestEnvelope);
+        Response second = view.render(mav, requestEnvelope);
+
+        Map<String, Object> document = ((AplDocumentDirective) first.getDirectives().get(0)).getDocument();
+        assertSame(view.getDocument(), document);
+        assertSame(document, ((AplDocumentDirective) second.getDirectives().get(0)).getDocument());
+        assertNull(((AplDocumentDirective) first.getDirectives().get(0)).getDatasources());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @SuppressWarnings("unchecked")
+    public void testDocumentIsImmutable() throws Exception {
+        AplViewResolver resolver = AplViewResolver.builder()
+            .withPrefix("apl/")
+            .withResourceClass(getClass())
+            .build();
+
+        ModelAndView mav = new ModelAndView("global", Collections.emptyMap());
+        AplView view = (AplView) resolver.resolve(mav, requestEnvelope).get();
+
+        Map<String, Object> mainTemplate = (Map<String, Object>) view.getDocument().get("mainTemplate");
+        ((List<Object>) mainTemplate.get("items")).clear();
+    }
+
+    @Test
+    public void testSpliceIntoResponse() throws Exception {
+        AplViewResolver resolver = AplViewResolver.builder()
+            .withPrefix("apl/")
+            .withResourceClass(getClass())
+            .withResponseResolver(NashornViewResolver.builder()
+                .withResourceClass(getClass())
+                .build())
+            .build();
+
+        ModelAndView mav = new ModelAndView("global", Collections.singletonMap("attribute", "test"));
+        Response response = resolver.resolve(mav, requestEnvelope).get().render(mav, requestEnvelope);
+
+        assertEquals(PlainTextOutputSpeech.builder().withText("hello test").build(), response.getOutputSpeech());
+        assertEquals(1, response.getDirectives().size());
+
+        JsonNode json = new ObjectMapper().valueToTree(response);
+        JsonNode directive = json.get("directives").get(0);
+        assertEquals(AplDocumentDirective.TYPE, directive.get("type").asText());
+        assertEquals("global", directive.get("token").asText());
+        assertEquals("${payload.greeting.text}", directive.get("document").get("mainTemplate").get("items").get(0).get("text").asText());
+        assertTrue(directive.get("datasources") == null);
+    }
+
+    public static class Greeting {
+        private final String text;
+
+        public Greeting(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+}
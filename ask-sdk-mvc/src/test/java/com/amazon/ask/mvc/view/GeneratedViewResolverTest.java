@@ -0,0 +1,74 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.view.generated.GeneratedView;
+import com.amazon.ask.mvc.view.generated.GeneratedViewResolver;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedViewResolverTest {
+    private final GreetingView view = new GreetingView();
+
+    private final RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder()
+            .withLocale("en-US")
+            .build())
+        .build();
+
+    @Test
+    public void testResolveByName() throws Exception {
+        GeneratedViewResolver resolver = GeneratedViewResolver.builder()
+            .withDiscovery(false)
+            .addView(view)
+            .build();
+
+        assertSame(view, resolver.resolve(new ModelAndView("greeting"), requestEnvelope).get());
+        assertFalse(resolver.resolve(new ModelAndView("farewell"), requestEnvelope).isPresent());
+    }
+
+    @Test
+    public void testResolveWithPrefixAndSuffix() throws Exception {
+        GeneratedViewResolver resolver = GeneratedViewResolver.builder()
+            .withDiscovery(false)
+            .withPrefix("views/")
+            .withSuffix(".json")
+            .addView(view)
+            .build();
+
+        Optional<View> resolved = resolver.resolve(new ModelAndView("greeting"), requestEnvelope);
+        assertTrue(resolved.isPresent());
+        assertSame(view, resolved.get());
+        assertFalse(resolver.resolve(new ModelAndView("farewell"), requestEnvelope).isPresent());
+    }
+
+    private static final class GreetingView extends GeneratedView {
+        private GreetingView() {
+            super("greeting");
+        }
+
+        @Override
+        protected Response render(ViewModel model) {
+            return Response.builder().build();
+        }
+    }
+}
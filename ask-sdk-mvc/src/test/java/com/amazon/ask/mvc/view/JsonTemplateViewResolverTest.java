@@ -0,0 +1,132 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.dialog.DelegateDirective;
+import com.amazon.ask.model.dialog.ElicitSlotDirective;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.model.ui.SimpleCard;
+import com.amazon.ask.model.ui.SsmlOutputSpeech;
+import com.amazon.ask.mvc.view.json.JsonTemplateViewResolver;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JsonTemplateViewResolverTest {
+    private final JsonTemplateViewResolver resolver = JsonTemplateViewResolver.builder()
+        .withPrefix("json/")
+        .withResourceClass(getClass())
+        .build();
+
+    private final RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+        .withRequest(IntentRequest.builder()
+            .withLocale("en-US")
+            .build())
+        .build();
+
+    @Test
+    public void testRenderActive() throws Exception {
+        Response response = render("greeting", new Hero("Deadpool", true, Arrays.asList("healing", "humor")));
+
+        assertEquals("<speak>Hello Deadpool</speak>", ((SsmlOutputSpeech) response.getOutputSpeech()).getSsml());
+        assertEquals("en-US", ((SimpleCard) response.getCard()).getTitle());
+        assertEquals("Deadpool", ((SimpleCard) response.getCard()).getContent());
+        assertEquals("What now, Deadpool?", ((PlainTextOutputSpeech) response.getReprompt().getOutputSpeech()).getText());
+        assertTrue(response.getDirectives().isEmpty());
+        assertEquals(true, response.getShouldEndSession());
+    }
+
+    @Test
+    public void testRenderInactive() throws Exception {
+        Response response = render("greeting", new Hero("Deadpool", false, Collections.emptyList()));
+
+        assertNull(response.getReprompt());
+        assertEquals(1, response.getDirectives().size());
+        assertTrue(response.getDirectives().get(0) instanceof DelegateDirective);
+        assertEquals(false, response.getShouldEndSession());
+    }
+
+    @Test
+    public void testEach() throws Exception {
+        Response response = render("powers", new Hero("Deadpool", true, Arrays.asList("healing", "humor")));
+
+        assertEquals(2, response.getDirectives().size());
+        assertEquals("healing", ((ElicitSlotDirective) response.getDirectives().get(0)).getSlotToElicit());
+        assertEquals("humor", ((ElicitSlotDirective) response.getDirectives().get(1)).getSlotToElicit());
+    }
+
+    @Test
+    public void testRenderString() throws Exception {
+        ModelAndView mav = new ModelAndView("powers", Collections.singletonMap("hero", new Hero("Deadpool", true, Collections.emptyList())));
+        BaseView view = (BaseView) resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals("{\"outputSpeech\":{\"type\":\"PlainText\",\"text\":\"Deadpool\"},\"directives\":[]}",
+            view.renderInternal(view.prepareModel(mav, requestEnvelope)));
+    }
+
+    @Test
+    public void testResolvesByViewName() {
+        assertTrue(resolver.resolvesByViewName());
+        assertFalse(JsonTemplateViewResolver.builder()
+            .withResourceClass(getClass())
+            .addViewCandidateEnumerator((viewName, envelope) -> Stream.of(viewName))
+            .build()
+            .resolvesByViewName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPath() throws Exception {
+        resolver.resolve(new ModelAndView("invalid"), requestEnvelope);
+    }
+
+    private Response render(String viewName, Hero hero) throws Exception {
+        ModelAndView mav = new ModelAndView(viewName, Collections.singletonMap("hero", hero));
+        return resolver.resolve(mav, requestEnvelope).get().render(mav, requestEnvelope);
+    }
+
+    public static class Hero {
+        private final String name;
+        private final boolean active;
+        private final List<String> powers;
+
+        public Hero(String name, boolean active, List<String> powers) {
+            this.name = name;
+            this.active = active;
+            this.powers = powers;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getPowers() {
+            return powers;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.ui.PlainTextOutputSpeech;
+import com.amazon.ask.mvc.view.nashorn.NashornCodeCache;
+import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class NashornCodeCacheTest {
+    // the cache directory is JVM-wide, so every test shares the same one
+    @ClassRule
+    public static TemporaryFolder folder = new TemporaryFolder();
+
+    private static final FileTime PRIMED = FileTime.fromMillis(0);
+
+    @Test
+    public void testPrimeAndRenderFromCache() throws Exception {
+        Path cacheDirectory = cacheDirectory();
+        Path viewsDirectory = Paths.get(new File(getClass().getResource("invoke_function.js").toURI()).getParent());
+
+        NashornCodeCache.prime(cacheDirectory, false, viewsDirectory);
+        List<Path> primed = cachedFiles(cacheDirectory);
+        assertFalse(primed.isEmpty());
+        for (Path file : primed) {
+            Files.setLastModifiedTime(file, PRIMED);
+        }
+
+        NashornViewResolver resolver = NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .withCodeCacheDirectory(cacheDirectory)
+            .withOptimisticTypes(false)
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_function", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals("hello test", ((PlainTextOutputSpeech) view.render(mav, requestEnvelope).getOutputSpeech()).getText());
+        // Nashorn only stores a script it had to compile, so primed entries left untouched were loaded from the cache
+        for (Path file : primed) {
+            assertEquals(file.toString(), PRIMED, Files.getLastModifiedTime(file));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSecondDirectoryIsRejected() throws Exception {
+        NashornCodeCache.newScriptEngine(cacheDirectory(), false, getClass().getClassLoader());
+        NashornCodeCache.newScriptEngine(folder.getRoot().toPath().resolve("other"), false, getClass().getClassLoader());
+    }
+
+    private static Path cacheDirectory() {
+        return folder.getRoot().toPath().resolve("cache");
+    }
+
+    private static List<Path> cachedFiles(Path cacheDirectory) throws Exception {
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+}
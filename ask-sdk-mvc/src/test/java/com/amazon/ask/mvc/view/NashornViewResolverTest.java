@@ -16,11 +16,17 @@ package com.amazon.ask.mvc.view;
 import com.amazon.ask.model.IntentRequest;
 import com.amazon.ask.model.RequestEnvelope;
 import com.amazon.ask.model.Response;
+import com.amazon.ask.model.dialog.DelegateDirective;
 import com.amazon.ask.model.ui.PlainTextOutputSpeech;
 import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 
@@ -52,6 +58,27 @@ public class NashornViewResolverTest {
         assertEquals(response, view.render(mav, requestEnvelope));
     }
 
+    @Test
+    public void testGlobalScriptStateIsNotShared() throws Exception {
+        NashornViewResolver resolver = NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .withEnginePoolSize(1)
+            .build();
+
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        View view = resolver.resolve(new ModelAndView("global_state"), requestEnvelope).get();
+        ModelAndView first = new ModelAndView("global_state", Collections.singletonMap("attribute", "first"));
+        ModelAndView second = new ModelAndView("global_state", Collections.singletonMap("attribute", "second"));
+
+        assertEquals("hello first", ((PlainTextOutputSpeech) view.render(first, requestEnvelope).getOutputSpeech()).getText());
+        assertEquals("hello second", ((PlainTextOutputSpeech) view.render(second, requestEnvelope).getOutputSpeech()).getText());
+    }
+
     @Test
     public void testInvokeFunction() throws Exception {
         NashornViewResolver resolver = NashornViewResolver.builder()
@@ -101,4 +128,95 @@ public class NashornViewResolverTest {
 
         assertEquals(response, view.render(mav, requestEnvelope));
     }
+
+    @Test
+    public void testLibrary() throws Exception {
+        NashornViewResolver resolver = NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .addLibrary("lib/speech.js")
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_library", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingLibrary() {
+        NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .addLibrary("lib/missing.js")
+            .build();
+    }
+
+    @Test
+    public void testObjectConvertedToResponse() throws Exception {
+        NashornViewResolver resolver = NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .build();
+
+        ModelAndView mav = new ModelAndView("invoke_object", Collections.singletonMap("attribute", "test"));
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        Response response = Response.builder()
+            .withOutputSpeech(PlainTextOutputSpeech.builder()
+                .withText("hello test")
+                .build())
+            .withDirectives(Collections.singletonList(DelegateDirective.builder().build()))
+            .withShouldEndSession(false)
+            .build();
+
+        View view = resolver.resolve(mav, requestEnvelope).get();
+
+        assertEquals(response, view.render(mav, requestEnvelope));
+    }
+
+    @Test
+    public void testConcurrentRenders() throws Exception {
+        NashornViewResolver resolver = NashornViewResolver.builder()
+            .withResourceClass(getClass())
+            .withRenderFunction("render")
+            .withEnginePoolSize(4)
+            .build();
+
+        RequestEnvelope requestEnvelope = RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder()
+                .withLocale("en-US")
+                .build())
+            .build();
+
+        View view = resolver.resolve(new ModelAndView("invoke_function"), requestEnvelope).get();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> renders = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                ModelAndView mav = new ModelAndView("invoke_function", Collections.singletonMap("attribute", "test" + i));
+                renders.add(executor.submit(() -> view.render(mav, requestEnvelope)));
+            }
+            for (int i = 0; i < renders.size(); i++) {
+                assertEquals("hello test" + i, ((PlainTextOutputSpeech) renders.get(i).get().getOutputSpeech()).getText());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
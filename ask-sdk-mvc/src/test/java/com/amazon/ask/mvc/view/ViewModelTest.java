@@ -0,0 +1,91 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.mvc.view.resolver.ModelBindings;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ViewModelTest {
+    private final IntentRequest request = IntentRequest.builder().withLocale("en-US").build();
+    private final RequestEnvelope envelope = RequestEnvelope.builder().withRequest(request).build();
+
+    @Test
+    public void testLayersAttributesOverRequestEntries() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("name", "value");
+        attributes.put("session", "overridden");
+        ViewModel model = new ViewModel(attributes, envelope);
+
+        assertEquals("value", model.get("name"));
+        assertEquals("overridden", model.get("session"));
+        assertSame(envelope, model.get("envelope"));
+        assertSame(request, model.get("request"));
+        assertNull(model.get("missing"));
+        assertEquals(4, model.size());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "value");
+        expected.put("session", "overridden");
+        expected.put("envelope", envelope);
+        expected.put("request", request);
+        assertEquals(expected, new HashMap<>(model));
+    }
+
+    @Test
+    public void testReadsAttributesWithoutCopying() {
+        Map<String, Object> attributes = new HashMap<>();
+        ViewModel model = new ViewModel(attributes, envelope);
+
+        attributes.put("late", "value");
+        assertEquals("value", model.get("late"));
+        assertTrue(model.containsKey("session"));
+        assertNull(model.get("session"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        new ViewModel(new HashMap<>(), envelope).put("name", "value");
+    }
+
+    @Test
+    public void testBindingsWritesDoNotModifyModel() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("name", "value");
+        ViewModel model = new ViewModel(attributes, envelope);
+        ModelBindings bindings = new ModelBindings(model);
+
+        bindings.put("result", "rendered");
+        bindings.put("name", "changed");
+        bindings.remove("request");
+
+        assertEquals("rendered", bindings.get("result"));
+        assertEquals("changed", bindings.get("name"));
+        assertFalse(bindings.containsKey("request"));
+        assertEquals(4, bindings.size());
+        assertEquals("value", model.get("name"));
+        assertFalse(model.containsKey("result"));
+    }
+}
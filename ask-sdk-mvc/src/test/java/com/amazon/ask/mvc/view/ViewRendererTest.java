@@ -0,0 +1,138 @@
+/*
+    Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+
+    Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+    except in compliance with the License. A copy of the License is located at
+
+        http://aws.amazon.com/apache2.0/
+
+    or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+    the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.mvc.view;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.mvc.SkillContext;
+import com.amazon.ask.mvc.mapper.ControllerMethodContext;
+import com.amazon.ask.mvc.plugin.ViewResolver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ViewRendererTest {
+    private static final Response FIRST = Response.builder().withShouldEndSession(true).build();
+    private static final Response SECOND = Response.builder().withShouldEndSession(false).build();
+
+    @Mock
+    private ControllerMethodContext context;
+    @Mock
+    private ViewResolver first;
+    @Mock
+    private ViewResolver second;
+
+    private final View firstView = (output, envelope) -> FIRST;
+    private final View secondView = (output, envelope) -> SECOND;
+    private final ViewRenderer renderer = new ViewRenderer(16);
+
+    @Before
+    public void setup() throws Exception {
+        SkillContext skillContext = SkillContext.builder()
+            .withControllers(Collections.emptySet())
+            .withViewResolvers(new LinkedHashSet<>(Arrays.asList(first, second)))
+            .build();
+        when(context.getSkillContext()).thenReturn(skillContext);
+        when(first.resolve(argThat(named("first")), any()))
+            .thenReturn(Optional.of(firstView));
+        when(first.resolve(argThat(output -> !named("first").matches(output)), any()))
+            .thenReturn(Optional.empty());
+        when(second.resolve(any(), any())).thenReturn(Optional.of(secondView));
+        when(first.resolvesByViewName()).thenReturn(true);
+    }
+
+    @Test
+    public void testRoutesToOwningResolver() throws Exception {
+        assertSame(SECOND, renderer.render(context, new ModelAndView("second"), envelope("en-US")).get());
+        assertSame(SECOND, renderer.render(context, new ModelAndView("second"), envelope("en-US")).get());
+        assertSame(FIRST, renderer.render(context, new ModelAndView("first"), envelope("en-US")).get());
+        assertSame(FIRST, renderer.render(context, new ModelAndView("first"), envelope("en-US")).get());
+
+        verify(first, times(1)).resolve(argThat(named("second")), any());
+        verify(second, times(2)).resolve(any(), any());
+        verify(first, times(2)).resolve(argThat(named("first")), any());
+    }
+
+    @Test
+    public void testDoesNotRoutePastContentBasedResolver() throws Exception {
+        when(first.resolvesByViewName()).thenReturn(false);
+        renderer.render(context, new ModelAndView("second"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("second"), envelope("en-US"));
+
+        verify(first, times(2)).resolve(any(), any());
+        verify(second, times(2)).resolve(any(), any());
+    }
+
+    @Test
+    public void testRoutesPerLocale() throws Exception {
+        renderer.render(context, new ModelAndView("second"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("second"), envelope("de-DE"));
+        renderer.render(context, new ModelAndView("second"), envelope("de-DE"));
+
+        verify(first, times(2)).resolve(any(), any());
+        verify(second, times(3)).resolve(any(), any());
+    }
+
+    @Test
+    public void testFallsBackWhenOwnerNoLongerResolves() throws Exception {
+        renderer.render(context, new ModelAndView("second"), envelope("en-US"));
+        when(second.resolve(any(), any())).thenReturn(Optional.empty());
+        when(first.resolve(any(), any())).thenReturn(Optional.of(firstView));
+
+        assertSame(FIRST, renderer.render(context, new ModelAndView("second"), envelope("en-US")).get());
+        assertSame(FIRST, renderer.render(context, new ModelAndView("second"), envelope("en-US")).get());
+        verify(second, times(2)).resolve(any(), any());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedRoute() throws Exception {
+        ViewRenderer renderer = new ViewRenderer(2);
+        renderer.render(context, new ModelAndView("a"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("b"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("a"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("c"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("a"), envelope("en-US"));
+        renderer.render(context, new ModelAndView("b"), envelope("en-US"));
+
+        verify(first, times(1)).resolve(argThat(named("a")), any());
+        verify(first, times(2)).resolve(argThat(named("b")), any());
+    }
+
+    private static ArgumentMatcher<Object> named(String viewName) {
+        return output -> output instanceof ModelAndView && ((ModelAndView) output).getViewName().equals(viewName);
+    }
+
+    private static RequestEnvelope envelope(String locale) {
+        return RequestEnvelope.builder()
+            .withRequest(IntentRequest.builder().withLocale(locale).withRequestId("rid").build())
+            .build();
+    }
+}
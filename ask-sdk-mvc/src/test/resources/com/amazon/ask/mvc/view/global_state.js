@@ -0,0 +1,11 @@
+var seen = typeof seen === 'undefined' ? [] : seen;
+seen.push(attribute);
+
+var result = {
+    outputSpeech: {
+        type: 'PlainText',
+        text: 'hello ' + seen.join(' ')
+    }
+};
+
+result;
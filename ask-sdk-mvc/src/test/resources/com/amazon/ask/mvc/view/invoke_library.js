@@ -0,0 +1,6 @@
+// uses functions and variables defined by the lib/speech.js library
+function render(model) {
+    return {
+        outputSpeech: plainText(greeting + " " + model.attribute)
+    };
+}
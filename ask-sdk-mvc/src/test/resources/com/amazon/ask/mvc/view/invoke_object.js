@@ -0,0 +1,17 @@
+// returns an object with nested arrays, functions and undefined members
+function render(model) {
+    return {
+        outputSpeech: {
+            type: 'PlainText',
+            text: 'hello ' + model.attribute,
+            playBehavior: undefined
+        },
+        directives: [{
+            type: 'Dialog.Delegate'
+        }],
+        shouldEndSession: false,
+        toString: function() {
+            return 'ignored';
+        }
+    };
+}
@@ -0,0 +1,8 @@
+var greeting = "hello";
+
+function plainText(text) {
+    return {
+        type: 'PlainText',
+        text: text
+    };
+}
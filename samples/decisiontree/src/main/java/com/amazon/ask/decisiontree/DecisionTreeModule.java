@@ -24,6 +24,11 @@ import com.amazon.ask.mvc.MvcSdkModule;
 import com.amazon.ask.mvc.SkillModule;
 import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
 
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  *
  */
@@ -36,9 +41,27 @@ public class DecisionTreeModule implements SkillModule {
                 .withPrefix("/com/amazon/ask/decisiontree/views/")
                 .withResourceClass(getClass())
                 .withRenderFunction("render")
+                .addLibrary("/com/amazon/ask/decisiontree/views/lib/responses.js")
+                // primed by the build, see pom.xml
+                .withCodeCacheDirectory(codeCacheDirectory())
+                .withOptimisticTypes(false)
                 .build());
     }
 
+    /**
+     * The code cache is packaged at the root of the classes, which AWS Lambda extracts to a directory.
+     */
+    private Path codeCacheDirectory() {
+        try {
+            Path location = Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+            return Files.isDirectory(location)
+                ? location.resolve("nashorn-code-cache")
+                : location.resolveSibling("nashorn-code-cache");
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     @Override
     public void buildModel(Model.Builder modelBuilder) {
         modelBuilder
@@ -2,21 +2,13 @@
 
 function render(model) {
     var response = {
-        outputSpeech: {
-            type: 'PlainText',
-            text: model.speech
-        }
+        outputSpeech: plainText(model.speech)
     };
 
     if (model.reprompt) {
-        response.reprompt = {
-            outputSpeech: {
-                type: 'PlainText',
-                text: model.reprompt
-            }
-        };
+        response.reprompt = reprompt(model.reprompt);
         response.shouldEndSession = false;
     }
 
     return response;
-}
\ No newline at end of file
+}
@@ -11,12 +11,7 @@ function render(model) {
                     + "You should consider being a " + model.recommendation + ". "
                     + "Thank you for using Decision Tree. See you next time. Bye.";
 
-    var response = {
-        outputSpeech: {
-            type: 'PlainText',
-            text: summary
-        }
+    return {
+        outputSpeech: plainText(summary)
     };
-
-    return response;
 }
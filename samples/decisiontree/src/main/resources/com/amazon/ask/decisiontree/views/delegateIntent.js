@@ -3,10 +3,7 @@
 function render(model) {
     return {
         directives: [
-            {
-                type: "Dialog.Delegate",
-                updatedIntent: model.currentIntent
-            }
+            delegate(model.currentIntent)
         ]
     };
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+'use strict';
+
+// helpers shared by every view, see DecisionTreeModule
+
+function plainText(text) {
+    return {
+        type: 'PlainText',
+        text: text
+    };
+}
+
+function reprompt(text) {
+    return {
+        outputSpeech: plainText(text)
+    };
+}
+
+function delegate(updatedIntent) {
+    return {
+        type: 'Dialog.Delegate',
+        updatedIntent: updatedIntent
+    };
+}
+
+function elicitSlot(slotToElicit) {
+    return {
+        type: 'Dialog.ElicitSlot',
+        slotToElicit: slotToElicit
+    };
+}
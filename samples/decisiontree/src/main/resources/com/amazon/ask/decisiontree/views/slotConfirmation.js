@@ -2,22 +2,11 @@
 
 function render(model) {
     return {
-        outputSpeech: {
-            type: "PlainText",
-            text: model.prompt
-        },
+        outputSpeech: plainText(model.prompt),
         directives: [
-            {
-                type: "Dialog.ElicitSlot",
-                slotToElicit: model.slotToElicit
-            }
+            elicitSlot(model.slotToElicit)
         ],
-        reprompt: {
-            outputSpeech: {
-                type: "PlainText",
-                text: model.prompt
-            }
-        },
+        reprompt: reprompt(model.prompt),
         shouldEndSession: false
     };
 }
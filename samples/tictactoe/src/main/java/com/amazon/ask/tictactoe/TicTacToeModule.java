@@ -18,6 +18,8 @@ import com.amazon.ask.interaction.types.intent.NoIntent;
 import com.amazon.ask.interaction.types.intent.YesIntent;
 import com.amazon.ask.mvc.MvcSdkModule;
 import com.amazon.ask.mvc.SkillModule;
+import com.amazon.ask.mvc.argument.MessagesArgumentResolver;
+import com.amazon.ask.mvc.message.MessageCatalog;
 import com.amazon.ask.mvc.view.nashorn.NashornViewResolver;
 import com.amazon.ask.tictactoe.controllers.GlobalController;
 import com.amazon.ask.tictactoe.controllers.MenuController;
@@ -27,11 +29,18 @@ import com.amazon.ask.tictactoe.service.GameService;
 import com.amazon.ask.tictactoe.intents.NewGame;
 import com.amazon.ask.tictactoe.intents.PlayMove;
 
+import java.util.Locale;
+
 public class TicTacToeModule implements SkillModule {
 
     @Override
     public void buildMvc(MvcSdkModule.Builder mvcBuilder) {
         GameService gameService = new GameService();
+        MessageCatalog squareNames = MessageCatalog.builder()
+            .withBaseName("com.amazon.ask.tictactoe.responses.SquareNames")
+            .addLocale(Locale.US)
+            .withClassLoader(getClass().getClassLoader())
+            .build();
         mvcBuilder
             .addController(new GlobalController())
             .addController(new MenuController(gameService))
@@ -41,7 +50,8 @@ public class TicTacToeModule implements SkillModule {
                 .withPrefix("views/")
                 .withRenderFunction("render")
                 .build())
-            .addArgumentResolver(new GameStateArgumentResolver(gameService));
+            .addArgumentResolver(new GameStateArgumentResolver(gameService))
+            .addArgumentResolver(new MessagesArgumentResolver(squareNames));
     }
 
     @Override
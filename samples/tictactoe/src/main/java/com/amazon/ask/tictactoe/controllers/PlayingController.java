@@ -25,6 +25,7 @@ import com.amazon.ask.mvc.annotation.condition.WhenSessionAttribute;
 import com.amazon.ask.mvc.annotation.mapping.IntentMapping;
 import com.amazon.ask.mvc.annotation.mapping.RequestMapping;
 import com.amazon.ask.mvc.mapper.Priority;
+import com.amazon.ask.mvc.message.Messages;
 import com.amazon.ask.mvc.view.ModelAndView;
 import com.amazon.ask.tictactoe.service.GameService;
 import com.amazon.ask.tictactoe.model.GameState;
@@ -34,9 +35,7 @@ import com.amazon.ask.tictactoe.intents.NewGame;
 import com.amazon.ask.tictactoe.intents.PlayMove;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.ResourceBundle;
 
 import static com.amazon.ask.mvc.mapper.Priority.MINIMUM;
 import static com.amazon.ask.util.ValidationUtils.assertNotNull;
@@ -56,14 +55,13 @@ public class PlayingController {
 
     @IntentMapping(type = PlayMove.class)
     @WhenSessionAttribute(path = "state", hasValues = "playing")
-    public ModelAndView playMove(GameState game, PlayMove move, AttributesManager attributesManager, Locale locale) {
+    public ModelAndView playMove(GameState game, PlayMove move, AttributesManager attributesManager, Messages squareNames) {
         Player currentPlayer = game.getCurrentPlayer();
         Player nextPlayer = currentPlayer == Player.X ? Player.O : Player.X;
         MoveResult result = game.playMove(move, currentPlayer);
 
         Map<String, Object> model = new HashMap<>();
-        ResourceBundle messages = ResourceBundle.getBundle("com.amazon.ask.tictactoe.responses.SquareNames", locale);
-        model.put("square", messages.getString(move.getSquare().name()));
+        model.put("square", squareNames.getString(move.getSquare().name()));
         model.put("currentPlayer", game.getCurrentPlayer().name());
         model.put("nextPlayer", nextPlayer.name());
         model.put("result", result.name());